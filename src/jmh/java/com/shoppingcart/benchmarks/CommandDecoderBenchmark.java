@@ -0,0 +1,67 @@
+package com.shoppingcart.benchmarks;
+
+import com.shoppingcart.commands.AddItemCommand;
+import com.shoppingcart.commands.AddVasItemToItemCommand;
+import com.shoppingcart.commands.RemoveItemCommand;
+import com.shoppingcart.io.CommandDecoder;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-command decode cost of the org.json path (bytes to String to JSONObject, then field extraction as the
+ * handlers do it) against the schema-specialized {@link CommandDecoder}. Run with {@code -prof gc} to compare
+ * allocation per command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandDecoderBenchmark {
+
+    private static final String[] COMMANDS = {
+            "{\"command\":\"addItem\",\"payload\":{\"itemId\":1,\"categoryId\":1001,\"sellerId\":2001,\"price\":150.25,\"quantity\":3}}",
+            "{\"command\":\"addVasItemToItem\",\"payload\":{\"itemId\":1,\"vasItemId\":7,\"vasCategoryId\":3242,\"vasSellerId\":5003,\"price\":50.0,\"quantity\":1}}",
+            "{\"command\":\"removeItem\",\"payload\":{\"itemId\":1}}",
+            "{\"command\":\"displayCart\"}"
+    };
+
+    private byte[][] frames;
+    private CommandDecoder decoder;
+
+    @Setup
+    public void setUp() {
+        frames = new byte[COMMANDS.length][];
+        for (int i = 0; i < COMMANDS.length; i++) {
+            frames[i] = COMMANDS[i].getBytes(StandardCharsets.UTF_8);
+        }
+        decoder = new CommandDecoder();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void orgJson(Blackhole blackhole) {
+        for (byte[] frame : frames) {
+            JSONObject json = new JSONObject(new String(frame, StandardCharsets.UTF_8));
+            switch (json.getString("command")) {
+                case AddItemCommand.TYPE -> blackhole.consume(AddItemCommand.fromJSON(json));
+                case AddVasItemToItemCommand.TYPE -> blackhole.consume(AddVasItemToItemCommand.fromJSON(json));
+                case RemoveItemCommand.TYPE -> blackhole.consume(RemoveItemCommand.fromJSON(json));
+                default -> blackhole.consume(json);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void typedDecoder(Blackhole blackhole) {
+        for (byte[] frame : frames) {
+            blackhole.consume(decoder.decode(frame, 0, frame.length));
+        }
+    }
+}
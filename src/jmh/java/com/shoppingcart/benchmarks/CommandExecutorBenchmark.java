@@ -0,0 +1,115 @@
+package com.shoppingcart.benchmarks;
+
+import com.shoppingcart.cart.Cart;
+import com.shoppingcart.cart.CartRegistry;
+import com.shoppingcart.commands.*;
+import com.shoppingcart.execution.CommandExecutor;
+import com.shoppingcart.execution.ExecutionMode;
+import com.shoppingcart.execution.PartitionedCommandExecutor;
+import com.shoppingcart.execution.RingBufferCommandExecutor;
+import com.shoppingcart.execution.SequentialCommandExecutor;
+import com.shoppingcart.execution.VirtualThreadCommandExecutor;
+import com.shoppingcart.handlers.*;
+import com.shoppingcart.io.ResponseWriter;
+import com.shoppingcart.promotions.CategoryPromotion;
+import com.shoppingcart.promotions.PromotionService;
+import com.shoppingcart.promotions.SameSellerPromotion;
+import com.shoppingcart.promotions.TotalPricePromotion;
+import com.shoppingcart.responses.Response;
+import com.shoppingcart.responses.ResponseEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a batch of commands with skewed per-cart activity (a few hot carts, a long tail of carts that see a
+ * command or two) through each execution mode. Responses are encoded and discarded, so the writer costs the same
+ * in every mode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommandExecutorBenchmark {
+
+    private static final int COMMANDS = 200_000;
+
+    @Param({"PARTITIONED", "VIRTUAL", "RING", "SEQUENTIAL"})
+    public ExecutionMode mode;
+
+    @Param({"64", "200000"})
+    public int carts;
+
+    private List<Command> commands;
+    private CommandExecutor executor;
+    private ResponseWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUpCommands() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        Random random = new Random(42);
+        commands = new ArrayList<>(COMMANDS);
+        for (int i = 0; i < COMMANDS; i++) {
+            // Half of the commands go to 1% of the carts
+            int cartId = random.nextBoolean() ? random.nextInt(Math.max(1, carts / 100)) : random.nextInt(carts);
+            int itemId = 1 + random.nextInt(5);
+            switch (random.nextInt(5)) {
+                case 0, 1 -> commands.add(new AddItemCommand(cartId, itemId, 1001, 10 + random.nextInt(3),
+                        BigDecimal.valueOf(random.nextInt(50000), 2), 1));
+                case 2 -> commands.add(new AddVasItemToItemCommand(cartId, itemId, 100, 3242, 5003,
+                        BigDecimal.valueOf(random.nextInt(10000), 2), 1));
+                case 3 -> commands.add(new RemoveItemCommand(cartId, itemId));
+                default -> commands.add(DisplayCartCommand.forCart(cartId));
+            }
+        }
+        ResponseEncoder encoder = new ResponseEncoder();
+        writer = new ResponseWriter() {
+            @Override
+            public void write(Response response) {
+                encoder.reset();
+                response.encodeTo(encoder);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpExecutor() {
+        CommandProcessor processor = createProcessor();
+        executor = switch (mode) {
+            case PARTITIONED -> new PartitionedCommandExecutor(processor, Runtime.getRuntime().availableProcessors());
+            case VIRTUAL -> new VirtualThreadCommandExecutor(processor);
+            case RING -> new RingBufferCommandExecutor(processor, Runtime.getRuntime().availableProcessors());
+            case SEQUENTIAL -> new SequentialCommandExecutor(processor);
+        };
+    }
+
+    @Benchmark
+    public long replay() throws IOException {
+        return executor.execute(commands.iterator(), writer);
+    }
+
+    private static CommandProcessor createProcessor() {
+        PromotionService promotionService = new PromotionService(List.of(
+                new SameSellerPromotion(), new CategoryPromotion(), new TotalPricePromotion()));
+        CommandProcessor processor = new CommandProcessor(new CartRegistry(() -> new Cart(promotionService)));
+        processor.registerHandler(AddItemCommand.TYPE, new AddItemCommandHandler());
+        processor.registerHandler(AddVasItemToItemCommand.TYPE, new AddVasItemToItemCommandHandler());
+        processor.registerHandler(RemoveItemCommand.TYPE, new RemoveItemCommandHandler());
+        processor.registerHandler(ResetCartCommand.TYPE, new ResetCartCommandHandler());
+        processor.registerHandler(DisplayCartCommand.TYPE, new DisplayCartCommandHandler());
+        return processor;
+    }
+}
@@ -0,0 +1,108 @@
+package com.shoppingcart.benchmarks;
+
+import com.shoppingcart.money.Money;
+import com.shoppingcart.money.Rate;
+import com.shoppingcart.promotions.TotalPriceTiers;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares pricing a cart in {@link BigDecimal} with pricing it in cents: the cart total, the non-VAS and category
+ * subtotals, the three built-in discounts and the discounted amount. Both variants give the same amount.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoneyKernelBenchmark {
+
+    private static final BigDecimal SAME_SELLER_RATE = new BigDecimal("0.10");
+    private static final BigDecimal CATEGORY_RATE = new BigDecimal("0.05");
+    private static final int DISCOUNT_CATEGORY = 3003;
+
+    @Param({"10", "30"})
+    public int lineCount;
+
+    private final TotalPriceTiers tiers = TotalPriceTiers.of(Map.of(
+            new BigDecimal("500"), new BigDecimal("250"),
+            new BigDecimal("5000"), new BigDecimal("500"),
+            new BigDecimal("10000"), new BigDecimal("1000"),
+            new BigDecimal("50000"), new BigDecimal("2000")));
+    private final Rate sameSellerRate = Rate.of(SAME_SELLER_RATE);
+    private final Rate categoryRate = Rate.of(CATEGORY_RATE);
+
+    private BigDecimal[] prices;
+    private long[] priceCents;
+    private int[] quantities;
+    private int[] categoryIds;
+    private boolean[] vas;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        prices = new BigDecimal[lineCount];
+        priceCents = new long[lineCount];
+        quantities = new int[lineCount];
+        categoryIds = new int[lineCount];
+        vas = new boolean[lineCount];
+        for (int i = 0; i < lineCount; i++) {
+            priceCents[i] = 100 + random.nextInt(5_000_00);
+            prices[i] = Money.toAmount(priceCents[i]);
+            quantities[i] = 1 + random.nextInt(10);
+            categoryIds[i] = random.nextBoolean() ? DISCOUNT_CATEGORY : 1001;
+            vas[i] = random.nextInt(4) == 0;
+        }
+        if (Money.toCents(bigDecimal()) != cents()) {
+            throw new IllegalStateException("Pricing variants disagree");
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal totalPrice = BigDecimal.ZERO;
+        BigDecimal nonVasTotalPrice = BigDecimal.ZERO;
+        BigDecimal categorySubtotal = BigDecimal.ZERO;
+        for (int i = 0; i < lineCount; i++) {
+            BigDecimal lineTotal = prices[i].multiply(BigDecimal.valueOf(quantities[i]));
+            totalPrice = totalPrice.add(lineTotal);
+            if (!vas[i]) {
+                nonVasTotalPrice = nonVasTotalPrice.add(lineTotal);
+                if (categoryIds[i] == DISCOUNT_CATEGORY) {
+                    categorySubtotal = categorySubtotal.add(lineTotal);
+                }
+            }
+        }
+        BigDecimal discount = nonVasTotalPrice.multiply(SAME_SELLER_RATE).setScale(2, RoundingMode.HALF_UP);
+        discount = discount.max(categorySubtotal.multiply(CATEGORY_RATE).setScale(2, RoundingMode.HALF_UP));
+        discount = discount.max(tiers.discountFor(totalPrice));
+        return totalPrice.subtract(discount);
+    }
+
+    @Benchmark
+    public long cents() {
+        long totalPrice = 0;
+        long nonVasTotalPrice = 0;
+        long categorySubtotal = 0;
+        for (int i = 0; i < lineCount; i++) {
+            long lineTotal = Money.times(priceCents[i], quantities[i]);
+            totalPrice = Money.add(totalPrice, lineTotal);
+            if (!vas[i]) {
+                nonVasTotalPrice = Money.add(nonVasTotalPrice, lineTotal);
+                if (categoryIds[i] == DISCOUNT_CATEGORY) {
+                    categorySubtotal = Money.add(categorySubtotal, lineTotal);
+                }
+            }
+        }
+        long discount = sameSellerRate.applyHalfUp(nonVasTotalPrice);
+        discount = Math.max(discount, categoryRate.applyHalfUp(categorySubtotal));
+        discount = Math.max(discount, Money.toCents(tiers.discountFor(totalPrice)));
+        return Money.subtract(totalPrice, discount);
+    }
+}
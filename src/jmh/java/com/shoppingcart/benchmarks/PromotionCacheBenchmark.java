@@ -0,0 +1,117 @@
+package com.shoppingcart.benchmarks;
+
+import com.shoppingcart.cart.Cart;
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.models.DefaultItem;
+import com.shoppingcart.models.IItem;
+import com.shoppingcart.promotions.CachingPromotionService;
+import com.shoppingcart.promotions.CategoryPromotion;
+import com.shoppingcart.promotions.IPromotion;
+import com.shoppingcart.promotions.IPromotionService;
+import com.shoppingcart.promotions.PromotionResult;
+import com.shoppingcart.promotions.PromotionService;
+import com.shoppingcart.promotions.SameSellerPromotion;
+import com.shoppingcart.promotions.TotalPricePromotion;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds when sharing promotion results between carts pays for building the cache key. With shared contents
+ * every cart holds the same full bundle, so each lookup after the first is a hit; with distinct contents each
+ * of more carts than the cache holds has its own prices, so every lookup misses and only adds the key's cost.
+ * Extra catalog entries walk the cart's items the way third-party promotions typically do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PromotionCacheBenchmark {
+
+    private static final BigDecimal RATE = new BigDecimal("0.05");
+
+    @Param({"0", "4", "16", "64"})
+    public int extraPromotions;
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    @Param({"true", "false"})
+    public boolean sharedContents;
+
+    private IPromotionService promotionService;
+    private ICart[] carts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        List<IPromotion> catalog = new ArrayList<>(List.of(new SameSellerPromotion(), new CategoryPromotion(), new TotalPricePromotion()));
+        for (int i = 0; i < extraPromotions; i++) {
+            catalog.add(new ItemScanPromotion(100 + i, 3000 + i % 10));
+        }
+        PromotionService uncached = new PromotionService(catalog, 0);
+        promotionService = cached ? new CachingPromotionService(uncached, 1024) : uncached;
+        carts = new ICart[sharedContents ? 1 : 4096];
+        for (int c = 0; c < carts.length; c++) {
+            carts[c] = new Cart(new PromotionService(List.of(), 0));
+            for (int i = 0; i < 10; i++) {
+                carts[c].addItem(new DefaultItem(i + 1, 3000 + i, 2001, BigDecimal.valueOf(1000 + 137L * i + c, 2), 3));
+            }
+        }
+    }
+
+    @Benchmark
+    public PromotionResult calculateBestPromotion() {
+        ICart cart = carts[next];
+        next = next + 1 == carts.length ? 0 : next + 1;
+        return promotionService.calculateBestPromotion(cart);
+    }
+
+    private record ItemScanPromotion(int id, int categoryId) implements IPromotion {
+
+        @Override
+        public boolean isApplicable(ICart cart) {
+            return cart.getItems().values().stream().anyMatch(item -> item.getCategoryId() == categoryId);
+        }
+
+        @Override
+        public BigDecimal calculatePromotion(ICart cart) {
+            BigDecimal discount = BigDecimal.ZERO;
+            for (IItem item : cart.getItems().values()) {
+                if (item.getCategoryId() == categoryId) {
+                    discount = discount.add(item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())).multiply(RATE));
+                }
+            }
+            return discount.setScale(2, RoundingMode.HALF_UP);
+        }
+
+        @Override
+        public BigDecimal calculatePromotionWithNewItem(ICart cart, IItem newItem) {
+            return calculatePromotion(cart);
+        }
+
+        @Override
+        public BigDecimal getUpperBound(ICart cart) {
+            return cart.getNonVasTotalPrice().multiply(RATE).setScale(2, RoundingMode.UP);
+        }
+
+        @Override
+        public BigDecimal getUpperBoundWithNewItem(ICart cart, IItem newItem) {
+            return cart.getNonVasTotalPrice().add(newItem.getPrice()).multiply(RATE).setScale(2, RoundingMode.UP);
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+    }
+}
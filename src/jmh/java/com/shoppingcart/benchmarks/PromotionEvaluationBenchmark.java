@@ -0,0 +1,100 @@
+package com.shoppingcart.benchmarks;
+
+import com.shoppingcart.cart.Cart;
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.models.DefaultItem;
+import com.shoppingcart.models.IItem;
+import com.shoppingcart.promotions.IPromotion;
+import com.shoppingcart.promotions.PromotionResult;
+import com.shoppingcart.promotions.PromotionService;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the catalog size from which fork-join evaluation beats the sequential scan. Catalog entries walk the
+ * cart's items the way third-party promotions typically do, and share one upper bound so none are pruned.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PromotionEvaluationBenchmark {
+
+    private static final BigDecimal RATE = new BigDecimal("0.05");
+
+    @Param({"8", "64", "256", "1024", "4096"})
+    public int catalogSize;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private PromotionService promotionService;
+    private ICart cart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        List<IPromotion> catalog = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            catalog.add(new ItemScanPromotion(i, 3000 + i % 10));
+        }
+        promotionService = new PromotionService(catalog, parallel ? 1 : 0);
+        cart = new Cart(new PromotionService(List.of(), 0));
+        for (int i = 0; i < 10; i++) {
+            cart.addItem(new DefaultItem(i + 1, 3000 + i, 2001, BigDecimal.valueOf(1000 + 137L * i, 2), 3));
+        }
+    }
+
+    @Benchmark
+    public PromotionResult calculateBestPromotion() {
+        return promotionService.calculateBestPromotion(cart);
+    }
+
+    private record ItemScanPromotion(int id, int categoryId) implements IPromotion {
+
+        @Override
+        public boolean isApplicable(ICart cart) {
+            return cart.getItems().values().stream().anyMatch(item -> item.getCategoryId() == categoryId);
+        }
+
+        @Override
+        public BigDecimal calculatePromotion(ICart cart) {
+            BigDecimal discount = BigDecimal.ZERO;
+            for (IItem item : cart.getItems().values()) {
+                if (item.getCategoryId() == categoryId) {
+                    discount = discount.add(item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())).multiply(RATE));
+                }
+            }
+            return discount.setScale(2, RoundingMode.HALF_UP);
+        }
+
+        @Override
+        public BigDecimal calculatePromotionWithNewItem(ICart cart, IItem newItem) {
+            return calculatePromotion(cart);
+        }
+
+        @Override
+        public BigDecimal getUpperBound(ICart cart) {
+            return cart.getNonVasTotalPrice().multiply(RATE).setScale(2, RoundingMode.UP);
+        }
+
+        @Override
+        public BigDecimal getUpperBoundWithNewItem(ICart cart, IItem newItem) {
+            return cart.getNonVasTotalPrice().add(newItem.getPrice()).multiply(RATE).setScale(2, RoundingMode.UP);
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.shoppingcart.benchmarks;
+
+import com.shoppingcart.cart.Cart;
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.models.DefaultItem;
+import com.shoppingcart.models.IItem;
+import com.shoppingcart.promotions.IPromotion;
+import com.shoppingcart.promotions.PromotionResult;
+import com.shoppingcart.promotions.PromotionService;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the search for the best set of combinable promotions on a full cart, with each promotion taking part
+ * in one or two of a fixed number of combinability groups.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PromotionStackingBenchmark {
+
+    @Param({"8", "32", "128"})
+    public int catalogSize;
+
+    @Param({"4", "12"})
+    public int groupCount;
+
+    private PromotionService promotionService;
+    private ICart cart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        Random random = new Random(42);
+        List<IPromotion> catalog = new ArrayList<>(catalogSize);
+        for (int i = 0; i < catalogSize; i++) {
+            long groups = (1L << random.nextInt(groupCount)) | (random.nextBoolean() ? 1L << random.nextInt(groupCount) : 0L);
+            catalog.add(new CategoryRatePromotion(i, 3000 + i % 10, BigDecimal.valueOf(1 + random.nextInt(15), 2), groups));
+        }
+        promotionService = new PromotionService(catalog, 0);
+        cart = new Cart(new PromotionService(List.of(), 0));
+        for (int i = 0; i < 10; i++) {
+            cart.addItem(new DefaultItem(i + 1, 3000 + i, 2001, BigDecimal.valueOf(1000 + 137L * i, 2), 3));
+        }
+    }
+
+    @Benchmark
+    public PromotionResult calculateBestPromotion() {
+        return promotionService.calculateBestPromotion(cart);
+    }
+
+    private record CategoryRatePromotion(int id, int categoryId, BigDecimal rate, long groups) implements IPromotion {
+
+        @Override
+        public boolean isApplicable(ICart cart) {
+            return cart.getCategoryItemCount(categoryId) > 0;
+        }
+
+        @Override
+        public BigDecimal calculatePromotion(ICart cart) {
+            return cart.getCategorySubtotal(categoryId).multiply(rate).setScale(2, RoundingMode.HALF_UP);
+        }
+
+        @Override
+        public BigDecimal calculatePromotionWithNewItem(ICart cart, IItem newItem) {
+            return calculatePromotion(cart);
+        }
+
+        @Override
+        public BigDecimal getUpperBound(ICart cart) {
+            return calculatePromotion(cart);
+        }
+
+        @Override
+        public BigDecimal getUpperBoundWithNewItem(ICart cart, IItem newItem) {
+            return calculatePromotion(cart);
+        }
+
+        @Override
+        public long getCombinabilityGroups() {
+            return groups;
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.shoppingcart.benchmarks;
+
+import com.shoppingcart.cart.Cart;
+import com.shoppingcart.cart.CartRegistry;
+import com.shoppingcart.commands.*;
+import com.shoppingcart.execution.RingBufferCommandExecutor;
+import com.shoppingcart.handlers.*;
+import com.shoppingcart.io.ResponseWriter;
+import com.shoppingcart.promotions.CategoryPromotion;
+import com.shoppingcart.promotions.PromotionService;
+import com.shoppingcart.promotions.SameSellerPromotion;
+import com.shoppingcart.promotions.TotalPricePromotion;
+import com.shoppingcart.responses.Response;
+import com.shoppingcart.responses.ResponseEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ring-buffer pipeline against the plain {@code stream().map(processor::processCommand)} loop, on the same
+ * multi-cart batch and the same encoding writer. Run with {@code -prof gc} to compare allocation per batch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RingBufferPipelineBenchmark {
+
+    private static final int COMMANDS = 100_000;
+    private static final int CARTS = 1_000;
+
+    @Param({"1", "4"})
+    public int shards;
+
+    private List<Command> commands;
+    private CommandProcessor processor;
+    private ResponseWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUpCommands() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME))
+                .setLevel(ch.qos.logback.classic.Level.WARN);
+        Random random = new Random(42);
+        commands = new ArrayList<>(COMMANDS);
+        for (int i = 0; i < COMMANDS; i++) {
+            int cartId = random.nextInt(CARTS);
+            int itemId = 1 + random.nextInt(5);
+            switch (random.nextInt(4)) {
+                case 0, 1 -> commands.add(new AddItemCommand(cartId, itemId, 1001, 10 + random.nextInt(3),
+                        BigDecimal.valueOf(random.nextInt(50000), 2), 1));
+                case 2 -> commands.add(new RemoveItemCommand(cartId, itemId));
+                default -> commands.add(DisplayCartCommand.forCart(cartId));
+            }
+        }
+        ResponseEncoder encoder = new ResponseEncoder();
+        writer = new ResponseWriter() {
+            @Override
+            public void write(Response response) {
+                encoder.reset();
+                response.encodeTo(encoder);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpProcessor() {
+        PromotionService promotionService = new PromotionService(List.of(
+                new SameSellerPromotion(), new CategoryPromotion(), new TotalPricePromotion()));
+        processor = new CommandProcessor(new CartRegistry(() -> new Cart(promotionService)));
+        processor.registerHandler(AddItemCommand.TYPE, new AddItemCommandHandler());
+        processor.registerHandler(RemoveItemCommand.TYPE, new RemoveItemCommandHandler());
+        processor.registerHandler(DisplayCartCommand.TYPE, new DisplayCartCommandHandler());
+    }
+
+    @Benchmark
+    public void streamMap() {
+        commands.stream().map(processor::processCommand).forEach(response -> {
+            try {
+                writer.write(response);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Benchmark
+    public long ringBuffer() throws IOException {
+        return new RingBufferCommandExecutor(processor, shards).execute(commands.iterator(), writer);
+    }
+}
@@ -1,27 +1,41 @@
 package com.shoppingcart;
 
 import com.shoppingcart.cart.Cart;
+import com.shoppingcart.cart.CartRegistry;
+import com.shoppingcart.commands.*;
+import com.shoppingcart.config.CommandLineOptions;
+import com.shoppingcart.config.Config;
+import com.shoppingcart.execution.CommandExecutor;
+import com.shoppingcart.execution.PartitionedCommandExecutor;
+import com.shoppingcart.execution.RingBufferCommandExecutor;
+import com.shoppingcart.execution.SequentialCommandExecutor;
+import com.shoppingcart.execution.VirtualThreadCommandExecutor;
 import com.shoppingcart.handlers.*;
+import com.shoppingcart.io.FileFormat;
 import com.shoppingcart.io.FileOperations;
 import com.shoppingcart.io.JSONFileOperations;
+import com.shoppingcart.io.MappedJSONFileOperations;
+import com.shoppingcart.io.NDJSONFileOperations;
+import com.shoppingcart.io.ResponseWriter;
+import com.shoppingcart.promotions.CachingPromotionService;
 import com.shoppingcart.promotions.CategoryPromotion;
+import com.shoppingcart.promotions.IPromotionService;
 import com.shoppingcart.promotions.PromotionService;
 import com.shoppingcart.promotions.SameSellerPromotion;
 import com.shoppingcart.promotions.TotalPricePromotion;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.NoSuchFileException;
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Main {
 
     private static final Logger logger = LoggerFactory.getLogger(Main.class);
-    private static FileOperations fileOperations = new JSONFileOperations();
+    private static FileOperations fileOperations;
 
     public static void main(String[] args) {
         processCommands(args);
@@ -32,30 +46,29 @@ public class Main {
     }
 
     static void processCommands(String[] args) {
-        if (args.length < 2) {
-            logger.error("Usage: java com.shoppingcart.Main <input_file> <output_file>");
+        CommandLineOptions options;
+        try {
+            options = CommandLineOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            logger.error("{}. {}", e.getMessage(), CommandLineOptions.USAGE);
             return;
         }
 
-        String inputFilePath = args[0];
-        String outputFilePath = args[1];
+        String inputFilePath = options.inputFilePath();
+        String outputFilePath = options.outputFilePath();
 
         try {
-            CommandProcessor processor = createCommandProcessor();
-
-            // Read commands from input file
-            List<JSONObject> commands = fileOperations.readCommandsFromFile(inputFilePath);
-            logger.info("Commands read from input file: {}", commands);
-
-            // Process commands and collect responses
-            List<JSONObject> responses = commands.stream()
-                    .map(processor::processCommand)
-                    .collect(Collectors.toList());
-            logger.info("Responses generated: {}", responses);
-
-            // Write responses to output file
-            fileOperations.writeResponsesToFile(responses, outputFilePath);
-            logger.info("Responses written to output file: {}", outputFilePath);
+            CommandExecutor executor = createCommandExecutor(createCommandProcessor(), options);
+            FileOperations input = resolveInputFileOperations(options);
+            FileOperations output = resolveOutputFileOperations(options);
+            long processed;
+
+            // Stream commands in and responses out so neither side is held in memory
+            try (Stream<Command> commands = input.streamTypedCommandsFromFile(inputFilePath);
+                 ResponseWriter responseWriter = output.openResponseWriter(outputFilePath, options.prettyPrint())) {
+                processed = executor.execute(commands.iterator(), responseWriter);
+            }
+            logger.info("Responses written to output file: {} ({} commands)", outputFilePath, processed);
 
             logger.info("Commands processed successfully. Check the output file for results.");
         } catch (NoSuchFileException e) {
@@ -64,31 +77,82 @@ public class Main {
         } catch (IOException e) {
             logger.error("IO Exception occurred: ", e);
             throw new RuntimeException(e);
+        } catch (UncheckedIOException e) {
+            logger.error("IO Exception occurred while streaming commands: ", e.getCause());
+            throw new RuntimeException(e.getCause());
         }
     }
 
-    private static CommandProcessor createCommandProcessor() {
+    private static FileOperations resolveInputFileOperations(CommandLineOptions options) {
+        if (fileOperations != null) {
+            return fileOperations;
+        }
+        if (options.inputFormat() == FileFormat.NDJSON) {
+            if (options.memoryMapped()) {
+                logger.warn("--mmap only applies to JSON array input; reading {} line by line.", options.inputFilePath());
+            }
+            return new NDJSONFileOperations();
+        }
+        return options.memoryMapped() ? new MappedJSONFileOperations() : new JSONFileOperations();
+    }
+
+    private static FileOperations resolveOutputFileOperations(CommandLineOptions options) {
+        if (fileOperations != null) {
+            return fileOperations;
+        }
+        return options.outputFormat() == FileFormat.NDJSON ? new NDJSONFileOperations() : new JSONFileOperations();
+    }
+
+    private static CommandExecutor createCommandExecutor(CommandProcessor processor, CommandLineOptions options) {
+        switch (options.executionMode()) {
+            case PARTITIONED:
+                logger.info("Running commands on {} cart partitions.", options.parallelism());
+                return new PartitionedCommandExecutor(processor, options.parallelism());
+            case RING:
+                logger.info("Running commands through a ring buffer with {} shards.", options.parallelism());
+                return new RingBufferCommandExecutor(processor, options.parallelism());
+            case VIRTUAL:
+                logger.info("Running commands on per-cart virtual threads.");
+                return new VirtualThreadCommandExecutor(processor);
+            default:
+                return new SequentialCommandExecutor(processor);
+        }
+    }
+
+    private static IPromotionService createPromotionService() {
         PromotionService promotionService = new PromotionService(Arrays.asList(
                 new SameSellerPromotion(),
                 new CategoryPromotion(),
                 new TotalPricePromotion()
         ));
-        Cart cart = new Cart(promotionService);
+        if (Config.PROMOTION_CACHE_SIZE <= 0) {
+            return promotionService;
+        }
+        return new CachingPromotionService(promotionService, Config.PROMOTION_CACHE_SIZE);
+    }
+
+    private static CommandProcessor createCommandProcessor() {
+        IPromotionService promotionService = createPromotionService();
+        CartRegistry carts = new CartRegistry(() -> new Cart(promotionService));
 
         // Create command handlers
-        AddItemCommandHandler addItemHandler = new AddItemCommandHandler(cart);
-        RemoveItemCommandHandler removeItemHandler = new RemoveItemCommandHandler(cart);
-        ResetCartCommandHandler resetCartHandler = new ResetCartCommandHandler(cart);
-        DisplayCartCommandHandler displayCartHandler = new DisplayCartCommandHandler(cart);
-        AddVasItemToItemCommandHandler addVasItemHandler = new AddVasItemToItemCommandHandler(cart);
+        AddItemCommandHandler addItemHandler = new AddItemCommandHandler();
+        RemoveItemCommandHandler removeItemHandler = new RemoveItemCommandHandler();
+        ResetCartCommandHandler resetCartHandler = new ResetCartCommandHandler();
+        DisplayCartCommandHandler displayCartHandler = new DisplayCartCommandHandler();
+        AddVasItemToItemCommandHandler addVasItemHandler = new AddVasItemToItemCommandHandler();
+        AddItemsCommandHandler addItemsHandler = new AddItemsCommandHandler();
+        SetQuantityCommandHandler setQuantityHandler = new SetQuantityCommandHandler();
 
         // Create and configure command processor
-        CommandProcessor processor = new CommandProcessor();
-        processor.registerHandler("addItem", addItemHandler);
-        processor.registerHandler("removeItem", removeItemHandler);
-        processor.registerHandler("resetCart", resetCartHandler);
-        processor.registerHandler("displayCart", displayCartHandler);
-        processor.registerHandler("addVasItemToItem", addVasItemHandler);
+        CommandProcessor processor = new CommandProcessor(carts);
+        processor.registerHandler(AddItemCommand.TYPE, addItemHandler);
+        processor.registerHandler(RemoveItemCommand.TYPE, removeItemHandler);
+        processor.registerHandler(ResetCartCommand.TYPE, resetCartHandler);
+        processor.registerHandler(DisplayCartCommand.TYPE, displayCartHandler);
+        processor.registerHandler(AddVasItemToItemCommand.TYPE, addVasItemHandler);
+        processor.registerHandler(AddItemsCommand.TYPE, addItemsHandler);
+        processor.registerHandler(SetQuantityCommand.TYPE, setQuantityHandler);
 
         return processor;
     }
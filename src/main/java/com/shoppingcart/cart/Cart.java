@@ -8,22 +8,55 @@ import com.shoppingcart.models.DefaultItem;
 import com.shoppingcart.models.DigitalItem;
 import com.shoppingcart.models.IItem;
 import com.shoppingcart.models.VasItem;
+import com.shoppingcart.money.Money;
 import com.shoppingcart.promotions.PromotionResult;
-import com.shoppingcart.promotions.PromotionService;
+import com.shoppingcart.promotions.IPromotionService;
+import com.shoppingcart.responses.ResponseEncoder;
 import com.shoppingcart.validation.CartItemValidator;
+import com.shoppingcart.validation.ItemValidationOutcome;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 public class Cart implements ICart {
 
+    private static final byte[] DISPLAY_PREFIX = ascii("{\"result\":true,\"message\":{\"appliedPromotionId\":");
+    private static final byte[] TOTAL_AMOUNT_KEY = ascii(",\"totalAmount\":");
+    private static final byte[] TOTAL_DISCOUNT_KEY = ascii(",\"totalDiscount\":");
+    private static final byte[] ITEMS_KEY = ascii(",\"items\":[");
+    private static final byte[] DISPLAY_SUFFIX = ascii("]}}");
+    private static final byte[] ITEM_ID_KEY = ascii("{\"itemId\":");
+    private static final byte[] SELLER_ID_KEY = ascii(",\"sellerId\":");
+    private static final byte[] QUANTITY_KEY = ascii(",\"quantity\":");
+    private static final byte[] PRICE_KEY = ascii(",\"price\":");
+    private static final byte[] VAS_ITEMS_KEY = ascii(",\"vasItems\":[");
+    private static final byte[] CATEGORY_ID_KEY = ascii("],\"categoryId\":");
+    private static final byte[] VAS_QUANTITY_KEY = ascii("{\"quantity\":");
+    private static final byte[] VAS_ITEM_ID_KEY = ascii(",\"vasItemId\":");
+    private static final byte[] VAS_CATEGORY_ID_KEY = ascii(",\"vasCategoryId\":");
+    private static final byte[] VAS_SELLER_ID_KEY = ascii(",\"vasSellerId\":");
+
+    private static final int MAX_CACHED_WHAT_IF_RESULTS = 16;
+
     private final Map<Integer, IItem> items;
-    private final PromotionService promotionService;
-    private BigDecimal totalAmount;
-    private BigDecimal totalPrice;
-    private BigDecimal nonVasTotalPrice;
+    private final Map<Integer, Integer> sellerItemCounts;
+    private final Map<Integer, CategoryTotal> categoryTotals;
+    private final Set<Integer> sellerIds;
+    private final Set<Integer> categoryIds;
+    private final IPromotionService promotionService;
+    private final boolean lazyPromotions;
+    private boolean promotionsDirty;
+    private long version;
+    private PromotionResult promotionResult;
+    private long promotionResultVersion;
+    private Map<WhatIfKey, PromotionResult> whatIfResults;
+    private long whatIfVersion;
+    private long totalAmountCents;
+    private long totalPriceCents;
+    private long nonVasTotalPriceCents;
     private BigDecimal totalDiscount;
     private int appliedPromotionId;
     private int uniqueItemCount;
@@ -31,13 +64,23 @@ public class Cart implements ICart {
     private int totalItemCount;
     private CartItemValidator cartValidator;
 
-    public Cart(PromotionService promotionService) {
+    public Cart(IPromotionService promotionService) {
+        this(promotionService, Config.LAZY_PROMOTION_EVALUATION);
+    }
+
+    /**
+     * @param lazyPromotions When true, mutations only mark the promotions stale and they are
+     *                       recomputed on the next read of the totals or the applied promotion.
+     */
+    public Cart(IPromotionService promotionService, boolean lazyPromotions) {
+        this.lazyPromotions = lazyPromotions;
         this.items = new LinkedHashMap<>();
+        this.sellerItemCounts = new HashMap<>();
+        this.categoryTotals = new HashMap<>();
+        this.sellerIds = Collections.unmodifiableSet(sellerItemCounts.keySet());
+        this.categoryIds = Collections.unmodifiableSet(categoryTotals.keySet());
         this.promotionService = promotionService;
         this.totalDiscount = BigDecimal.ZERO;
-        this.totalPrice = BigDecimal.ZERO;
-        this.nonVasTotalPrice = BigDecimal.ZERO;
-        this.totalAmount = BigDecimal.ZERO;
         this.uniqueItemCount = 0;
         this.totalItemCount = 0;
         this.cartValidator = new CartItemValidator();
@@ -46,7 +89,7 @@ public class Cart implements ICart {
 
     @Override
     public void addItem(IItem item) {
-        cartValidator.validateItem(item, this);
+        ItemValidationOutcome outcome = cartValidator.validateItem(item, this);
 
         if (items.containsKey(item.getId())) {
             updateExistingItem(item);
@@ -55,7 +98,61 @@ public class Cart implements ICart {
         }
         updateCounts(true, item);
         updateTotalPrice(true, item);
-        applyPromotions();
+        cartChanged(outcome == null ? null : outcome.promotionResult());
+    }
+
+    /**
+     * Validates the batch in one pass, applies it, and prices the result once. When that price breaks the amount
+     * limit the batch is undone, leaving the cart and its promotion result as they were, and every item carries
+     * the amount rejection, since no single item is at fault.
+     */
+    @Override
+    public Map<Integer, ItemValidationException> addItems(List<? extends IItem> batch) {
+        Map<Integer, ItemValidationException> failures = cartValidator.validateItems(batch, this);
+        if (!failures.isEmpty() || batch.isEmpty()) {
+            return failures;
+        }
+
+        long previousTotalPriceCents = totalPriceCents;
+        long previousNonVasTotalPriceCents = nonVasTotalPriceCents;
+        int[] previousQuantities = new int[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            IItem item = batch.get(i);
+            IItem existingItem = items.get(item.getId());
+            if (existingItem == null) {
+                previousQuantities[i] = -1;
+                addNewItem(item);
+            } else {
+                previousQuantities[i] = existingItem.getQuantity();
+                updateExistingItem(item);
+            }
+            updateCounts(true, item);
+            updateTotalPrice(true, item);
+        }
+
+        if (totalPriceCents <= Config.MAX_TOTAL_AMOUNT_CENTS) {
+            cartChanged();
+            return failures;
+        }
+        PromotionResult result = promotionService.calculateBestPromotion(this);
+        long newTotalAmountCents = Money.subtract(totalPriceCents, Money.toCents(result.discount()));
+        if (newTotalAmountCents <= Config.MAX_TOTAL_AMOUNT_CENTS) {
+            cartChanged(result);
+            return failures;
+        }
+        long batchTotalPriceCents = Money.subtract(totalPriceCents, previousTotalPriceCents);
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            undoAdd(batch.get(i), previousQuantities[i]);
+        }
+        totalPriceCents = previousTotalPriceCents;
+        nonVasTotalPriceCents = previousNonVasTotalPriceCents;
+        ItemValidationException rejection = new ItemValidationException(ErrorMessages.TOTAL_AMOUNT_EXCEEDED,
+                previousTotalPriceCents, batchTotalPriceCents, newTotalAmountCents, Config.MAX_TOTAL_AMOUNT_CENTS);
+        Map<Integer, ItemValidationException> rejections = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            rejections.put(i, rejection);
+        }
+        return rejections;
     }
 
     @Override
@@ -64,36 +161,88 @@ public class Cart implements ICart {
         DefaultItem parentItem = (DefaultItem) items.get(item.getItemId());
         parentItem.addVasItem(item);
         updateTotalPrice(true, item);
-        applyPromotions();
+        cartChanged();
+    }
+
+    /**
+     * Applies the quantity delta to the counters, totals and aggregates instead of removing and re-adding the
+     * item. Promotions are evaluated once; when the change pushes the discounted total past the amount limit it
+     * is reverted and rejected.
+     */
+    @Override
+    public void setItemQuantity(int itemId, int quantity) {
+        IItem item = items.get(itemId);
+        if (item == null) {
+            throw new ItemNotFoundException(ErrorMessages.ITEM_NOT_FOUND, itemId);
+        }
+        cartValidator.validateQuantityChange(item, quantity, this);
+        int previousQuantity = item.getQuantity();
+        int delta = quantity - previousQuantity;
+        if (delta == 0) {
+            return;
+        }
+        item.setQuantity(quantity);
+
+        long previousTotalPriceCents = totalPriceCents;
+        long previousNonVasTotalPriceCents = nonVasTotalPriceCents;
+        long priceDeltaCents = Money.times(item.getPriceCents(), delta);
+        totalPriceCents = Money.add(totalPriceCents, priceDeltaCents);
+        nonVasTotalPriceCents = Money.add(nonVasTotalPriceCents, priceDeltaCents);
+        updateQuantityCounts(item, delta);
+        updateAggregates(item, delta, 0);
+
+        if (totalPriceCents <= Config.MAX_TOTAL_AMOUNT_CENTS) {
+            cartChanged();
+            return;
+        }
+        PromotionResult result = promotionService.calculateBestPromotion(this);
+        long newTotalAmountCents = Money.subtract(totalPriceCents, Money.toCents(result.discount()));
+        if (newTotalAmountCents <= Config.MAX_TOTAL_AMOUNT_CENTS) {
+            cartChanged(result);
+            return;
+        }
+        item.setQuantity(previousQuantity);
+        totalPriceCents = previousTotalPriceCents;
+        nonVasTotalPriceCents = previousNonVasTotalPriceCents;
+        updateQuantityCounts(item, -delta);
+        updateAggregates(item, -delta, 0);
+        throw new ItemValidationException(ErrorMessages.TOTAL_AMOUNT_EXCEEDED, previousTotalPriceCents,
+                priceDeltaCents, newTotalAmountCents, Config.MAX_TOTAL_AMOUNT_CENTS);
     }
 
     @Override
     public void removeItem(int itemId) {
         if (!items.containsKey(itemId)) {
-            throw new ItemNotFoundException(ErrorMessages.ITEM_NOT_FOUND.format(itemId));
+            throw new ItemNotFoundException(ErrorMessages.ITEM_NOT_FOUND, itemId);
         }
         IItem item = items.get(itemId);
         updateTotalPrice(false, item);
         updateCounts(false, item);
+        updateAggregates(item, -item.getQuantity(), -1);
         items.remove(itemId);
-        applyPromotions();
+        cartChanged();
     }
 
     @Override
     public void reset() {
         items.clear();
+        sellerItemCounts.clear();
+        categoryTotals.clear();
         totalDiscount = BigDecimal.ZERO;
-        totalPrice = BigDecimal.ZERO;
-        totalAmount = BigDecimal.ZERO;
-        nonVasTotalPrice = BigDecimal.ZERO;
+        totalPriceCents = 0;
+        totalAmountCents = 0;
+        nonVasTotalPriceCents = 0;
         uniqueItemCount = 0;
         totalItemCount = 0;
         digitalItemCount = 0;
         appliedPromotionId = 0;
+        promotionsDirty = false;
+        version++;
     }
 
     @Override
     public JSONObject display() {
+        refreshPromotions();
         JSONObject message = new JSONObject();
         JSONArray itemsArray = new JSONArray();
 
@@ -115,7 +264,7 @@ public class Cart implements ICart {
         });
 
         message.put("items", itemsArray);
-        message.put("totalAmount", totalAmount);
+        message.put("totalAmount", Money.toAmount(totalAmountCents));
         message.put("appliedPromotionId", getTotalDiscount().compareTo(BigDecimal.ZERO) > 0 ? appliedPromotionId : JSONObject.NULL);
         message.put("totalDiscount", totalDiscount);
 
@@ -126,17 +275,86 @@ public class Cart implements ICart {
         return response;
     }
 
+    /**
+     * Streams the same response as {@link #display()} item by item, without building a JSON tree.
+     * Keys are written in the order org.json emits them so the bytes are identical.
+     */
+    @Override
+    public void display(ResponseEncoder encoder) {
+        refreshPromotions();
+        encoder.writeRaw(DISPLAY_PREFIX);
+        if (getTotalDiscount().compareTo(BigDecimal.ZERO) > 0) {
+            encoder.writeInt(appliedPromotionId);
+        } else {
+            encoder.writeNull();
+        }
+        encoder.writeRaw(TOTAL_AMOUNT_KEY);
+        encoder.writeCents(totalAmountCents);
+        encoder.writeRaw(TOTAL_DISCOUNT_KEY);
+        encoder.writeNumber(totalDiscount);
+        encoder.writeRaw(ITEMS_KEY);
+
+        boolean first = true;
+        for (IItem item : items.values()) {
+            if (!first) {
+                encoder.writeByte(',');
+            }
+            first = false;
+            encoder.writeRaw(ITEM_ID_KEY);
+            encoder.writeInt(item.getId());
+            encoder.writeRaw(SELLER_ID_KEY);
+            encoder.writeInt(item.getSellerId());
+            encoder.writeRaw(QUANTITY_KEY);
+            encoder.writeInt(item.getQuantity());
+            encoder.writeRaw(PRICE_KEY);
+            encoder.writeNumber(item.getPrice());
+            encoder.writeRaw(VAS_ITEMS_KEY);
+            if (item instanceof DefaultItem defaultItem) {
+                encodeVasItems(encoder, defaultItem.getVasItems());
+            }
+            encoder.writeRaw(CATEGORY_ID_KEY);
+            encoder.writeInt(item.getCategoryId());
+            encoder.writeByte('}');
+        }
+        encoder.writeRaw(DISPLAY_SUFFIX);
+    }
+
     @Override
     public void applyPromotions() {
-        PromotionResult promotionResult = promotionService.calculateBestPromotion(this);
+        if (promotionResult == null || promotionResultVersion != version) {
+            promotionResult = promotionService.calculateBestPromotion(this);
+            promotionResultVersion = version;
+        }
         totalDiscount = promotionResult.discount();
         appliedPromotionId = promotionResult.promotionId();
-        totalAmount = totalPrice.subtract(totalDiscount);
+        totalAmountCents = Money.subtract(totalPriceCents, Money.toCents(totalDiscount));
+        promotionsDirty = false;
     }
 
     @Override
     public PromotionResult calculateBestPromotionWithTempItem(IItem item) {
-        return promotionService.calculateBestPromotionWithNewItem(this, item);
+        if (item == null) {
+            return promotionService.calculateBestPromotionWithNewItem(this, null);
+        }
+        if (whatIfResults == null) {
+            whatIfResults = new HashMap<>();
+        }
+        if (whatIfVersion != version || whatIfResults.size() >= MAX_CACHED_WHAT_IF_RESULTS) {
+            whatIfResults.clear();
+            whatIfVersion = version;
+        }
+        WhatIfKey key = WhatIfKey.of(item);
+        PromotionResult result = whatIfResults.get(key);
+        if (result == null) {
+            result = promotionService.calculateBestPromotionWithNewItem(this, item);
+            whatIfResults.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 
     @Override
@@ -146,21 +364,33 @@ public class Cart implements ICart {
 
     @Override
     public BigDecimal getTotalAmount() {
-        return totalAmount;
+        refreshPromotions();
+        return Money.toAmount(totalAmountCents);
     }
 
     @Override
     public BigDecimal getTotalPrice() {
-        return totalPrice;
+        return Money.toAmount(totalPriceCents);
     }
 
     @Override
     public BigDecimal getNonVasTotalPrice() {
-        return nonVasTotalPrice;
+        return Money.toAmount(nonVasTotalPriceCents);
+    }
+
+    @Override
+    public long getTotalPriceCents() {
+        return totalPriceCents;
+    }
+
+    @Override
+    public long getNonVasTotalPriceCents() {
+        return nonVasTotalPriceCents;
     }
 
     @Override
     public BigDecimal getTotalDiscount() {
+        refreshPromotions();
         return totalDiscount;
     }
 
@@ -171,9 +401,16 @@ public class Cart implements ICart {
 
     @Override
     public int getAppliedPromotionId() {
+        refreshPromotions();
         return appliedPromotionId;
     }
 
+    @Override
+    public List<Integer> getAppliedPromotionIds() {
+        refreshPromotions();
+        return totalDiscount.signum() > 0 ? promotionResult.promotionIds() : List.of();
+    }
+
     @Override
     public int getUniqueItemCount() {
         return uniqueItemCount;
@@ -184,24 +421,126 @@ public class Cart implements ICart {
         return totalItemCount;
     }
 
+    @Override
+    public int getDistinctSellerCount() {
+        return sellerItemCounts.size();
+    }
+
+    @Override
+    public Set<Integer> getSellerIds() {
+        return sellerIds;
+    }
+
+    @Override
+    public Set<Integer> getCategoryIds() {
+        return categoryIds;
+    }
+
+    @Override
+    public int getSellerItemCount(int sellerId) {
+        return sellerItemCounts.getOrDefault(sellerId, 0);
+    }
+
+    @Override
+    public int getCategoryItemCount(int categoryId) {
+        CategoryTotal total = categoryTotals.get(categoryId);
+        return total == null ? 0 : total.itemCount;
+    }
+
+    @Override
+    public BigDecimal getCategorySubtotal(int categoryId) {
+        CategoryTotal total = categoryTotals.get(categoryId);
+        return total == null ? BigDecimal.ZERO : Money.toAmount(total.subtotalCents);
+    }
+
+    @Override
+    public long getCategorySubtotalCents(int categoryId) {
+        CategoryTotal total = categoryTotals.get(categoryId);
+        return total == null ? 0 : total.subtotalCents;
+    }
+
     public void setCartItemValidator(CartItemValidator cartValidator) {
         this.cartValidator = cartValidator;
     }
 
+    private void cartChanged() {
+        cartChanged(null);
+    }
+
+    /**
+     * @param knownResult The best promotion for the changed cart when it is already known, so applying the
+     *                    promotions commits it instead of evaluating them again; {@code null} otherwise.
+     */
+    private void cartChanged(PromotionResult knownResult) {
+        version++;
+        if (knownResult != null) {
+            promotionResult = knownResult;
+            promotionResultVersion = version;
+        }
+        if (lazyPromotions) {
+            promotionsDirty = true;
+        } else {
+            applyPromotions();
+        }
+    }
+
+    private void refreshPromotions() {
+        if (promotionsDirty) {
+            applyPromotions();
+        }
+    }
+
     private void updateExistingItem(IItem item) {
         IItem existingItem = items.get(item.getId());
         int newQuantity = existingItem.getQuantity() + item.getQuantity();
 
         if (newQuantity > Config.MAX_QUANTITY_PER_ITEM) {
-            throw new ItemValidationException(ErrorMessages.ITEM_VALIDATION_FAILED.format(item.getQuantity(),
-                    item.getId(), existingItem.getQuantity(), item.getQuantity(), Config.MAX_QUANTITY_PER_ITEM));
+            throw new ItemValidationException(ErrorMessages.ITEM_VALIDATION_FAILED, item.getQuantity(),
+                    item.getId(), existingItem.getQuantity(), item.getQuantity(), Config.MAX_QUANTITY_PER_ITEM);
         }
         existingItem.setQuantity(newQuantity);
+        updateAggregates(existingItem, item.getQuantity(), 0);
+    }
+
+    /**
+     * Reverses the item counts and aggregates of an add made by {@link #addItems}; the caller restores the totals.
+     * The version is left alone, since the cart is back to what it held.
+     *
+     * @param previousQuantity Quantity the item had in the cart before the add, or -1 if it was not there.
+     */
+    private void undoAdd(IItem item, int previousQuantity) {
+        if (previousQuantity < 0) {
+            updateCounts(false, item);
+            updateAggregates(item, -item.getQuantity(), -1);
+            items.remove(item.getId());
+            return;
+        }
+        updateQuantityCounts(item, -item.getQuantity());
+        IItem existingItem = items.get(item.getId());
+        existingItem.setQuantity(previousQuantity);
+        updateAggregates(existingItem, -item.getQuantity(), 0);
     }
 
     private void addNewItem(IItem item) {
         items.put(item.getId(), item);
         uniqueItemCount++;
+        updateAggregates(item, item.getQuantity(), 1);
+    }
+
+    /**
+     * Keeps the per-seller and per-category aggregates the promotions read in step with the items,
+     * so evaluating them does not walk the cart. Subtotals use the price of the item held in the cart.
+     */
+    private void updateAggregates(IItem item, int quantityDelta, int itemCountDelta) {
+        if (itemCountDelta != 0) {
+            sellerItemCounts.merge(item.getSellerId(), itemCountDelta, (count, delta) -> count + delta == 0 ? null : count + delta);
+        }
+        CategoryTotal total = categoryTotals.computeIfAbsent(item.getCategoryId(), categoryId -> new CategoryTotal());
+        total.itemCount += itemCountDelta;
+        total.subtotalCents = Money.add(total.subtotalCents, Money.times(item.getPriceCents(), quantityDelta));
+        if (total.itemCount == 0) {
+            categoryTotals.remove(item.getCategoryId());
+        }
     }
 
     private void updateCounts(boolean isAdd, IItem item) {
@@ -215,20 +554,50 @@ public class Cart implements ICart {
         }
     }
 
-    private void updateTotalPrice(boolean isAdd, IItem item) {
-        BigDecimal multiplier = isAdd ? BigDecimal.ONE : BigDecimal.valueOf(-1);
+    private void updateQuantityCounts(IItem item, int quantityDelta) {
+        if (item instanceof DigitalItem) {
+            digitalItemCount += quantityDelta;
+        }
+        totalItemCount += quantityDelta;
+    }
 
+    private void updateTotalPrice(boolean isAdd, IItem item) {
         if (!isAdd && item instanceof DefaultItem defaultItem) {
             defaultItem.getVasItems().forEach(vasItem -> updateTotalPrice(false, vasItem));
         }
 
-        BigDecimal priceUpdate = item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())).multiply(multiplier);
-        totalPrice = totalPrice.add(priceUpdate);
+        long priceUpdateCents = Money.times(item.getPriceCents(), isAdd ? item.getQuantity() : -item.getQuantity());
+        totalPriceCents = Money.add(totalPriceCents, priceUpdateCents);
         if (!(item instanceof VasItem)) {
-            nonVasTotalPrice = nonVasTotalPrice.add(priceUpdate);
+            nonVasTotalPriceCents = Money.add(nonVasTotalPriceCents, priceUpdateCents);
+        }
+    }
+
+    private void encodeVasItems(ResponseEncoder encoder, List<VasItem> vasItems) {
+        boolean first = true;
+        for (VasItem vasItem : vasItems) {
+            if (!first) {
+                encoder.writeByte(',');
+            }
+            first = false;
+            encoder.writeRaw(VAS_QUANTITY_KEY);
+            encoder.writeInt(vasItem.getQuantity());
+            encoder.writeRaw(PRICE_KEY);
+            encoder.writeNumber(vasItem.getPrice());
+            encoder.writeRaw(VAS_ITEM_ID_KEY);
+            encoder.writeInt(vasItem.getId());
+            encoder.writeRaw(VAS_CATEGORY_ID_KEY);
+            encoder.writeInt(vasItem.getCategoryId());
+            encoder.writeRaw(VAS_SELLER_ID_KEY);
+            encoder.writeInt(vasItem.getSellerId());
+            encoder.writeByte('}');
         }
     }
 
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
     private JSONArray createVasItemsArray(List<VasItem> vasItems) {
         JSONArray vasItemsArray = new JSONArray();
         for (VasItem vasItem : vasItems) {
@@ -243,4 +612,20 @@ public class Cart implements ICart {
         return vasItemsArray;
     }
 
+    /**
+     * Identifies a what-if candidate by value, so a retried command with an equal item reuses the result.
+     */
+    private record WhatIfKey(Class<?> type, int itemId, int parentItemId, int categoryId, int sellerId,
+                             long priceCents, int quantity) {
+        static WhatIfKey of(IItem item) {
+            int parentItemId = item instanceof VasItem vasItem ? vasItem.getItemId() : 0;
+            return new WhatIfKey(item.getClass(), item.getId(), parentItemId, item.getCategoryId(), item.getSellerId(),
+                    item.getPriceCents(), item.getQuantity());
+        }
+    }
+
+    private static final class CategoryTotal {
+        private int itemCount;
+        private long subtotalCents;
+    }
 }
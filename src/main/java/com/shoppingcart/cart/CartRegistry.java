@@ -0,0 +1,80 @@
+package com.shoppingcart.cart;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the live carts by id and creates them on first use.
+ * <p>
+ * Carts are spread over a power-of-two number of shards, each its own {@link ConcurrentHashMap}, so a registry
+ * holding millions of carts never rehashes one huge table at once and lookups from different threads rarely
+ * touch the same shard. The registry is thread-safe; the carts it hands out are not.
+ */
+public final class CartRegistry {
+
+    public static final int DEFAULT_SHARD_COUNT = 64;
+
+    private final ConcurrentHashMap<Integer, ICart>[] shards;
+    private final int shardMask;
+    private final Supplier<? extends ICart> cartFactory;
+
+    public CartRegistry(Supplier<? extends ICart> cartFactory) {
+        this(DEFAULT_SHARD_COUNT, cartFactory);
+    }
+
+    @SuppressWarnings("unchecked")
+    public CartRegistry(int shardCount, Supplier<? extends ICart> cartFactory) {
+        if (shardCount <= 0 || Integer.bitCount(shardCount) != 1) {
+            throw new IllegalArgumentException("Shard count must be a positive power of two: " + shardCount);
+        }
+        this.shards = new ConcurrentHashMap[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+        this.shardMask = shardCount - 1;
+        this.cartFactory = cartFactory;
+    }
+
+    /**
+     * Returns the cart with the given id, creating an empty one if it does not exist yet.
+     */
+    public ICart getOrCreate(int cartId) {
+        ConcurrentHashMap<Integer, ICart> shard = shardOf(cartId);
+        ICart cart = shard.get(cartId);
+        if (cart == null) {
+            cart = shard.computeIfAbsent(cartId, id -> cartFactory.get());
+        }
+        return cart;
+    }
+
+    /**
+     * @return The cart with the given id, or {@code null} if it has not been created.
+     */
+    public ICart get(int cartId) {
+        return shardOf(cartId).get(cartId);
+    }
+
+    public boolean remove(int cartId) {
+        return shardOf(cartId).remove(cartId) != null;
+    }
+
+    public long size() {
+        long size = 0;
+        for (ConcurrentHashMap<Integer, ICart> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    /**
+     * Scrambles a cart id so that sequential ids spread evenly over shards or partitions.
+     */
+    public static int spread(int cartId) {
+        int h = cartId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private ConcurrentHashMap<Integer, ICart> shardOf(int cartId) {
+        return shards[spread(cartId) & shardMask];
+    }
+}
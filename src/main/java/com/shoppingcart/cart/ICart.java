@@ -1,12 +1,16 @@
 package com.shoppingcart.cart;
 
+import com.shoppingcart.exceptions.ItemValidationException;
 import com.shoppingcart.models.IItem;
 import com.shoppingcart.models.VasItem;
 import com.shoppingcart.promotions.PromotionResult;
+import com.shoppingcart.responses.ResponseEncoder;
 import org.json.JSONObject;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public interface ICart {
     Map<Integer, IItem> getItems();
@@ -17,6 +21,16 @@ public interface ICart {
 
     BigDecimal getNonVasTotalPrice();
 
+    /**
+     * Returns {@link #getTotalPrice()} in cents, without converting it.
+     */
+    long getTotalPriceCents();
+
+    /**
+     * Returns {@link #getNonVasTotalPrice()} in cents, without converting it.
+     */
+    long getNonVasTotalPriceCents();
+
     BigDecimal getTotalDiscount();
 
     int getUniqueItemCount();
@@ -25,19 +39,63 @@ public interface ICart {
 
     int getDigitalItemCount();
 
+    int getDistinctSellerCount();
+
+    Set<Integer> getSellerIds();
+
+    Set<Integer> getCategoryIds();
+
+    int getSellerItemCount(int sellerId);
+
+    int getCategoryItemCount(int categoryId);
+
+    /**
+     * Returns the price times quantity of the items in a category, excluding VAS items,
+     * or zero when the cart holds none.
+     */
+    BigDecimal getCategorySubtotal(int categoryId);
+
+    long getCategorySubtotalCents(int categoryId);
+
     int getAppliedPromotionId();
 
+    /**
+     * Returns every promotion applied to the cart when combinable promotions stack, in registration order.
+     */
+    List<Integer> getAppliedPromotionIds();
+
     void addItem(IItem item);
 
+    /**
+     * Adds a batch of items all or nothing, evaluating the promotions once for the whole batch.
+     *
+     * @return The rejection of each item that stopped the batch, keyed by its position; empty when every item
+     * was added. When the batch as a whole would break the amount limit, every position maps to that rejection.
+     */
+    Map<Integer, ItemValidationException> addItems(List<? extends IItem> items);
+
     void addVasItem(VasItem item);
 
+    /**
+     * Changes the quantity of an item in the cart in place, keeping its VAS items.
+     */
+    void setItemQuantity(int itemId, int quantity);
+
     void removeItem(int itemId);
 
     void reset();
 
     JSONObject display();
 
+    void display(ResponseEncoder encoder);
+
     PromotionResult calculateBestPromotionWithTempItem(IItem item);
 
+    /**
+     * Returns a counter that grows with every modification, so results computed for one version
+     * of the cart can be reused until it changes.
+     */
+    long getVersion();
+
     void applyPromotions();
 }
\ No newline at end of file
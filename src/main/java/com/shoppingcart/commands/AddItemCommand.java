@@ -0,0 +1,37 @@
+package com.shoppingcart.commands;
+
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+
+public record AddItemCommand(int cartId, int itemId, int categoryId, int sellerId, BigDecimal price,
+                             int quantity) implements Command {
+
+    public static final String TYPE = "addItem";
+
+    public AddItemCommand(int itemId, int categoryId, int sellerId, BigDecimal price, int quantity) {
+        this(DEFAULT_CART_ID, itemId, categoryId, sellerId, price, quantity);
+    }
+
+    public static AddItemCommand fromJSON(JSONObject command) {
+        return fromPayload(Command.cartIdOf(command), command.getJSONObject("payload"));
+    }
+
+    /**
+     * Reads the item fields of an {@code addItem} payload, or of one entry of an {@code addItems} batch.
+     */
+    public static AddItemCommand fromPayload(int cartId, JSONObject payload) {
+        return new AddItemCommand(
+                cartId,
+                payload.getInt("itemId"),
+                payload.getInt("categoryId"),
+                payload.getInt("sellerId"),
+                payload.getBigDecimal("price"),
+                payload.getInt("quantity"));
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,37 @@
+package com.shoppingcart.commands;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adds several items to a cart at once: either all of them are added or none is.
+ */
+public record AddItemsCommand(int cartId, List<AddItemCommand> items) implements Command {
+
+    public static final String TYPE = "addItems";
+
+    public AddItemsCommand(List<AddItemCommand> items) {
+        this(DEFAULT_CART_ID, items);
+    }
+
+    /**
+     * Reads a command whose payload holds an {@code items} array of {@code addItem} payloads.
+     */
+    public static AddItemsCommand fromJSON(JSONObject command) {
+        int cartId = Command.cartIdOf(command);
+        JSONArray payloads = command.getJSONObject("payload").getJSONArray("items");
+        List<AddItemCommand> items = new ArrayList<>(payloads.length());
+        for (int i = 0; i < payloads.length(); i++) {
+            items.add(AddItemCommand.fromPayload(cartId, payloads.getJSONObject(i)));
+        }
+        return new AddItemsCommand(cartId, List.copyOf(items));
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+}
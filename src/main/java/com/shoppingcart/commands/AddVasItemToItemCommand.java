@@ -0,0 +1,33 @@
+package com.shoppingcart.commands;
+
+import org.json.JSONObject;
+
+import java.math.BigDecimal;
+
+public record AddVasItemToItemCommand(int cartId, int itemId, int vasItemId, int vasCategoryId, int vasSellerId,
+                                      BigDecimal price, int quantity) implements Command {
+
+    public static final String TYPE = "addVasItemToItem";
+
+    public AddVasItemToItemCommand(int itemId, int vasItemId, int vasCategoryId, int vasSellerId, BigDecimal price,
+                                   int quantity) {
+        this(DEFAULT_CART_ID, itemId, vasItemId, vasCategoryId, vasSellerId, price, quantity);
+    }
+
+    public static AddVasItemToItemCommand fromJSON(JSONObject command) {
+        JSONObject payload = command.getJSONObject("payload");
+        return new AddVasItemToItemCommand(
+                Command.cartIdOf(command),
+                payload.getInt("itemId"),
+                payload.getInt("vasItemId"),
+                payload.getInt("vasCategoryId"),
+                payload.getInt("vasSellerId"),
+                payload.getBigDecimal("price"),
+                payload.getInt("quantity"));
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,30 @@
+package com.shoppingcart.commands;
+
+import org.json.JSONObject;
+
+/**
+ * A decoded input command. {@link #type()} is the value of the {@code "command"} field and selects the handler;
+ * {@link #cartId()} is the optional {@code "cartId"} field and selects the cart the command applies to.
+ */
+public interface Command {
+
+    String CART_ID_KEY = "cartId";
+
+    /**
+     * The cart used by commands that do not name one, so single-cart input files behave as before.
+     */
+    int DEFAULT_CART_ID = 0;
+
+    String type();
+
+    int cartId();
+
+    /**
+     * Reads the target cart of a JSON command.
+     *
+     * @throws org.json.JSONException If {@code cartId} is present but not an integer.
+     */
+    static int cartIdOf(JSONObject command) {
+        return command.has(CART_ID_KEY) ? command.getInt(CART_ID_KEY) : DEFAULT_CART_ID;
+    }
+}
@@ -0,0 +1,16 @@
+package com.shoppingcart.commands;
+
+public record DisplayCartCommand(int cartId) implements Command {
+
+    public static final String TYPE = "displayCart";
+    public static final DisplayCartCommand INSTANCE = new DisplayCartCommand(DEFAULT_CART_ID);
+
+    public static DisplayCartCommand forCart(int cartId) {
+        return cartId == DEFAULT_CART_ID ? INSTANCE : new DisplayCartCommand(cartId);
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,23 @@
+package com.shoppingcart.commands;
+
+import org.json.JSONObject;
+
+/**
+ * A command kept in its generic JSON form, used for anything the typed decoder does not recognize
+ * so that unknown commands and malformed payloads are reported exactly as before.
+ */
+public record JsonCommand(JSONObject json) implements Command {
+
+    @Override
+    public String type() {
+        return json.optString("command", null);
+    }
+
+    /**
+     * Best-effort cart id used for routing; a malformed {@code cartId} is reported when the command runs.
+     */
+    @Override
+    public int cartId() {
+        return json.optInt(CART_ID_KEY, DEFAULT_CART_ID);
+    }
+}
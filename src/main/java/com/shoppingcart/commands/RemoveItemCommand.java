@@ -0,0 +1,21 @@
+package com.shoppingcart.commands;
+
+import org.json.JSONObject;
+
+public record RemoveItemCommand(int cartId, int itemId) implements Command {
+
+    public static final String TYPE = "removeItem";
+
+    public RemoveItemCommand(int itemId) {
+        this(DEFAULT_CART_ID, itemId);
+    }
+
+    public static RemoveItemCommand fromJSON(JSONObject command) {
+        return new RemoveItemCommand(Command.cartIdOf(command), command.getJSONObject("payload").getInt("itemId"));
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,16 @@
+package com.shoppingcart.commands;
+
+public record ResetCartCommand(int cartId) implements Command {
+
+    public static final String TYPE = "resetCart";
+    public static final ResetCartCommand INSTANCE = new ResetCartCommand(DEFAULT_CART_ID);
+
+    public static ResetCartCommand forCart(int cartId) {
+        return cartId == DEFAULT_CART_ID ? INSTANCE : new ResetCartCommand(cartId);
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,25 @@
+package com.shoppingcart.commands;
+
+import org.json.JSONObject;
+
+/**
+ * Changes the quantity of an item already in the cart, keeping its VAS items.
+ */
+public record SetQuantityCommand(int cartId, int itemId, int quantity) implements Command {
+
+    public static final String TYPE = "setQuantity";
+
+    public SetQuantityCommand(int itemId, int quantity) {
+        this(DEFAULT_CART_ID, itemId, quantity);
+    }
+
+    public static SetQuantityCommand fromJSON(JSONObject command) {
+        JSONObject payload = command.getJSONObject("payload");
+        return new SetQuantityCommand(Command.cartIdOf(command), payload.getInt("itemId"), payload.getInt("quantity"));
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+}
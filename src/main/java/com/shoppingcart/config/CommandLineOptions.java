@@ -0,0 +1,89 @@
+package com.shoppingcart.config;
+
+import com.shoppingcart.execution.ExecutionMode;
+import com.shoppingcart.io.FileFormat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Arguments accepted by {@code Main}: the input and output file paths followed by optional switches.
+ * {@code format} is {@code null} when the file formats should be picked from the file extensions.
+ * {@code parallelism} is the number of partitions or shards used by the sharded execution modes (one per core
+ * unless {@code --parallel=N} is given); when no {@code --executor} is given, a parallelism above 1 selects
+ * {@link ExecutionMode#PARTITIONED}.
+ */
+public record CommandLineOptions(String inputFilePath, String outputFilePath, boolean prettyPrint, boolean memoryMapped,
+                                 FileFormat format, ExecutionMode executionMode, int parallelism) {
+
+    public static final String USAGE = "Usage: java com.shoppingcart.Main <input_file> <output_file> [--pretty] [--mmap] "
+            + "[--format=json|ndjson] [--executor=sequential|partitioned|virtual|ring] [--parallel[=N]]";
+
+    /**
+     * Parses the command-line arguments.
+     *
+     * @param args The raw arguments.
+     * @return The parsed options.
+     * @throws IllegalArgumentException If a file path is missing or a switch is not recognized.
+     */
+    public static CommandLineOptions parse(String[] args) {
+        List<String> paths = new ArrayList<>();
+        boolean prettyPrint = false;
+        boolean memoryMapped = false;
+        FileFormat format = null;
+        ExecutionMode executionMode = null;
+        int parallelism = 0;
+
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                paths.add(arg);
+            } else if (arg.equals("--pretty")) {
+                prettyPrint = true;
+            } else if (arg.equals("--mmap")) {
+                memoryMapped = true;
+            } else if (arg.startsWith("--format=")) {
+                format = FileFormat.fromName(arg.substring("--format=".length()));
+            } else if (arg.startsWith("--executor=")) {
+                executionMode = ExecutionMode.fromName(arg.substring("--executor=".length()));
+            } else if (arg.equals("--parallel")) {
+                parallelism = Runtime.getRuntime().availableProcessors();
+            } else if (arg.startsWith("--parallel=")) {
+                parallelism = parsePositiveInt(arg, arg.substring("--parallel=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        if (paths.size() != 2) {
+            throw new IllegalArgumentException("Expected an input and an output file, got: " + paths);
+        }
+        if (executionMode == null) {
+            executionMode = parallelism > 1 ? ExecutionMode.PARTITIONED : ExecutionMode.SEQUENTIAL;
+        }
+        if (parallelism == 0) {
+            parallelism = executionMode.isSharded() ? Runtime.getRuntime().availableProcessors() : 1;
+        }
+        return new CommandLineOptions(paths.get(0), paths.get(1), prettyPrint, memoryMapped, format, executionMode,
+                parallelism);
+    }
+
+    public FileFormat inputFormat() {
+        return format != null ? format : FileFormat.fromPath(inputFilePath);
+    }
+
+    public FileFormat outputFormat() {
+        return format != null ? format : FileFormat.fromPath(outputFilePath);
+    }
+
+    private static int parsePositiveInt(String arg, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Expected a positive number in option: " + arg);
+    }
+}
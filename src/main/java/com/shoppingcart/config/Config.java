@@ -1,11 +1,16 @@
 package com.shoppingcart.config;
 
+import com.shoppingcart.money.Money;
+
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 public class Config {
@@ -19,6 +24,7 @@ public class Config {
     public static final int MAX_UNIQUE_ITEMS = getIntProperty("max.unique.items", 10);
     public static final int MAX_TOTAL_ITEMS = getIntProperty("max.total.items", 30);
     public static final BigDecimal MAX_TOTAL_AMOUNT = getBigDecimalProperty("max.total.amount", new BigDecimal("500000"));
+    public static final long MAX_TOTAL_AMOUNT_CENTS = Money.toCents(MAX_TOTAL_AMOUNT.setScale(Money.SCALE, RoundingMode.FLOOR));
 
     public static final int MAX_DIGITAL_ITEM_QUANTITY = getIntProperty("max.digital.item.quantity", 5);
     public static final int VAS_ITEM_SELLER_ID = getIntProperty("vas.item.seller.id", 5003);
@@ -29,6 +35,11 @@ public class Config {
     public static final BigDecimal SAME_SELLER_PROMOTION_RATE = getBigDecimalProperty("same.seller.promotion.rate", new BigDecimal("0.10"));
     public static final Map<Integer, BigDecimal> DISCOUNT_CATEGORIES = getDiscountCategories();
     public static final Set<Integer> VALID_CATEGORIES_FOR_VAS = getValidCategoriesForVas();
+    public static final SortedMap<BigDecimal, BigDecimal> TOTAL_PRICE_PROMOTION_TIERS = getTotalPricePromotionTiers();
+    public static final int PROMOTION_PARALLEL_THRESHOLD = getIntProperty("promotion.parallel.threshold", 256);
+    public static final int PROMOTION_CACHE_SIZE = getIntProperty("promotion.cache.size", 0);
+    public static final boolean LAZY_PROMOTION_EVALUATION = getBooleanProperty("lazy.promotion.evaluation", false);
+    public static final int REJECTION_LOG_RATE = getIntProperty("rejection.log.rate", 10);
 
     // Static Methods
     private static void loadProperties() {
@@ -60,6 +71,10 @@ public class Config {
         }
     }
 
+    static boolean getBooleanProperty(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(properties.getProperty(key, String.valueOf(defaultValue)));
+    }
+
     private static Map<Integer, BigDecimal> getDiscountCategories() {
         return Arrays.stream(properties.getProperty("discount.categories", "").split(","))
                 .map(s -> s.split(":"))
@@ -69,6 +84,22 @@ public class Config {
                 ));
     }
 
+    /**
+     * Parses {@code threshold:discount} pairs. Each tier applies from its threshold up to the next one.
+     */
+    private static SortedMap<BigDecimal, BigDecimal> getTotalPricePromotionTiers() {
+        return Arrays.stream(properties.getProperty("total.price.promotion.tiers", "500:250,5000:500,10000:1000,50000:2000").split(","))
+                .map(s -> s.split(":"))
+                .collect(Collectors.toMap(
+                        s -> new BigDecimal(s[0].trim()),
+                        s -> new BigDecimal(s[1].trim()),
+                        (first, second) -> {
+                            throw new IllegalArgumentException("Duplicate total price promotion tier: " + first);
+                        },
+                        TreeMap::new
+                ));
+    }
+
     private static Set<Integer> getValidCategoriesForVas() {
         return Arrays.stream(properties.getProperty("valid.categories.for.vas", "").split(","))
                 .map(Integer::parseInt)
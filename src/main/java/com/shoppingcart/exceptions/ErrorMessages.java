@@ -30,13 +30,26 @@ public enum ErrorMessages {
     VAS_ITEM_CANNOT_BE_ADDED_DIRECTLY("VAS items cannot be added directly to the cart."),
     DIGITAL_ITEM_LIMIT_EXCEEDED("Adding %d digital items exceeds the allowed limit of %d. Current digital item count: %d."),
     TOTAL_ITEM_LIMIT_EXCEEDED("Adding %d items exceeds the total allowed limit. Current total: %d, attempted to add: %d, allowed limit: %d."),
-    TOTAL_AMOUNT_EXCEEDED("Adding items causes total amount to exceed the allowed limit. Current total: %.2f, attempted to add: %.2f, resulting total: %.2f, allowed limit: %.2f."),
+    TOTAL_AMOUNT_EXCEEDED("Adding items causes total amount to exceed the allowed limit. Current total: %.2f, attempted to add: %.2f, resulting total: %.2f, allowed limit: %.2f.", true),
     UNIQUE_ITEM_LIMIT_EXCEEDED("Adding this item causes unique item count to exceed the allowed limit. Current unique item count: %d, allowed limit: %d.");
 
     private final String message;
+    private final boolean amountArguments;
 
     ErrorMessages(String message) {
+        this(message, false);
+    }
+
+    ErrorMessages(String message, boolean amountArguments) {
         this.message = message;
+        this.amountArguments = amountArguments;
+    }
+
+    /**
+     * Returns whether the numeric arguments of this code are amounts, which rejections carry in cents.
+     */
+    public boolean hasAmountArguments() {
+        return amountArguments;
     }
 
     public String format(Object... args) {
@@ -1,18 +1,26 @@
 package com.shoppingcart.exceptions;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-public class ItemNotFoundException extends RuntimeException {
-    private static final Logger logger = LoggerFactory.getLogger(ItemNotFoundException.class);
+public class ItemNotFoundException extends RejectionException {
 
     public ItemNotFoundException(String message) {
         super(message);
-        logger.error("Item not found error: {}", message);
     }
 
     public ItemNotFoundException(String message, Throwable cause) {
         super(message, cause);
-        logger.error("Item not found error: {}", message, cause);
+    }
+
+    /**
+     * Stackless variant; the message is formatted from the code and arguments only when it is read.
+     */
+    public ItemNotFoundException(ErrorMessages error, Object... args) {
+        super(error, args);
+    }
+
+    /**
+     * Stackless variant holding the item ID in a primitive field.
+     */
+    public ItemNotFoundException(ErrorMessages error, long itemId) {
+        super(error, itemId);
     }
 }
@@ -1,18 +1,46 @@
 package com.shoppingcart.exceptions;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-public class ItemValidationException extends RuntimeException {
-    private static final Logger logger = LoggerFactory.getLogger(ItemValidationException.class);
+public class ItemValidationException extends RejectionException {
 
     public ItemValidationException(String message) {
         super(message);
-        logger.error("Item validation error: {}", message);
     }
 
     public ItemValidationException(String message, Throwable cause) {
         super(message, cause);
-        logger.error("Item validation error: {}", message, cause);
     }
-}
\ No newline at end of file
+
+    /**
+     * Stackless variant; the message is formatted from the code and arguments only when it is read.
+     */
+    public ItemValidationException(ErrorMessages error, Object... args) {
+        super(error, args);
+    }
+
+    /**
+     * Stackless variants holding numeric arguments in primitive fields; amounts are given in cents.
+     */
+    public ItemValidationException(ErrorMessages error) {
+        super(error);
+    }
+
+    public ItemValidationException(ErrorMessages error, long arg0) {
+        super(error, arg0);
+    }
+
+    public ItemValidationException(ErrorMessages error, long arg0, long arg1) {
+        super(error, arg0, arg1);
+    }
+
+    public ItemValidationException(ErrorMessages error, long arg0, long arg1, long arg2) {
+        super(error, arg0, arg1, arg2);
+    }
+
+    public ItemValidationException(ErrorMessages error, long arg0, long arg1, long arg2, long arg3) {
+        super(error, arg0, arg1, arg2, arg3);
+    }
+
+    public ItemValidationException(ErrorMessages error, long arg0, long arg1, long arg2, long arg3, long arg4) {
+        super(error, arg0, arg1, arg2, arg3, arg4);
+    }
+}
@@ -0,0 +1,124 @@
+package com.shoppingcart.exceptions;
+
+import com.shoppingcart.money.Money;
+
+/**
+ * Base of the exceptions that reject a command. A rejection built from an {@link ErrorMessages} code keeps the
+ * code and its arguments, fills no stack trace and only formats its message when the message is read.
+ * <p>
+ * Up to five numeric arguments are held in primitive fields, so building such a rejection allocates nothing but
+ * the exception; they are only boxed when the message is formatted. Codes whose arguments are amounts take them
+ * in cents. Codes with text or {@link java.math.BigDecimal} arguments still go through the varargs constructor,
+ * which allocates the argument array and boxes its values.
+ */
+public abstract class RejectionException extends RuntimeException {
+
+    private static final int MAX_SLOTS = 5;
+
+    private final ErrorMessages error;
+    private final Object[] args;
+    private final int argCount;
+    private final long arg0;
+    private final long arg1;
+    private final long arg2;
+    private final long arg3;
+    private final long arg4;
+
+    protected RejectionException(String message) {
+        super(message);
+        this.error = null;
+        this.args = null;
+        this.argCount = 0;
+        this.arg0 = this.arg1 = this.arg2 = this.arg3 = this.arg4 = 0;
+    }
+
+    protected RejectionException(String message, Throwable cause) {
+        super(message, cause);
+        this.error = null;
+        this.args = null;
+        this.argCount = 0;
+        this.arg0 = this.arg1 = this.arg2 = this.arg3 = this.arg4 = 0;
+    }
+
+    protected RejectionException(ErrorMessages error, Object... args) {
+        super(null, null, false, false);
+        this.error = error;
+        this.args = args;
+        this.argCount = args.length;
+        this.arg0 = this.arg1 = this.arg2 = this.arg3 = this.arg4 = 0;
+    }
+
+    protected RejectionException(ErrorMessages error) {
+        this(error, 0, 0, 0, 0, 0, 0);
+    }
+
+    protected RejectionException(ErrorMessages error, long arg0) {
+        this(error, 1, arg0, 0, 0, 0, 0);
+    }
+
+    protected RejectionException(ErrorMessages error, long arg0, long arg1) {
+        this(error, 2, arg0, arg1, 0, 0, 0);
+    }
+
+    protected RejectionException(ErrorMessages error, long arg0, long arg1, long arg2) {
+        this(error, 3, arg0, arg1, arg2, 0, 0);
+    }
+
+    protected RejectionException(ErrorMessages error, long arg0, long arg1, long arg2, long arg3) {
+        this(error, 4, arg0, arg1, arg2, arg3, 0);
+    }
+
+    protected RejectionException(ErrorMessages error, long arg0, long arg1, long arg2, long arg3, long arg4) {
+        this(error, MAX_SLOTS, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    private RejectionException(ErrorMessages error, int argCount, long arg0, long arg1, long arg2, long arg3, long arg4) {
+        super(null, null, false, false);
+        this.error = error;
+        this.args = null;
+        this.argCount = argCount;
+        this.arg0 = arg0;
+        this.arg1 = arg1;
+        this.arg2 = arg2;
+        this.arg3 = arg3;
+        this.arg4 = arg4;
+    }
+
+    /**
+     * @return The error code, or {@code null} when the exception was built from a plain message.
+     */
+    public ErrorMessages getError() {
+        return error;
+    }
+
+    /**
+     * @return The arguments of the error code, boxing the numeric ones into a new array on every call, or
+     * {@code null} when the exception was built from a plain message.
+     */
+    public Object[] getArgs() {
+        if (error == null || args != null) {
+            return args;
+        }
+        Object[] boxed = new Object[argCount];
+        for (int i = 0; i < argCount; i++) {
+            long value = slot(i);
+            boxed[i] = error.hasAmountArguments() ? Money.toAmount(value) : Long.valueOf(value);
+        }
+        return boxed;
+    }
+
+    @Override
+    public String getMessage() {
+        return error == null ? super.getMessage() : error.format(getArgs());
+    }
+
+    private long slot(int index) {
+        return switch (index) {
+            case 0 -> arg0;
+            case 1 -> arg1;
+            case 2 -> arg2;
+            case 3 -> arg3;
+            default -> arg4;
+        };
+    }
+}
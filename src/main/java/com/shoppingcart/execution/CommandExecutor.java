@@ -0,0 +1,20 @@
+package com.shoppingcart.execution;
+
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.io.ResponseWriter;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Runs a stream of commands and writes one response per command, in input order.
+ */
+public interface CommandExecutor {
+
+    /**
+     * @param commands The commands to run, consumed once.
+     * @param writer   Receives the responses in the order of {@code commands}.
+     * @return The number of commands processed.
+     */
+    long execute(Iterator<? extends Command> commands, ResponseWriter writer) throws IOException;
+}
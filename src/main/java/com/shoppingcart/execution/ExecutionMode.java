@@ -0,0 +1,40 @@
+package com.shoppingcart.execution;
+
+import java.util.Locale;
+
+/**
+ * How commands are scheduled onto threads.
+ */
+public enum ExecutionMode {
+    /**
+     * Every command on the calling thread.
+     */
+    SEQUENTIAL,
+    /**
+     * A fixed set of single-threaded partitions, chosen by cart id hash.
+     */
+    PARTITIONED,
+    /**
+     * One mailbox per active cart, drained by a virtual thread.
+     */
+    VIRTUAL,
+    /**
+     * A preallocated ring of slots handed from the reader to shard consumers to an encoder thread.
+     */
+    RING;
+
+    /**
+     * Whether the mode spreads carts over a fixed number of partitions or shards.
+     */
+    public boolean isSharded() {
+        return this == PARTITIONED || this == RING;
+    }
+
+    public static ExecutionMode fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown execution mode: " + name);
+        }
+    }
+}
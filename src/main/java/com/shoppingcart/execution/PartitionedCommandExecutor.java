@@ -0,0 +1,59 @@
+package com.shoppingcart.execution;
+
+import com.shoppingcart.cart.CartRegistry;
+import com.shoppingcart.handlers.CommandProcessor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Spreads commands over a fixed number of partitions by cart id, each served by its own single-threaded executor.
+ * All commands of a cart land on the same partition and run in input order, so carts need no locking, while
+ * different carts run on different cores. Responses are written in input order.
+ */
+public class PartitionedCommandExecutor extends ReorderingCommandExecutor {
+
+    private final int partitions;
+
+    public PartitionedCommandExecutor(CommandProcessor processor, int partitions) {
+        this(processor, partitions, DEFAULT_WINDOW);
+    }
+
+    public PartitionedCommandExecutor(CommandProcessor processor, int partitions, int window) {
+        super(processor, window);
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Partition count must be positive: " + partitions);
+        }
+        this.partitions = partitions;
+    }
+
+    int partitionOf(int cartId) {
+        return (CartRegistry.spread(cartId) & Integer.MAX_VALUE) % partitions;
+    }
+
+    @Override
+    CartDispatcher openDispatcher() {
+        ExecutorService[] executors = new ExecutorService[partitions];
+        for (int i = 0; i < partitions; i++) {
+            String name = "cart-partition-" + i;
+            executors[i] = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return new CartDispatcher() {
+            @Override
+            public void dispatch(int cartId, Runnable task) {
+                executors[partitionOf(cartId)].execute(task);
+            }
+
+            @Override
+            public void close() {
+                for (ExecutorService executor : executors) {
+                    executor.shutdownNow();
+                }
+            }
+        };
+    }
+}
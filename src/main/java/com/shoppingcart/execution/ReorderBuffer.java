@@ -0,0 +1,96 @@
+package com.shoppingcart.execution;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Collects results that complete out of order and hands them back in sequence order.
+ * <p>
+ * Any number of threads may {@link #complete} results; a single consumer thread, the one that created the buffer,
+ * takes them. The buffer has a fixed number of slots, so the consumer must not let more than {@link #capacity()}
+ * sequence numbers be outstanding at once.
+ *
+ * @param <T> The result type.
+ */
+final class ReorderBuffer<T> {
+
+    private static final long NOT_WAITING = -1;
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final Thread consumer;
+    private volatile long awaitedSequence = NOT_WAITING;
+    private volatile Throwable failure;
+
+    ReorderBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        int slotCount = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(Math.max(slotCount, 1));
+        this.mask = slots.length() - 1;
+        this.consumer = Thread.currentThread();
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    void complete(long sequence, T result) {
+        slots.set(slotOf(sequence), result);
+        if (awaitedSequence == sequence) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Records a failure that the consumer rethrows from {@link #take}.
+     */
+    void fail(Throwable cause) {
+        failure = cause;
+        LockSupport.unpark(consumer);
+    }
+
+    /**
+     * @return The result for {@code sequence} if it has completed, otherwise {@code null}.
+     */
+    T poll(long sequence) {
+        checkFailure();
+        int slot = slotOf(sequence);
+        T result = slots.get(slot);
+        if (result != null) {
+            slots.lazySet(slot, null);
+        }
+        return result;
+    }
+
+    /**
+     * Waits for the result of {@code sequence}.
+     */
+    T take(long sequence) {
+        T result = poll(sequence);
+        if (result != null) {
+            return result;
+        }
+        awaitedSequence = sequence;
+        try {
+            while ((result = poll(sequence)) == null) {
+                LockSupport.park(this);
+            }
+        } finally {
+            awaitedSequence = NOT_WAITING;
+        }
+        return result;
+    }
+
+    private void checkFailure() {
+        Throwable cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("Command execution failed", cause);
+        }
+    }
+
+    private int slotOf(long sequence) {
+        return (int) sequence & mask;
+    }
+}
@@ -0,0 +1,83 @@
+package com.shoppingcart.execution;
+
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.handlers.CommandProcessor;
+import com.shoppingcart.io.ResponseWriter;
+import com.shoppingcart.responses.Response;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Base for executors that run commands concurrently while keeping each cart's commands in input order.
+ * <p>
+ * The calling thread reads commands, assigns each a sequence number and hands it to a {@link CartDispatcher};
+ * it writes the responses back in sequence order through a {@link ReorderBuffer}, so the output is identical to
+ * a sequential run. At most {@code window} commands are in flight at once, which bounds memory when some carts
+ * fall behind.
+ */
+abstract class ReorderingCommandExecutor implements CommandExecutor {
+
+    public static final int DEFAULT_WINDOW = 1 << 14;
+
+    /**
+     * Runs the tasks of one cart one at a time, in the order they were dispatched.
+     */
+    interface CartDispatcher extends AutoCloseable {
+        void dispatch(int cartId, Runnable task);
+
+        @Override
+        void close();
+    }
+
+    private final CommandProcessor processor;
+    private final int window;
+
+    ReorderingCommandExecutor(CommandProcessor processor, int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive: " + window);
+        }
+        this.processor = processor;
+        this.window = window;
+    }
+
+    /**
+     * Starts the workers for one {@link #execute} call; they are released when the dispatcher is closed.
+     */
+    abstract CartDispatcher openDispatcher();
+
+    @Override
+    public long execute(Iterator<? extends Command> commands, ResponseWriter writer) throws IOException {
+        ReorderBuffer<Response> responses = new ReorderBuffer<>(window);
+        long submitted = 0;
+        long written = 0;
+        try (CartDispatcher dispatcher = openDispatcher()) {
+            while (commands.hasNext()) {
+                if (submitted - written == window) {
+                    writer.write(responses.take(written++));
+                }
+                Command command = commands.next();
+                long sequence = submitted++;
+                dispatcher.dispatch(command.cartId(), () -> run(command, sequence, responses));
+
+                Response ready;
+                while (written < submitted && (ready = responses.poll(written)) != null) {
+                    writer.write(ready);
+                    written++;
+                }
+            }
+            while (written < submitted) {
+                writer.write(responses.take(written++));
+            }
+        }
+        return written;
+    }
+
+    private void run(Command command, long sequence, ReorderBuffer<Response> responses) {
+        try {
+            responses.complete(sequence, processor.processCommand(command));
+        } catch (Throwable t) {
+            responses.fail(t);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.shoppingcart.execution;
+
+import com.shoppingcart.cart.CartRegistry;
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.handlers.CommandProcessor;
+import com.shoppingcart.io.ResponseWriter;
+import com.shoppingcart.responses.Response;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs commands through a three-stage pipeline over a ring of preallocated slots, in the style of the LMAX
+ * Disruptor:
+ * <ol>
+ *     <li>the calling thread claims the next sequence, fills its slot with the decoded command and publishes it;</li>
+ *     <li>one consumer thread per shard walks the published slots and processes the commands whose cart hashes to
+ *     its shard, so each cart's commands run in order on one thread;</li>
+ *     <li>an encoder thread follows the slowest shard and writes the responses in sequence order.</li>
+ * </ol>
+ * Stages hand off through padded sequence counters only: no locks, and no allocation beyond what the commands
+ * themselves produce. The producer waits when the ring is full until the encoder frees slots.
+ */
+public class RingBufferCommandExecutor implements CommandExecutor {
+
+    public static final int DEFAULT_RING_SIZE = 1 << 14;
+
+    private static final long END_UNKNOWN = Long.MAX_VALUE;
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long PARK_NANOS = 50_000;
+
+    private final CommandProcessor processor;
+    private final int shards;
+    private final int ringSize;
+
+    public RingBufferCommandExecutor(CommandProcessor processor, int shards) {
+        this(processor, shards, DEFAULT_RING_SIZE);
+    }
+
+    public RingBufferCommandExecutor(CommandProcessor processor, int shards, int ringSize) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shards);
+        }
+        if (ringSize <= 0 || Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("Ring size must be a positive power of two: " + ringSize);
+        }
+        this.processor = processor;
+        this.shards = shards;
+        this.ringSize = ringSize;
+    }
+
+    @Override
+    public long execute(Iterator<? extends Command> commands, ResponseWriter writer) throws IOException {
+        Pipeline pipeline = new Pipeline(writer);
+        pipeline.start();
+        try {
+            pipeline.produce(commands);
+        } catch (RuntimeException | Error e) {
+            pipeline.abort(e);
+            throw e;
+        }
+        pipeline.await();
+        return pipeline.written.get() + 1;
+    }
+
+    int shardOf(int cartId) {
+        return (CartRegistry.spread(cartId) & Integer.MAX_VALUE) % shards;
+    }
+
+    private static final class Slot {
+        Command command;
+        int shard;
+        Response response;
+    }
+
+    /**
+     * The state of one {@link #execute} call.
+     */
+    private final class Pipeline {
+
+        private final ResponseWriter writer;
+        private final Slot[] slots = new Slot[ringSize];
+        private final int mask = ringSize - 1;
+        private final Sequence published = new Sequence(-1);
+        private final Sequence[] processed = new Sequence[shards];
+        private final Sequence written = new Sequence(-1);
+        private final Sequence end = new Sequence(END_UNKNOWN);
+        private final Thread[] threads = new Thread[shards + 1];
+        private volatile Throwable failure;
+
+        Pipeline(ResponseWriter writer) {
+            this.writer = writer;
+            for (int i = 0; i < ringSize; i++) {
+                slots[i] = new Slot();
+            }
+            for (int i = 0; i < shards; i++) {
+                processed[i] = new Sequence(-1);
+            }
+        }
+
+        void start() {
+            for (int i = 0; i < shards; i++) {
+                int shard = i;
+                threads[i] = newThread(() -> consume(shard), "ring-shard-" + i);
+            }
+            threads[shards] = newThread(this::encode, "ring-encoder");
+            for (Thread thread : threads) {
+                thread.start();
+            }
+        }
+
+        void produce(Iterator<? extends Command> commands) {
+            long next = 0;
+            long freeUpTo = ringSize - 1;
+            while (commands.hasNext()) {
+                Command command = commands.next();
+                if (next > freeUpTo) {
+                    int tries = 0;
+                    while ((freeUpTo = written.get() + ringSize) < next) {
+                        tries = idle(tries);
+                        if (failure != null) {
+                            return;
+                        }
+                    }
+                }
+                Slot slot = slots[(int) next & mask];
+                slot.command = command;
+                slot.shard = shardOf(command.cartId());
+                published.set(next++);
+            }
+            end.set(next);
+        }
+
+        /**
+         * Waits for the other stages to drain the ring, then reports any failure they recorded.
+         */
+        void await() throws IOException {
+            joinAll();
+            Throwable cause = failure;
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause != null) {
+                throw new IllegalStateException("Command execution failed", cause);
+            }
+        }
+
+        /**
+         * Stops the other stages after the producer itself failed.
+         */
+        void abort(Throwable cause) {
+            failure = cause;
+            joinAll();
+        }
+
+        private void joinAll() {
+            for (Thread thread : threads) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for the command pipeline", e);
+                }
+            }
+        }
+
+        private void consume(int shard) {
+            Sequence progress = processed[shard];
+            long next = 0;
+            try {
+                while (true) {
+                    long available = waitFor(published, next);
+                    if (available < next) {
+                        return;
+                    }
+                    for (; next <= available; next++) {
+                        Slot slot = slots[(int) next & mask];
+                        if (slot.shard == shard) {
+                            slot.response = processor.processCommand(slot.command);
+                        }
+                    }
+                    progress.set(available);
+                }
+            } catch (Throwable t) {
+                failure = t;
+            }
+        }
+
+        private void encode() {
+            long next = 0;
+            try {
+                while (true) {
+                    long available = waitForShards(next);
+                    if (available < next) {
+                        return;
+                    }
+                    for (; next <= available; next++) {
+                        Slot slot = slots[(int) next & mask];
+                        writer.write(slot.response);
+                        slot.command = null;
+                        slot.response = null;
+                    }
+                    written.set(available);
+                }
+            } catch (Throwable t) {
+                failure = t;
+            }
+        }
+
+        /**
+         * @return The highest published sequence, at least {@code next}, or {@code next - 1} once the input is
+         * exhausted or the pipeline has failed.
+         */
+        private long waitFor(Sequence sequence, long next) {
+            int tries = 0;
+            long available;
+            while ((available = sequence.get()) < next) {
+                if (end.get() == next || failure != null) {
+                    return next - 1;
+                }
+                tries = idle(tries);
+            }
+            return available;
+        }
+
+        private long waitForShards(long next) {
+            int tries = 0;
+            while (true) {
+                long available = Long.MAX_VALUE;
+                for (Sequence progress : processed) {
+                    available = Math.min(available, progress.get());
+                }
+                if (available >= next) {
+                    return available;
+                }
+                if (end.get() == next || failure != null) {
+                    return next - 1;
+                }
+                tries = idle(tries);
+            }
+        }
+    }
+
+    /**
+     * Spins, then yields, then parks briefly, so waiting stages stay responsive without pinning a core.
+     */
+    private static int idle(int tries) {
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (tries < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return tries + 1;
+    }
+
+    private static Thread newThread(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
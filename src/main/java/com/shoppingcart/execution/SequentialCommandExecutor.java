@@ -0,0 +1,30 @@
+package com.shoppingcart.execution;
+
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.handlers.CommandProcessor;
+import com.shoppingcart.io.ResponseWriter;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Runs every command on the calling thread.
+ */
+public class SequentialCommandExecutor implements CommandExecutor {
+
+    private final CommandProcessor processor;
+
+    public SequentialCommandExecutor(CommandProcessor processor) {
+        this.processor = processor;
+    }
+
+    @Override
+    public long execute(Iterator<? extends Command> commands, ResponseWriter writer) throws IOException {
+        long processed = 0;
+        while (commands.hasNext()) {
+            writer.write(processor.processCommand(commands.next()));
+            processed++;
+        }
+        return processed;
+    }
+}
@@ -0,0 +1,112 @@
+package com.shoppingcart.execution;
+
+import com.shoppingcart.handlers.CommandProcessor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Gives every active cart its own mailbox, drained by a virtual thread that exists only while the mailbox has work.
+ * Commands of a cart run in input order; idle carts hold no thread, so very many carts with uneven activity can be
+ * in flight at once. Responses are written in input order.
+ */
+public class VirtualThreadCommandExecutor extends ReorderingCommandExecutor {
+
+    private static final int MIN_PRUNE_THRESHOLD = 1 << 16;
+
+    public VirtualThreadCommandExecutor(CommandProcessor processor) {
+        this(processor, DEFAULT_WINDOW);
+    }
+
+    public VirtualThreadCommandExecutor(CommandProcessor processor, int window) {
+        super(processor, window);
+    }
+
+    @Override
+    CartDispatcher openDispatcher() {
+        return new MailboxDispatcher(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Owned by the reading thread: only it looks up, creates and prunes mailboxes.
+     */
+    private static final class MailboxDispatcher implements CartDispatcher {
+
+        private final ExecutorService threads;
+        private final Map<Integer, Mailbox> mailboxes = new HashMap<>();
+        private int pruneThreshold = MIN_PRUNE_THRESHOLD;
+
+        MailboxDispatcher(ExecutorService threads) {
+            this.threads = threads;
+        }
+
+        @Override
+        public void dispatch(int cartId, Runnable task) {
+            Mailbox mailbox = mailboxes.get(cartId);
+            if (mailbox == null) {
+                if (mailboxes.size() >= pruneThreshold) {
+                    pruneIdleMailboxes();
+                }
+                mailbox = new Mailbox(threads);
+                mailboxes.put(cartId, mailbox);
+            }
+            mailbox.post(task);
+        }
+
+        @Override
+        public void close() {
+            threads.shutdownNow();
+        }
+
+        /**
+         * Drops mailboxes with no pending work. A cart that becomes active again gets a fresh mailbox; its new
+         * drainer starts only after the old one has finished, so the cart's commands stay ordered.
+         */
+        private void pruneIdleMailboxes() {
+            mailboxes.values().removeIf(Mailbox::isIdle);
+            pruneThreshold = Math.max(MIN_PRUNE_THRESHOLD, mailboxes.size() * 2);
+        }
+    }
+
+    private static final class Mailbox implements Runnable {
+
+        private final ExecutorService threads;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Mailbox(ExecutorService threads) {
+            this.threads = threads;
+        }
+
+        void post(Runnable task) {
+            tasks.offer(task);
+            if (scheduled.compareAndSet(false, true)) {
+                threads.execute(this);
+            }
+        }
+
+        /**
+         * Only meaningful on the posting thread, when no post can race with the check.
+         */
+        boolean isIdle() {
+            return !scheduled.get() && tasks.isEmpty();
+        }
+
+        @Override
+        public void run() {
+            do {
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+                scheduled.set(false);
+                // A task posted after the last poll found the mailbox still scheduled, so pick it up here
+            } while (!tasks.isEmpty() && scheduled.compareAndSet(false, true));
+        }
+    }
+}
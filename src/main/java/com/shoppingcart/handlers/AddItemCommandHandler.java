@@ -1,35 +1,31 @@
 package com.shoppingcart.handlers;
 
 import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.AddItemCommand;
+import com.shoppingcart.commands.Command;
 import com.shoppingcart.factories.ItemFactory;
 import com.shoppingcart.models.IItem;
+import com.shoppingcart.responses.MessageResponse;
+import com.shoppingcart.responses.PreEncodedResponse;
+import com.shoppingcart.responses.Response;
 import org.json.JSONObject;
 
-import java.math.BigDecimal;
-
 public class AddItemCommandHandler implements ICommandHandler {
 
-    private final ICart cart;
+    private static final Response ITEM_ADDED = PreEncodedResponse.of(new MessageResponse(true, "Item added successfully"));
 
-    public AddItemCommandHandler(ICart cart) {
-        this.cart = cart;
+    @Override
+    public JSONObject handleCommand(ICart cart, JSONObject command) {
+        return handleCommand(cart, AddItemCommand.fromJSON(command)).toJSON();
     }
 
     @Override
-    public JSONObject handleCommand(JSONObject command) {
-        JSONObject response = new JSONObject();
-        JSONObject payload = command.getJSONObject("payload");
-
-        int itemId = payload.getInt("itemId");
-        int categoryId = payload.getInt("categoryId");
-        int sellerId = payload.getInt("sellerId");
-        BigDecimal price = payload.getBigDecimal("price");
-        int quantity = payload.getInt("quantity");
+    public Response handleCommand(ICart cart, Command command) {
+        AddItemCommand addItem = (AddItemCommand) command;
 
-        IItem item = ItemFactory.getInstance().createItem(itemId, categoryId, sellerId, price, quantity);
+        IItem item = ItemFactory.getInstance().createItem(addItem.itemId(), addItem.categoryId(), addItem.sellerId(),
+                addItem.price(), addItem.quantity());
         cart.addItem(item);
-        response.put("result", true);
-        response.put("message", "Item added successfully");
-        return response;
+        return ITEM_ADDED;
     }
 }
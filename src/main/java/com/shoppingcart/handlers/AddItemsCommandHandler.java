@@ -0,0 +1,76 @@
+package com.shoppingcart.handlers;
+
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.AddItemCommand;
+import com.shoppingcart.commands.AddItemsCommand;
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.exceptions.ItemValidationException;
+import com.shoppingcart.factories.ItemFactory;
+import com.shoppingcart.models.IItem;
+import com.shoppingcart.responses.BatchResponse;
+import com.shoppingcart.responses.BatchResponse.ItemResponse;
+import com.shoppingcart.responses.MessageResponse;
+import com.shoppingcart.responses.RejectionResponse;
+import com.shoppingcart.responses.Response;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adds a batch of items all or nothing and reports every item: those that were added, those rejected with
+ * their reason, and those left out because another item of the batch was rejected. A batch that would break
+ * the amount limit as a whole gives every item the amount rejection.
+ */
+public class AddItemsCommandHandler implements ICommandHandler {
+
+    private static final Response ITEM_ADDED = new MessageResponse(true, "Item added successfully");
+    private static final Response ITEM_NOT_ADDED = new MessageResponse(false, "Item not added because another item in the batch was rejected.");
+
+    @Override
+    public JSONObject handleCommand(ICart cart, JSONObject command) {
+        return handleCommand(cart, AddItemsCommand.fromJSON(command)).toJSON();
+    }
+
+    @Override
+    public Response handleCommand(ICart cart, Command command) {
+        List<AddItemCommand> addItems = ((AddItemsCommand) command).items();
+
+        List<IItem> items = new ArrayList<>(addItems.size());
+        Map<Integer, ItemValidationException> failures = new HashMap<>();
+        for (int i = 0; i < addItems.size(); i++) {
+            AddItemCommand addItem = addItems.get(i);
+            try {
+                items.add(ItemFactory.getInstance().createItem(addItem.itemId(), addItem.categoryId(),
+                        addItem.sellerId(), addItem.price(), addItem.quantity()));
+            } catch (ItemValidationException e) {
+                failures.put(i, e);
+            }
+        }
+        if (failures.isEmpty()) {
+            failures = cart.addItems(items);
+        }
+
+        List<ItemResponse> responses = new ArrayList<>(addItems.size());
+        for (int i = 0; i < addItems.size(); i++) {
+            responses.add(new ItemResponse(addItems.get(i).itemId(), itemResponse(failures, i)));
+        }
+        return new BatchResponse(failures.isEmpty(), responses);
+    }
+
+    private static Response itemResponse(Map<Integer, ItemValidationException> failures, int index) {
+        if (failures.isEmpty()) {
+            return ITEM_ADDED;
+        }
+        ItemValidationException failure = failures.get(index);
+        if (failure == null) {
+            return ITEM_NOT_ADDED;
+        }
+        if (failure.getError() == null) {
+            return new MessageResponse(false, "Item validation failed: " + failure.getMessage());
+        }
+        return new RejectionResponse("Item validation failed: ", failure);
+    }
+}
@@ -1,38 +1,31 @@
 package com.shoppingcart.handlers;
 
 import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.AddVasItemToItemCommand;
+import com.shoppingcart.commands.Command;
 import com.shoppingcart.models.VasItem;
+import com.shoppingcart.responses.MessageResponse;
+import com.shoppingcart.responses.PreEncodedResponse;
+import com.shoppingcart.responses.Response;
 import org.json.JSONObject;
 
-import java.math.BigDecimal;
-
 public class AddVasItemToItemCommandHandler implements ICommandHandler {
 
-    private final ICart cart;
+    private static final Response VAS_ITEM_ADDED = PreEncodedResponse.of(new MessageResponse(true, "VAS item added successfully"));
 
-    public AddVasItemToItemCommandHandler(ICart cart) {
-        this.cart = cart;
+    @Override
+    public JSONObject handleCommand(ICart cart, JSONObject command) {
+        return handleCommand(cart, AddVasItemToItemCommand.fromJSON(command)).toJSON();
     }
 
     @Override
-    public JSONObject handleCommand(JSONObject command) {
-        JSONObject response = new JSONObject();
-
-        JSONObject payload = command.getJSONObject("payload");
+    public Response handleCommand(ICart cart, Command command) {
+        AddVasItemToItemCommand addVasItem = (AddVasItemToItemCommand) command;
 
-        int parentItemId = payload.getInt("itemId");
-        int vasItemId = payload.getInt("vasItemId");
-        int vasCategoryId = payload.getInt("vasCategoryId");
-        int vasSellerId = payload.getInt("vasSellerId");
-        BigDecimal price = payload.getBigDecimal("price");
-        int quantity = payload.getInt("quantity");
-
-        VasItem vasItem = new VasItem(parentItemId, vasItemId, vasCategoryId, vasSellerId, price, quantity);
+        VasItem vasItem = new VasItem(addVasItem.itemId(), addVasItem.vasItemId(), addVasItem.vasCategoryId(),
+                addVasItem.vasSellerId(), addVasItem.price(), addVasItem.quantity());
 
         cart.addVasItem(vasItem);
-        response.put("result", true);
-        response.put("message", "VAS item added successfully");
-
-        return response;
+        return VAS_ITEM_ADDED;
     }
 }
@@ -1,7 +1,16 @@
 package com.shoppingcart.handlers;
 
+import com.shoppingcart.cart.CartRegistry;
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.commands.JsonCommand;
+import com.shoppingcart.config.Config;
 import com.shoppingcart.exceptions.ItemNotFoundException;
 import com.shoppingcart.exceptions.ItemValidationException;
+import com.shoppingcart.exceptions.RejectionException;
+import com.shoppingcart.responses.JsonResponse;
+import com.shoppingcart.responses.MessageResponse;
+import com.shoppingcart.responses.RejectionResponse;
+import com.shoppingcart.responses.Response;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.slf4j.Logger;
@@ -9,14 +18,22 @@ import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
- * Processor for handling commands and dispatching them to appropriate handlers.
+ * Processor for handling commands and dispatching them to appropriate handlers, together with the cart
+ * named by each command's {@code cartId}.
  */
 public class CommandProcessor {
 
     private static final Logger logger = LoggerFactory.getLogger(CommandProcessor.class);
+    private static final LogRateLimiter rejectionLogLimiter = new LogRateLimiter(logger, Config.REJECTION_LOG_RATE);
     private final Map<String, ICommandHandler> handlers = new HashMap<>();
+    private final CartRegistry carts;
+
+    public CommandProcessor(CartRegistry carts) {
+        this.carts = carts;
+    }
 
     /**
      * Registers a handler for a specific command type.
@@ -36,30 +53,56 @@ public class CommandProcessor {
      */
     public JSONObject processCommand(JSONObject command) {
         String commandType = command.getString("command");
+        return dispatch(commandType,
+                handler -> new JsonResponse(handler.handleCommand(carts.getOrCreate(Command.cartIdOf(command)), command)))
+                .toJSON();
+    }
+
+    /**
+     * Processes a typed command and dispatches it to the appropriate handler. Commands that the decoder
+     * kept in JSON form take the {@link #processCommand(JSONObject)} path.
+     *
+     * @param command The command to process.
+     * @return The response, ready to be encoded.
+     */
+    public Response processCommand(Command command) {
+        if (command instanceof JsonCommand jsonCommand) {
+            return new JsonResponse(processCommand(jsonCommand.json()));
+        }
+        return dispatch(command.type(), handler -> handler.handleCommand(carts.getOrCreate(command.cartId()), command));
+    }
+
+    private Response dispatch(String commandType, Function<ICommandHandler, Response> invocation) {
         ICommandHandler handler = handlers.get(commandType);
-        JSONObject response = new JSONObject();
         try {
             if (handler != null) {
-                response = handler.handleCommand(command);
-            } else {
-                logger.warn("Unknown command: {}", commandType);
-                response.put("result", false);
-                response.put("message", "Unknown command: " + commandType);
+                return invocation.apply(handler);
             }
+            logger.warn("Unknown command: {}", commandType);
+            return new MessageResponse(false, "Unknown command: " + commandType);
         } catch (JSONException e) {
-            response.put("result", false);
-            response.put("message", "JSON parsing error: " + e.getMessage());
+            return new MessageResponse(false, "JSON parsing error: " + e.getMessage());
         } catch (ItemValidationException e) {
-            response.put("result", false);
-            response.put("message", "Item validation failed: " + e.getMessage());
+            return reject("Item validation failed: ", "Item validation error: {}", e);
         } catch (ItemNotFoundException e) {
-            response.put("result", false);
-            response.put("message", "Parent item not found: " + e.getMessage());
+            return reject("Parent item not found: ", "Item not found error: {}", e);
         } catch (Exception e) {
             logger.error("Error processing command: {}", commandType, e);
-            response.put("result", false);
-            response.put("message", "Error processing command: " + e.getMessage());
+            return new MessageResponse(false, "Error processing command: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Answers a rejected command without formatting its message; the text is only built when the response is
+     * encoded, or when the rejection is one of the few logged each second.
+     */
+    private static Response reject(String prefix, String logFormat, RejectionException e) {
+        if (logger.isErrorEnabled() && rejectionLogLimiter.tryAcquire()) {
+            logger.error(logFormat, e.getMessage());
+        }
+        if (e.getError() == null) {
+            return new MessageResponse(false, prefix + e.getMessage());
         }
-        return response;
+        return new RejectionResponse(prefix, e);
     }
 }
@@ -1,22 +1,27 @@
 package com.shoppingcart.handlers;
 
 import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.responses.PreEncodedResponse;
+import com.shoppingcart.responses.Response;
 import org.json.JSONObject;
 
 public class DisplayCartCommandHandler implements ICommandHandler {
 
-    private final ICart cart;
-
-    public DisplayCartCommandHandler(ICart cart) {
-        this.cart = cart;
-    }
-
     @Override
-    public JSONObject handleCommand(JSONObject command) {
+    public JSONObject handleCommand(ICart cart, JSONObject command) {
         JSONObject response = new JSONObject();
         JSONObject cartJson = cart.display();
         response.put("result", true);
         response.put("message", cartJson.getJSONObject("message"));
         return response;
     }
+
+    /**
+     * Encodes the cart as it is now, so later commands cannot change what this response shows.
+     */
+    @Override
+    public Response handleCommand(ICart cart, Command command) {
+        return PreEncodedResponse.encode(cart::display);
+    }
 }
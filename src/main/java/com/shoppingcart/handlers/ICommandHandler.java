@@ -1,7 +1,19 @@
 package com.shoppingcart.handlers;
 
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.responses.Response;
 import org.json.JSONObject;
 
+/**
+ * Handles one command type. Handlers keep no cart state of their own; the processor resolves the target cart
+ * from the command's {@code cartId} and passes it in, so one handler instance serves every cart.
+ */
 public interface ICommandHandler {
-    JSONObject handleCommand(JSONObject command);
+    JSONObject handleCommand(ICart cart, JSONObject command);
+
+    /**
+     * Handles a command that has already been decoded into its typed form.
+     */
+    Response handleCommand(ICart cart, Command command);
 }
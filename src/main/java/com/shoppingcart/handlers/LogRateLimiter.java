@@ -0,0 +1,52 @@
+package com.shoppingcart.handlers;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets through at most a fixed number of log messages per second and reports how many were dropped since the
+ * last report once a later second starts. Thread-safe; the count for a second may overshoot slightly while it rolls over.
+ */
+final class LogRateLimiter {
+
+    private final Logger logger;
+    private final int messagesPerSecond;
+    private final AtomicLong currentSecond = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger permitted = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * @param messagesPerSecond Messages allowed per second; zero or less drops them all.
+     */
+    LogRateLimiter(Logger logger, int messagesPerSecond) {
+        this.logger = logger;
+        this.messagesPerSecond = messagesPerSecond;
+    }
+
+    /**
+     * Returns whether the caller may log a message now.
+     */
+    boolean tryAcquire() {
+        if (messagesPerSecond <= 0) {
+            return false;
+        }
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        long previous = currentSecond.get();
+        if (second != previous && currentSecond.compareAndSet(previous, second)) {
+            permitted.set(0);
+            long dropped = suppressed.sumThenReset();
+            if (dropped > 0) {
+                logger.warn("Suppressed {} log messages since the last report.", dropped);
+            }
+        }
+        if (permitted.incrementAndGet() <= messagesPerSecond) {
+            return true;
+        }
+        suppressed.increment();
+        return false;
+    }
+}
@@ -1,6 +1,11 @@
 package com.shoppingcart.handlers;
 
 import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.commands.RemoveItemCommand;
+import com.shoppingcart.responses.MessageResponse;
+import com.shoppingcart.responses.PreEncodedResponse;
+import com.shoppingcart.responses.Response;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,24 +13,20 @@ import org.slf4j.LoggerFactory;
 public class RemoveItemCommandHandler implements ICommandHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(RemoveItemCommandHandler.class);
-    private final ICart cart;
+    private static final Response ITEM_REMOVED = PreEncodedResponse.of(new MessageResponse(true, "Item removed successfully"));
 
-    public RemoveItemCommandHandler(ICart cart) {
-        this.cart = cart;
+    @Override
+    public JSONObject handleCommand(ICart cart, JSONObject command) {
+        return handleCommand(cart, RemoveItemCommand.fromJSON(command)).toJSON();
     }
 
     @Override
-    public JSONObject handleCommand(JSONObject command) {
-        JSONObject response = new JSONObject();
-
-        JSONObject payload = command.getJSONObject("payload");
-        int itemId = payload.getInt("itemId");
+    public Response handleCommand(ICart cart, Command command) {
+        int itemId = ((RemoveItemCommand) command).itemId();
         logger.info("Attempting to remove item with ID: {}", itemId);
 
         cart.removeItem(itemId);
-        response.put("result", true);
-        response.put("message", "Item removed successfully");
         logger.info("Item removed successfully. ID: {}", itemId);
-        return response;
+        return ITEM_REMOVED;
     }
 }
@@ -1,6 +1,11 @@
 package com.shoppingcart.handlers;
 
 import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.commands.ResetCartCommand;
+import com.shoppingcart.responses.MessageResponse;
+import com.shoppingcart.responses.PreEncodedResponse;
+import com.shoppingcart.responses.Response;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.slf4j.Logger;
@@ -9,27 +14,25 @@ import org.slf4j.LoggerFactory;
 public class ResetCartCommandHandler implements ICommandHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ResetCartCommandHandler.class);
-    private final ICart cart;
-
-    public ResetCartCommandHandler(ICart cart) {
-        this.cart = cart;
-    }
+    private static final Response CART_RESET = PreEncodedResponse.of(new MessageResponse(true, "Cart has been reset successfully"));
 
     @Override
-    public JSONObject handleCommand(JSONObject command) {
-        JSONObject response = new JSONObject();
+    public JSONObject handleCommand(ICart cart, JSONObject command) {
         if (command == null || !command.has("command")) {
             logger.warn("Invalid command structure received: {}", command);
             throw new JSONException("Invalid command structure.");
         }
+        return handleCommand(cart, ResetCartCommand.INSTANCE).toJSON();
+    }
+
+    @Override
+    public Response handleCommand(ICart cart, Command command) {
         if (cart == null) {
             logger.error("Cart instance is null.");
             throw new RuntimeException("Cart is null.");
         }
         cart.reset();
-        response.put("result", true);
-        response.put("message", "Cart has been reset successfully");
         logger.info("Cart reset successfully.");
-        return response;
+        return CART_RESET;
     }
 }
@@ -0,0 +1,27 @@
+package com.shoppingcart.handlers;
+
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.commands.SetQuantityCommand;
+import com.shoppingcart.responses.MessageResponse;
+import com.shoppingcart.responses.PreEncodedResponse;
+import com.shoppingcart.responses.Response;
+import org.json.JSONObject;
+
+public class SetQuantityCommandHandler implements ICommandHandler {
+
+    private static final Response QUANTITY_UPDATED = PreEncodedResponse.of(new MessageResponse(true, "Item quantity updated successfully"));
+
+    @Override
+    public JSONObject handleCommand(ICart cart, JSONObject command) {
+        return handleCommand(cart, SetQuantityCommand.fromJSON(command)).toJSON();
+    }
+
+    @Override
+    public Response handleCommand(ICart cart, Command command) {
+        SetQuantityCommand setQuantity = (SetQuantityCommand) command;
+
+        cart.setItemQuantity(setQuantity.itemId(), setQuantity.quantity());
+        return QUANTITY_UPDATED;
+    }
+}
@@ -0,0 +1,428 @@
+package com.shoppingcart.io;
+
+import com.shoppingcart.commands.AddItemCommand;
+import com.shoppingcart.commands.AddVasItemToItemCommand;
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.commands.DisplayCartCommand;
+import com.shoppingcart.commands.JsonCommand;
+import com.shoppingcart.commands.RemoveItemCommand;
+import com.shoppingcart.commands.ResetCartCommand;
+import com.shoppingcart.commands.SetQuantityCommand;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes the six known command schemas straight from their JSON bytes into typed commands, without
+ * building a {@link org.json.JSONObject}. Integers are parsed as primitives and prices are built from
+ * their unscaled digits.
+ * <p>
+ * Anything outside the fast path (unknown commands, missing or non-numeric fields, a non-integer
+ * {@code cartId}, exponents, escaped keys, duplicate keys) falls back to org.json and is returned as a
+ * {@link JsonCommand}, so the resulting responses and error messages are unchanged.
+ * <p>
+ * Instances keep parsing state in fields and are not thread-safe; use one decoder per reader.
+ */
+public final class CommandDecoder implements CommandFrameDecoder<Command> {
+
+    private static final int ITEM_ID = 1;
+    private static final int CATEGORY_ID = 1 << 1;
+    private static final int SELLER_ID = 1 << 2;
+    private static final int PRICE = 1 << 3;
+    private static final int QUANTITY = 1 << 4;
+    private static final int VAS_ITEM_ID = 1 << 5;
+    private static final int VAS_CATEGORY_ID = 1 << 6;
+    private static final int VAS_SELLER_ID = 1 << 7;
+
+    private static final int ADD_ITEM_FIELDS = ITEM_ID | CATEGORY_ID | SELLER_ID | PRICE | QUANTITY;
+    private static final int ADD_VAS_ITEM_FIELDS = ITEM_ID | VAS_ITEM_ID | VAS_CATEGORY_ID | VAS_SELLER_ID | PRICE | QUANTITY;
+    private static final int SET_QUANTITY_FIELDS = ITEM_ID | QUANTITY;
+
+    private static final int MAX_PRICE_DIGITS = 18;
+
+    private static final byte[] COMMAND_KEY = ascii("command");
+    private static final byte[] PAYLOAD_KEY = ascii("payload");
+    private static final byte[] CART_ID_KEY = ascii(Command.CART_ID_KEY);
+    private static final byte[][] FIELD_KEYS = {
+            ascii("itemId"), ascii("categoryId"), ascii("sellerId"), ascii("price"),
+            ascii("quantity"), ascii("vasItemId"), ascii("vasCategoryId"), ascii("vasSellerId")
+    };
+    private static final String[] COMMAND_TYPES = {
+            AddItemCommand.TYPE, AddVasItemToItemCommand.TYPE, RemoveItemCommand.TYPE,
+            ResetCartCommand.TYPE, DisplayCartCommand.TYPE, SetQuantityCommand.TYPE
+    };
+    private static final byte[][] COMMAND_TYPE_BYTES = {
+            ascii(AddItemCommand.TYPE), ascii(AddVasItemToItemCommand.TYPE), ascii(RemoveItemCommand.TYPE),
+            ascii(ResetCartCommand.TYPE), ascii(DisplayCartCommand.TYPE), ascii(SetQuantityCommand.TYPE)
+    };
+
+    private byte[] bytes;
+    private int pos;
+    private int end;
+    private String commandType;
+    private boolean hasPayload;
+    private boolean hasCartId;
+    private int cartId;
+    private int intValue;
+    private int fields;
+    private final int[] intFields = new int[FIELD_KEYS.length];
+    private long priceUnscaled;
+    private int priceScale;
+
+    @Override
+    public Command decode(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.pos = offset;
+        this.end = offset + length;
+        this.commandType = null;
+        this.hasPayload = false;
+        this.hasCartId = false;
+        this.cartId = Command.DEFAULT_CART_ID;
+        this.fields = 0;
+
+        Command command = parseCommand() ? buildCommand() : null;
+        this.bytes = null;
+        if (command != null) {
+            return command;
+        }
+        return new JsonCommand(JSONFileOperations.JSON_OBJECT_DECODER.decode(bytes, offset, length));
+    }
+
+    private Command buildCommand() {
+        if (commandType == null) {
+            return null;
+        }
+        switch (commandType) {
+            case AddItemCommand.TYPE:
+                if (!hasPayload || (fields & ADD_ITEM_FIELDS) != ADD_ITEM_FIELDS) {
+                    return null;
+                }
+                return new AddItemCommand(cartId, intField(ITEM_ID), intField(CATEGORY_ID), intField(SELLER_ID),
+                        BigDecimal.valueOf(priceUnscaled, priceScale), intField(QUANTITY));
+            case AddVasItemToItemCommand.TYPE:
+                if (!hasPayload || (fields & ADD_VAS_ITEM_FIELDS) != ADD_VAS_ITEM_FIELDS) {
+                    return null;
+                }
+                return new AddVasItemToItemCommand(cartId, intField(ITEM_ID), intField(VAS_ITEM_ID), intField(VAS_CATEGORY_ID),
+                        intField(VAS_SELLER_ID), BigDecimal.valueOf(priceUnscaled, priceScale), intField(QUANTITY));
+            case RemoveItemCommand.TYPE:
+                if (!hasPayload || (fields & ITEM_ID) == 0) {
+                    return null;
+                }
+                return new RemoveItemCommand(cartId, intField(ITEM_ID));
+            case SetQuantityCommand.TYPE:
+                if (!hasPayload || (fields & SET_QUANTITY_FIELDS) != SET_QUANTITY_FIELDS) {
+                    return null;
+                }
+                return new SetQuantityCommand(cartId, intField(ITEM_ID), intField(QUANTITY));
+            case ResetCartCommand.TYPE:
+                return ResetCartCommand.forCart(cartId);
+            case DisplayCartCommand.TYPE:
+                return DisplayCartCommand.forCart(cartId);
+            default:
+                return null;
+        }
+    }
+
+    private int intField(int field) {
+        return intFields[Integer.numberOfTrailingZeros(field)];
+    }
+
+    private boolean parseCommand() {
+        skipWhitespace();
+        if (!consume('{')) {
+            return false;
+        }
+        skipWhitespace();
+        if (consume('}')) {
+            return atEnd();
+        }
+        while (true) {
+            int keyStart = pos + 1;
+            int keyEnd = scanKey();
+            if (keyEnd < 0) {
+                return false;
+            }
+            if (matches(keyStart, keyEnd, COMMAND_KEY)) {
+                if (commandType != null || !parseCommandType()) {
+                    return false;
+                }
+            } else if (matches(keyStart, keyEnd, PAYLOAD_KEY)) {
+                if (hasPayload || !parsePayload()) {
+                    return false;
+                }
+                hasPayload = true;
+            } else if (matches(keyStart, keyEnd, CART_ID_KEY)) {
+                if (hasCartId || !parseInt()) {
+                    return false;
+                }
+                hasCartId = true;
+                cartId = intValue;
+            } else if (!skipValue()) {
+                return false;
+            }
+            skipWhitespace();
+            if (consume('}')) {
+                return atEnd();
+            }
+            if (!consume(',')) {
+                return false;
+            }
+            skipWhitespace();
+        }
+    }
+
+    private boolean parseCommandType() {
+        if (!consume('"')) {
+            return false;
+        }
+        int start = pos;
+        while (pos < end && bytes[pos] != '"') {
+            if (bytes[pos] == '\\') {
+                return false;
+            }
+            pos++;
+        }
+        if (pos == end) {
+            return false;
+        }
+        for (int i = 0; i < COMMAND_TYPE_BYTES.length; i++) {
+            if (matches(start, pos, COMMAND_TYPE_BYTES[i])) {
+                commandType = COMMAND_TYPES[i];
+                pos++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean parsePayload() {
+        if (!consume('{')) {
+            return false;
+        }
+        skipWhitespace();
+        if (consume('}')) {
+            return true;
+        }
+        while (true) {
+            int keyStart = pos + 1;
+            int keyEnd = scanKey();
+            if (keyEnd < 0) {
+                return false;
+            }
+            int field = fieldOf(keyStart, keyEnd);
+            if (field != 0) {
+                if ((fields & field) != 0) {
+                    return false;
+                }
+                if (!(field == PRICE ? parsePrice() : parseInt())) {
+                    return false;
+                }
+                if (field != PRICE) {
+                    intFields[Integer.numberOfTrailingZeros(field)] = intValue;
+                }
+                fields |= field;
+            } else if (!skipValue()) {
+                return false;
+            }
+            skipWhitespace();
+            if (consume('}')) {
+                return true;
+            }
+            if (!consume(',')) {
+                return false;
+            }
+            skipWhitespace();
+        }
+    }
+
+    private int fieldOf(int keyStart, int keyEnd) {
+        for (int i = 0; i < FIELD_KEYS.length; i++) {
+            if (matches(keyStart, keyEnd, FIELD_KEYS[i])) {
+                return 1 << i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Reads a quoted key and the following colon, leaving the position at the start of the value.
+     *
+     * @return The end offset of the key contents, or -1 if the key is not a plain string.
+     */
+    private int scanKey() {
+        if (!consume('"')) {
+            return -1;
+        }
+        while (pos < end && bytes[pos] != '"') {
+            if (bytes[pos] == '\\') {
+                return -1;
+            }
+            pos++;
+        }
+        if (pos == end) {
+            return -1;
+        }
+        int keyEnd = pos++;
+        skipWhitespace();
+        if (!consume(':')) {
+            return -1;
+        }
+        skipWhitespace();
+        return keyEnd;
+    }
+
+    private boolean parseInt() {
+        boolean negative = consume('-');
+        int start = pos;
+        long value = 0;
+        while (pos < end && isDigit(bytes[pos])) {
+            value = value * 10 + (bytes[pos++] - '0');
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return false;
+            }
+        }
+        if (pos == start || (bytes[start] == '0' && pos - start > 1) || !atValueEnd()) {
+            return false;
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            return false;
+        }
+        intValue = (int) value;
+        return true;
+    }
+
+    private boolean parsePrice() {
+        boolean negative = consume('-');
+        int start = pos;
+        long unscaled = 0;
+        int digits = 0;
+        int scale = 0;
+        while (pos < end && isDigit(bytes[pos])) {
+            unscaled = unscaled * 10 + (bytes[pos++] - '0');
+            digits++;
+        }
+        if (digits == 0 || (bytes[start] == '0' && digits > 1)) {
+            return false;
+        }
+        if (consume('.')) {
+            while (pos < end && isDigit(bytes[pos])) {
+                unscaled = unscaled * 10 + (bytes[pos++] - '0');
+                digits++;
+                scale++;
+            }
+            if (scale == 0) {
+                return false;
+            }
+        }
+        if (digits > MAX_PRICE_DIGITS || !atValueEnd()) {
+            return false;
+        }
+        priceUnscaled = negative ? -unscaled : unscaled;
+        priceScale = scale;
+        return true;
+    }
+
+    /**
+     * Skips a value of any type without interpreting it.
+     */
+    private boolean skipValue() {
+        if (pos == end) {
+            return false;
+        }
+        byte b = bytes[pos];
+        if (b == '"') {
+            return skipString();
+        }
+        if (b == '{' || b == '[') {
+            int depth = 0;
+            while (pos < end) {
+                b = bytes[pos];
+                if (b == '"') {
+                    if (!skipString()) {
+                        return false;
+                    }
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    pos++;
+                    return true;
+                }
+                pos++;
+            }
+            return false;
+        }
+        int start = pos;
+        while (pos < end && !isDelimiter(bytes[pos])) {
+            pos++;
+        }
+        return pos > start;
+    }
+
+    private boolean skipString() {
+        pos++;
+        while (pos < end) {
+            byte b = bytes[pos++];
+            if (b == '\\') {
+                pos++;
+            } else if (b == '"') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(int start, int stop, byte[] expected) {
+        if (stop - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (bytes[start + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean consume(char expected) {
+        if (pos < end && bytes[pos] == expected) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean atValueEnd() {
+        return pos < end && isDelimiter(bytes[pos]);
+    }
+
+    private boolean atEnd() {
+        skipWhitespace();
+        return pos == end;
+    }
+
+    private void skipWhitespace() {
+        while (pos < end && isWhitespace(bytes[pos])) {
+            pos++;
+        }
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == ',' || b == '}' || b == ']' || isWhitespace(b);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,11 @@
+package com.shoppingcart.io;
+
+/**
+ * Turns the raw bytes of a single command object into its in-memory representation.
+ *
+ * @param <T> The decoded command type.
+ */
+@FunctionalInterface
+public interface CommandFrameDecoder<T> {
+    T decode(byte[] bytes, int offset, int length);
+}
@@ -0,0 +1,34 @@
+package com.shoppingcart.io;
+
+import java.util.Locale;
+
+/**
+ * Layouts supported for command and response files.
+ */
+public enum FileFormat {
+    /**
+     * A single top-level JSON array.
+     */
+    JSON,
+    /**
+     * Newline-delimited JSON: one object per line.
+     */
+    NDJSON;
+
+    /**
+     * Picks the format from a file extension: {@code .ndjson} and {@code .jsonl} are newline-delimited,
+     * anything else is a JSON array.
+     */
+    public static FileFormat fromPath(String filePath) {
+        String lowerCasePath = filePath.toLowerCase(Locale.ROOT);
+        return lowerCasePath.endsWith(".ndjson") || lowerCasePath.endsWith(".jsonl") ? NDJSON : JSON;
+    }
+
+    public static FileFormat fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown file format: " + name);
+        }
+    }
+}
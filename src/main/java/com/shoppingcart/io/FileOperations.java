@@ -1,13 +1,31 @@
 package com.shoppingcart.io;
 
+import com.shoppingcart.commands.Command;
 import org.json.JSONObject;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface FileOperations {
 
     List<JSONObject> readCommandsFromFile(String filePath) throws IOException;
 
+    /**
+     * Lazily reads commands one at a time. The returned stream holds the file open and must be closed.
+     */
+    Stream<JSONObject> streamCommandsFromFile(String filePath) throws IOException;
+
+    /**
+     * Lazily reads commands decoded straight into typed {@link Command}s. The returned stream must be closed.
+     */
+    Stream<Command> streamTypedCommandsFromFile(String filePath) throws IOException;
+
     void writeResponsesToFile(List<JSONObject> responses, String filePath) throws IOException;
+
+    /**
+     * Opens a writer that appends each response to the output file as soon as it is written.
+     * Output is compact unless {@code prettyPrint} is set.
+     */
+    ResponseWriter openResponseWriter(String filePath, boolean prettyPrint) throws IOException;
 }
@@ -0,0 +1,110 @@
+package com.shoppingcart.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the command objects of a top-level JSON array one at a time, so only the command
+ * currently being decoded is held in memory regardless of the input size.
+ *
+ * @param <T> The decoded command type.
+ */
+final class JSONArrayCommandReader<T> implements Iterator<T>, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_FRAME_SIZE = 1024;
+
+    private final InputStream input;
+    private final CommandFrameDecoder<T> decoder;
+    private final JSONArrayFrameScanner scanner = new JSONArrayFrameScanner();
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private byte[] frame = new byte[INITIAL_FRAME_SIZE];
+    private int frameLength;
+    private T next;
+    private boolean finished;
+
+    JSONArrayCommandReader(InputStream input, CommandFrameDecoder<T> decoder) {
+        this.input = input;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T command = next;
+        next = null;
+        return command;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        input.close();
+    }
+
+    private T readNext() {
+        while (true) {
+            if (position == limit && !fill()) {
+                scanner.finish();
+                finished = true;
+                return null;
+            }
+            byte b = buffer[position++];
+            switch (scanner.next(b)) {
+                case FRAME_START:
+                    frameLength = 0;
+                    append(b);
+                    break;
+                case FRAME_BYTE:
+                    append(b);
+                    break;
+                case FRAME_END:
+                    append(b);
+                    return decoder.decode(frame, 0, frameLength);
+                case ARRAY_END:
+                    finished = true;
+                    return null;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private boolean fill() {
+        try {
+            int read = input.read(buffer);
+            if (read <= 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(byte b) {
+        if (frameLength == frame.length) {
+            frame = Arrays.copyOf(frame, frame.length * 2);
+        }
+        frame[frameLength++] = b;
+    }
+}
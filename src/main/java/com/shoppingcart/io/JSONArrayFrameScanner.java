@@ -0,0 +1,117 @@
+package com.shoppingcart.io;
+
+import org.json.JSONException;
+
+/**
+ * Byte-level state machine that locates the command objects of a top-level JSON array
+ * without tokenizing their contents. Callers feed it one byte at a time and copy or slice
+ * the bytes between {@link Event#FRAME_START} and {@link Event#FRAME_END}.
+ */
+final class JSONArrayFrameScanner {
+
+    enum Event {
+        SKIP,
+        FRAME_START,
+        FRAME_BYTE,
+        FRAME_END,
+        ARRAY_END
+    }
+
+    private boolean arrayStarted;
+    private boolean arrayEnded;
+    private boolean frameEnded;
+    private boolean separatorSeen;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+    private long offset;
+
+    Event next(byte b) {
+        long position = offset++;
+        if (depth > 0) {
+            return nextInFrame(b);
+        }
+        if (isWhitespace(b)) {
+            return Event.SKIP;
+        }
+        if (!arrayStarted) {
+            if (b != '[') {
+                throw new JSONException("A command file must start with '[' at byte " + position);
+            }
+            arrayStarted = true;
+            return Event.SKIP;
+        }
+        if (arrayEnded) {
+            throw new JSONException("Unexpected content after the command array at byte " + position);
+        }
+        switch (b) {
+            case ',':
+                if (!frameEnded) {
+                    throw new JSONException("Unexpected ',' without a preceding command object at byte " + position);
+                }
+                frameEnded = false;
+                separatorSeen = true;
+                return Event.SKIP;
+            case ']':
+                if (separatorSeen) {
+                    throw new JSONException("Trailing ',' before the end of the command array at byte " + position);
+                }
+                arrayEnded = true;
+                return Event.ARRAY_END;
+            case '{':
+                if (frameEnded) {
+                    throw new JSONException("Expected ',' between command objects at byte " + position);
+                }
+                separatorSeen = false;
+                depth = 1;
+                return Event.FRAME_START;
+            default:
+                throw new JSONException("Expected a command object at byte " + position);
+        }
+    }
+
+    /**
+     * Verifies that the input ended on a complete array.
+     */
+    void finish() {
+        if (!arrayEnded) {
+            throw new JSONException("Unterminated command array at byte " + offset);
+        }
+    }
+
+    private Event nextInFrame(byte b) {
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+            } else if (b == '\\') {
+                escaped = true;
+            } else if (b == '"') {
+                inString = false;
+            }
+            return Event.FRAME_BYTE;
+        }
+        switch (b) {
+            case '"':
+                inString = true;
+                break;
+            case '{':
+            case '[':
+                depth++;
+                break;
+            case '}':
+            case ']':
+                if (--depth == 0) {
+                    frameEnded = true;
+                    return Event.FRAME_END;
+                }
+                break;
+            default:
+                break;
+        }
+        return Event.FRAME_BYTE;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+}
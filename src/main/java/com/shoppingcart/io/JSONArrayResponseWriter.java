@@ -0,0 +1,86 @@
+package com.shoppingcart.io;
+
+import com.shoppingcart.responses.Response;
+import com.shoppingcart.responses.ResponseEncoder;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes responses as the elements of a single JSON array, producing the same bytes as
+ * {@code new JSONArray(responses).toString()} (or {@code toString(4)} when pretty-printing)
+ * without holding the responses in memory. Compact responses are encoded straight into the
+ * output buffer; pretty-printing goes through org.json's indenting writer.
+ */
+final class JSONArrayResponseWriter implements ResponseWriter {
+
+    private static final int INDENT_FACTOR = 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final ResponseEncoder encoder;
+    private final boolean prettyPrint;
+    private Response pendingFirst;
+    private int count;
+
+    JSONArrayResponseWriter(WritableByteChannel channel, boolean prettyPrint) {
+        this.channel = channel;
+        this.encoder = new ResponseEncoder(channel, BUFFER_SIZE);
+        this.prettyPrint = prettyPrint;
+        encoder.writeByte('[');
+    }
+
+    @Override
+    public void write(Response response) throws IOException {
+        try {
+            if (!prettyPrint) {
+                if (count > 0) {
+                    encoder.writeByte(',');
+                }
+                response.encodeTo(encoder);
+            } else if (count == 0) {
+                // A single-element array is laid out differently, so hold the first element until a second arrives
+                pendingFirst = response;
+            } else {
+                if (count == 1) {
+                    writeIndented(pendingFirst);
+                    pendingFirst = null;
+                }
+                encoder.writeByte(',');
+                writeIndented(response);
+            }
+            count++;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            if (prettyPrint && count == 1) {
+                encoder.writeRaw(indent(pendingFirst, 0));
+            } else if (prettyPrint && count > 1) {
+                encoder.writeByte('\n');
+            }
+            encoder.writeByte(']');
+            encoder.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeIndented(Response response) {
+        encoder.writeByte('\n');
+        encoder.writeRaw(" ".repeat(INDENT_FACTOR));
+        encoder.writeRaw(indent(response, INDENT_FACTOR));
+    }
+
+    private static String indent(Response response, int indent) {
+        StringWriter writer = new StringWriter();
+        response.toJSON().write(writer, INDENT_FACTOR, indent);
+        return writer.toString();
+    }
+}
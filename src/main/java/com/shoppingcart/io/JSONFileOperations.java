@@ -1,27 +1,49 @@
 package com.shoppingcart.io;
 
+import com.shoppingcart.commands.Command;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.ArrayList;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class JSONFileOperations implements FileOperations {
 
+    static final CommandFrameDecoder<JSONObject> JSON_OBJECT_DECODER =
+            (bytes, offset, length) -> new JSONObject(new String(bytes, offset, length, StandardCharsets.UTF_8));
+
     @Override
     public List<JSONObject> readCommandsFromFile(String filePath) throws IOException {
-        String content = new String(Files.readAllBytes(Paths.get(filePath)));
-        JSONArray jsonArray = new JSONArray(content);
-        List<JSONObject> jsonObjects = new ArrayList<>();
-
-        for (int i = 0; i < jsonArray.length(); i++) {
-            jsonObjects.add(jsonArray.getJSONObject(i));
+        try (Stream<JSONObject> commands = streamCommandsFromFile(filePath)) {
+            return commands.collect(Collectors.toList());
         }
+    }
 
-        return jsonObjects;
+    @Override
+    public Stream<JSONObject> streamCommandsFromFile(String filePath) throws IOException {
+        JSONArrayCommandReader<JSONObject> reader = new JSONArrayCommandReader<>(
+                Files.newInputStream(Paths.get(filePath)), JSON_OBJECT_DECODER);
+        return toStream(reader, reader);
+    }
+
+    @Override
+    public Stream<Command> streamTypedCommandsFromFile(String filePath) throws IOException {
+        JSONArrayCommandReader<Command> reader = new JSONArrayCommandReader<>(
+                Files.newInputStream(Paths.get(filePath)), new CommandDecoder());
+        return toStream(reader, reader);
     }
 
     @Override
@@ -29,4 +51,26 @@ public class JSONFileOperations implements FileOperations {
         JSONArray jsonArray = new JSONArray(responses);
         Files.write(Paths.get(filePath), jsonArray.toString(4).getBytes());
     }
+
+    @Override
+    public ResponseWriter openResponseWriter(String filePath, boolean prettyPrint) throws IOException {
+        return new JSONArrayResponseWriter(openOutputChannel(filePath), prettyPrint);
+    }
+
+    static FileChannel openOutputChannel(String filePath) throws IOException {
+        return FileChannel.open(Paths.get(filePath),
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    static <T> Stream<T> toStream(Iterator<T> commands, Closeable source) {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(commands, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        source.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
 }
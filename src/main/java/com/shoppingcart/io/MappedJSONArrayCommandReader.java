@@ -0,0 +1,141 @@
+package com.shoppingcart.io;
+
+import org.json.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the command objects of a top-level JSON array from a memory-mapped file. The file is mapped
+ * in windows that slide forward as commands are consumed, so inputs larger than 2 GB are supported
+ * and command boundaries are found directly in the mapped bytes. A single command must fit in one
+ * window, so commands of 2 GB and more are rejected.
+ *
+ * @param <T> The decoded command type.
+ */
+final class MappedJSONArrayCommandReader<T> implements Iterator<T>, Closeable {
+
+    private final FileChannel channel;
+    private final CommandFrameDecoder<T> decoder;
+    private final JSONArrayFrameScanner scanner = new JSONArrayFrameScanner();
+    private final long fileSize;
+    private final long maxWindowSize;
+    private long windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long windowEnd;
+    private long position;
+    private long frameStart = -1;
+    private byte[] frame = new byte[1024];
+    private T next;
+    private boolean finished;
+
+    MappedJSONArrayCommandReader(FileChannel channel, long windowSize, CommandFrameDecoder<T> decoder) throws IOException {
+        this(channel, windowSize, Integer.MAX_VALUE, decoder);
+    }
+
+    /**
+     * @param maxWindowSize The largest window a command may grow it to, at most {@link Integer#MAX_VALUE}
+     *                      bytes since a mapped buffer is indexed by {@code int}.
+     */
+    MappedJSONArrayCommandReader(FileChannel channel, long windowSize, long maxWindowSize,
+                                 CommandFrameDecoder<T> decoder) throws IOException {
+        this.channel = channel;
+        this.decoder = decoder;
+        this.windowSize = windowSize;
+        this.maxWindowSize = maxWindowSize;
+        this.fileSize = channel.size();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T command = next;
+        next = null;
+        return command;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        window = null;
+        channel.close();
+    }
+
+    private T readNext() {
+        while (true) {
+            if (position == fileSize) {
+                scanner.finish();
+                finished = true;
+                return null;
+            }
+            if (position == windowEnd) {
+                slideWindow();
+            }
+            byte b = window.get((int) (position - windowStart));
+            position++;
+            switch (scanner.next(b)) {
+                case FRAME_START:
+                    frameStart = position - 1;
+                    break;
+                case FRAME_END:
+                    T command = decodeFrame();
+                    frameStart = -1;
+                    return command;
+                case ARRAY_END:
+                    finished = true;
+                    return null;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Maps the next window, starting at the command in progress so that it stays addressable.
+     * A command larger than the window doubles the window size, up to the largest mappable window.
+     */
+    private void slideWindow() {
+        long start = frameStart >= 0 ? frameStart : position;
+        if (position - start >= maxWindowSize) {
+            throw new JSONException("Command starting at byte " + start + " exceeds the largest mappable window of "
+                    + maxWindowSize + " bytes");
+        }
+        while (position - start >= windowSize) {
+            windowSize = Math.min(windowSize * 2, maxWindowSize);
+        }
+        long size = Math.min(windowSize, fileSize - start);
+        try {
+            window = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        windowStart = start;
+        windowEnd = start + size;
+    }
+
+    private T decodeFrame() {
+        int length = (int) (position - frameStart);
+        if (frame.length < length) {
+            frame = Arrays.copyOf(frame, Math.max(length, frame.length * 2));
+        }
+        window.get((int) (frameStart - windowStart), frame, 0, length);
+        return decoder.decode(frame, 0, length);
+    }
+}
@@ -0,0 +1,53 @@
+package com.shoppingcart.io;
+
+import com.shoppingcart.commands.Command;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+/**
+ * JSON array file operations that read commands from a memory-mapped input file, avoiding the
+ * intermediate copies of stream-based reading. Intended for inputs of several hundred MB and more.
+ */
+public class MappedJSONFileOperations extends JSONFileOperations {
+
+    static final long DEFAULT_WINDOW_SIZE = 256L * 1024 * 1024;
+
+    private final long windowSize;
+
+    public MappedJSONFileOperations() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedJSONFileOperations(long windowSize) {
+        if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Window size must be between 1 and " + Integer.MAX_VALUE + " bytes.");
+        }
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public Stream<JSONObject> streamCommandsFromFile(String filePath) throws IOException {
+        return streamMapped(filePath, JSON_OBJECT_DECODER);
+    }
+
+    @Override
+    public Stream<Command> streamTypedCommandsFromFile(String filePath) throws IOException {
+        return streamMapped(filePath, new CommandDecoder());
+    }
+
+    private <T> Stream<T> streamMapped(String filePath, CommandFrameDecoder<T> decoder) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        try {
+            MappedJSONArrayCommandReader<T> reader = new MappedJSONArrayCommandReader<>(channel, windowSize, decoder);
+            return toStream(reader, reader);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+}
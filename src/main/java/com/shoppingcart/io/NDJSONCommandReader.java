@@ -0,0 +1,116 @@
+package com.shoppingcart.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads newline-delimited commands one line at a time. Blank lines are skipped and a trailing
+ * carriage return is dropped, so files written on any platform are accepted.
+ *
+ * @param <T> The decoded command type.
+ */
+final class NDJSONCommandReader<T> implements Iterator<T>, Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream input;
+    private final CommandFrameDecoder<T> decoder;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private byte[] line = new byte[1024];
+    private int lineLength;
+    private T next;
+    private boolean finished;
+
+    NDJSONCommandReader(InputStream input, CommandFrameDecoder<T> decoder) {
+        this.input = input;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T command = next;
+        next = null;
+        return command;
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        input.close();
+    }
+
+    private T readNext() {
+        while (true) {
+            if (position == limit && !fill()) {
+                finished = true;
+                return isBlankLine() ? null : decodeLine();
+            }
+            byte b = buffer[position++];
+            if (b != '\n') {
+                append(b);
+            } else if (!isBlankLine()) {
+                return decodeLine();
+            } else {
+                lineLength = 0;
+            }
+        }
+    }
+
+    private T decodeLine() {
+        int length = lineLength;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        lineLength = 0;
+        return decoder.decode(line, 0, length);
+    }
+
+    private boolean isBlankLine() {
+        for (int i = 0; i < lineLength; i++) {
+            byte b = line[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean fill() {
+        try {
+            int read = input.read(buffer);
+            if (read <= 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void append(byte b) {
+        if (lineLength == line.length) {
+            line = Arrays.copyOf(line, line.length * 2);
+        }
+        line[lineLength++] = b;
+    }
+}
@@ -0,0 +1,56 @@
+package com.shoppingcart.io;
+
+import com.shoppingcart.commands.Command;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * File operations for newline-delimited JSON, where every line holds one command or response.
+ * Line framing allows files to be split on newline boundaries, appended to and resumed.
+ */
+public class NDJSONFileOperations implements FileOperations {
+
+    @Override
+    public List<JSONObject> readCommandsFromFile(String filePath) throws IOException {
+        try (Stream<JSONObject> commands = streamCommandsFromFile(filePath)) {
+            return commands.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Stream<JSONObject> streamCommandsFromFile(String filePath) throws IOException {
+        NDJSONCommandReader<JSONObject> reader = new NDJSONCommandReader<>(
+                Files.newInputStream(Paths.get(filePath)), JSONFileOperations.JSON_OBJECT_DECODER);
+        return JSONFileOperations.toStream(reader, reader);
+    }
+
+    @Override
+    public Stream<Command> streamTypedCommandsFromFile(String filePath) throws IOException {
+        NDJSONCommandReader<Command> reader = new NDJSONCommandReader<>(
+                Files.newInputStream(Paths.get(filePath)), new CommandDecoder());
+        return JSONFileOperations.toStream(reader, reader);
+    }
+
+    @Override
+    public void writeResponsesToFile(List<JSONObject> responses, String filePath) throws IOException {
+        try (ResponseWriter writer = openResponseWriter(filePath, false)) {
+            for (JSONObject response : responses) {
+                writer.write(response);
+            }
+        }
+    }
+
+    /**
+     * Opens a newline-delimited writer. Each response must stay on one line, so {@code prettyPrint} is ignored.
+     */
+    @Override
+    public ResponseWriter openResponseWriter(String filePath, boolean prettyPrint) throws IOException {
+        return new NDJSONResponseWriter(JSONFileOperations.openOutputChannel(filePath));
+    }
+}
@@ -0,0 +1,43 @@
+package com.shoppingcart.io;
+
+import com.shoppingcart.responses.Response;
+import com.shoppingcart.responses.ResponseEncoder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes each response as one compact JSON object per line.
+ */
+final class NDJSONResponseWriter implements ResponseWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final ResponseEncoder encoder;
+
+    NDJSONResponseWriter(WritableByteChannel channel) {
+        this.channel = channel;
+        this.encoder = new ResponseEncoder(channel, BUFFER_SIZE);
+    }
+
+    @Override
+    public void write(Response response) throws IOException {
+        try {
+            response.encodeTo(encoder);
+            encoder.writeByte('\n');
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            encoder.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
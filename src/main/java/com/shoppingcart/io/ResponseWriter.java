@@ -0,0 +1,19 @@
+package com.shoppingcart.io;
+
+import com.shoppingcart.responses.JsonResponse;
+import com.shoppingcart.responses.Response;
+import org.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Appends responses to an output file as they are produced. Closing the writer completes the output.
+ */
+public interface ResponseWriter extends Closeable {
+    void write(Response response) throws IOException;
+
+    default void write(JSONObject response) throws IOException {
+        write(new JsonResponse(response));
+    }
+}
@@ -39,20 +39,20 @@ public class DefaultItem extends Item {
                 .sum();
 
         if (vasItem.getItemId() != this.id) {
-            throw new ItemValidationException(ErrorMessages.INVALID_VAS_ITEM_ASSOCIATION.format());
+            throw new ItemValidationException(ErrorMessages.INVALID_VAS_ITEM_ASSOCIATION);
         }
 
         if (!Config.VALID_CATEGORIES_FOR_VAS.contains(this.categoryId)) {
-            throw new ItemValidationException(ErrorMessages.INVALID_VAS_ITEM_CATEGORY.format());
+            throw new ItemValidationException(ErrorMessages.INVALID_VAS_ITEM_CATEGORY);
         }
 
         if (vasItem.getPrice().compareTo(this.price) > 0) {
-            throw new ItemValidationException(ErrorMessages.INVALID_VAS_ITEM_PRICE.format());
+            throw new ItemValidationException(ErrorMessages.INVALID_VAS_ITEM_PRICE);
         }
 
         if (currentVasItemCount + vasItem.getQuantity() > Config.MAX_VAS_ITEMS_PER_DEFAULT_ITEM) {
             throw new ItemValidationException(
-                    ErrorMessages.MAX_VAS_ITEMS_EXCEEDED.format(Config.MAX_VAS_ITEMS_PER_DEFAULT_ITEM));
+                    ErrorMessages.MAX_VAS_ITEMS_EXCEEDED, Config.MAX_VAS_ITEMS_PER_DEFAULT_ITEM);
         }
     }
 }
\ No newline at end of file
@@ -20,11 +20,11 @@ public class DigitalItem extends Item {
     @Override
     protected void validateQuantity(int quantity) {
         if (quantity <= 0) {
-            throw new ItemValidationException(ErrorMessages.INVALID_QUANTITY.format());
+            throw new ItemValidationException(ErrorMessages.INVALID_QUANTITY);
         }
         if (quantity > Config.MAX_DIGITAL_ITEM_QUANTITY) {
             throw new ItemValidationException(
-                    ErrorMessages.MAX_DIGITAL_ITEM_QUANTITY_EXCEEDED.format(Config.MAX_DIGITAL_ITEM_QUANTITY));
+                    ErrorMessages.MAX_DIGITAL_ITEM_QUANTITY_EXCEEDED, Config.MAX_DIGITAL_ITEM_QUANTITY);
         }
     }
 }
\ No newline at end of file
@@ -11,6 +11,11 @@ public interface IItem {
 
     BigDecimal getPrice();
 
+    /**
+     * Returns the price in cents, the form totals and promotions compute with.
+     */
+    long getPriceCents();
+
     int getQuantity();
 
     void setQuantity(int quantity);
@@ -4,6 +4,7 @@ import com.shoppingcart.config.Config;
 import com.shoppingcart.constants.Category;
 import com.shoppingcart.exceptions.ErrorMessages;
 import com.shoppingcart.exceptions.ItemValidationException;
+import com.shoppingcart.money.Money;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -14,6 +15,7 @@ public abstract class Item implements IItem {
     protected int categoryId;
     protected int sellerId;
     protected BigDecimal price;
+    protected long priceCents;
     protected int quantity;
 
     public Item(int itemId, int categoryId, int sellerId, BigDecimal price, int quantity) {
@@ -25,7 +27,8 @@ public abstract class Item implements IItem {
         this.id = itemId;
         this.categoryId = categoryId;
         this.sellerId = sellerId;
-        this.price = price.setScale(2, RoundingMode.HALF_UP);
+        this.price = price.setScale(Money.SCALE, RoundingMode.HALF_UP);
+        this.priceCents = Money.toCents(this.price);
         this.quantity = quantity;
     }
 
@@ -49,6 +52,11 @@ public abstract class Item implements IItem {
         return price;
     }
 
+    @Override
+    public long getPriceCents() {
+        return priceCents;
+    }
+
     @Override
     public int getQuantity() {
         return quantity;
@@ -73,59 +81,59 @@ public abstract class Item implements IItem {
 
     private void validateId(int id) {
         if (id < 0) {
-            throw new ItemValidationException(ErrorMessages.INVALID_ITEM_ID.format());
+            throw new ItemValidationException(ErrorMessages.INVALID_ITEM_ID);
         }
     }
 
     protected void validateSellerId(int sellerId) {
         if (sellerId < 0) {
-            throw new ItemValidationException(ErrorMessages.INVALID_SELLER_ID.format());
+            throw new ItemValidationException(ErrorMessages.INVALID_SELLER_ID);
         }
         if (this instanceof VasItem) {
             if (sellerId != Config.VAS_ITEM_SELLER_ID) {
                 throw new ItemValidationException(
-                        ErrorMessages.INVALID_SELLER_ID_FOR_VAS.format(sellerId, Config.VAS_ITEM_SELLER_ID));
+                        ErrorMessages.INVALID_SELLER_ID_FOR_VAS, sellerId, Config.VAS_ITEM_SELLER_ID);
             }
         } else if (sellerId == Config.VAS_ITEM_SELLER_ID) {
             throw new ItemValidationException(
-                    ErrorMessages.INVALID_SELLER_ID_FOR_NON_VAS.format(sellerId, this.getClass().getSimpleName(), Config.VAS_ITEM_SELLER_ID));
+                    ErrorMessages.INVALID_SELLER_ID_FOR_NON_VAS, sellerId, this.getClass().getSimpleName(), Config.VAS_ITEM_SELLER_ID);
         }
     }
 
     protected void validateCategoryId(int categoryId) {
         if (categoryId < 0) {
-            throw new ItemValidationException(ErrorMessages.INVALID_CATEGORY_ID.format());
+            throw new ItemValidationException(ErrorMessages.INVALID_CATEGORY_ID);
         }
         if (categoryId == Category.DIGITAL_ITEM.getId() && !(this instanceof DigitalItem)) {
-            throw new ItemValidationException(ErrorMessages.INVALID_CATEGORY_FOR_DIGITAL.format(
-                    this.getClass().getSimpleName(), Category.DIGITAL_ITEM.getId()));
+            throw new ItemValidationException(ErrorMessages.INVALID_CATEGORY_FOR_DIGITAL,
+                    this.getClass().getSimpleName(), Category.DIGITAL_ITEM.getId());
         } else if (categoryId == Category.VAS_ITEM.getId() && !(this instanceof VasItem)) {
-            throw new ItemValidationException(ErrorMessages.INVALID_CATEGORY_FOR_VAS.format(
-                    this.getClass().getSimpleName(), Category.VAS_ITEM.getId()));
+            throw new ItemValidationException(ErrorMessages.INVALID_CATEGORY_FOR_VAS,
+                    this.getClass().getSimpleName(), Category.VAS_ITEM.getId());
         } else if (this instanceof VasItem && categoryId != Category.VAS_ITEM.getId()) {
-            throw new ItemValidationException(ErrorMessages.INVALID_CATEGORY_FOR_VAS_ITEM.format(
-                    categoryId, Category.VAS_ITEM.getId()));
+            throw new ItemValidationException(ErrorMessages.INVALID_CATEGORY_FOR_VAS_ITEM,
+                    categoryId, Category.VAS_ITEM.getId());
         }
     }
 
     protected void validateQuantity(int quantity) {
         if (quantity <= 0) {
-            throw new ItemValidationException(ErrorMessages.INVALID_QUANTITY.format());
+            throw new ItemValidationException(ErrorMessages.INVALID_QUANTITY);
         }
         if (quantity > Config.MAX_QUANTITY_PER_ITEM) {
-            throw new ItemValidationException(ErrorMessages.MAX_QUANTITY_EXCEEDED.format(Config.MAX_QUANTITY_PER_ITEM));
+            throw new ItemValidationException(ErrorMessages.MAX_QUANTITY_EXCEEDED, Config.MAX_QUANTITY_PER_ITEM);
         }
     }
 
     protected void validatePrice(BigDecimal price) {
         if (price == null) {
-            throw new ItemValidationException(ErrorMessages.PRICE_CANNOT_BE_NULL.format());
+            throw new ItemValidationException(ErrorMessages.PRICE_CANNOT_BE_NULL);
         }
         if (price.compareTo(BigDecimal.ZERO) < 0) {
-            throw new ItemValidationException(ErrorMessages.PRICE_CANNOT_BE_NEGATIVE.format());
+            throw new ItemValidationException(ErrorMessages.PRICE_CANNOT_BE_NEGATIVE);
         }
         if (price.compareTo(Config.MAX_TOTAL_AMOUNT) > 0) {
-            throw new ItemValidationException(ErrorMessages.PRICE_EXCEEDS_MAX.format(Config.MAX_TOTAL_AMOUNT));
+            throw new ItemValidationException(ErrorMessages.PRICE_EXCEEDS_MAX, Config.MAX_TOTAL_AMOUNT);
         }
     }
 }
\ No newline at end of file
@@ -23,10 +23,10 @@ public class VasItem extends Item {
     @Override
     protected void validateQuantity(int quantity) {
         if (quantity <= 0) {
-            throw new ItemValidationException(ErrorMessages.INVALID_QUANTITY.format());
+            throw new ItemValidationException(ErrorMessages.INVALID_QUANTITY);
         }
         if (quantity > Config.MAX_VAS_ITEMS_PER_DEFAULT_ITEM) {
-            throw new ItemValidationException(ErrorMessages.MAX_QUANTITY_EXCEEDED.format(Config.MAX_VAS_ITEMS_PER_DEFAULT_ITEM));
+            throw new ItemValidationException(ErrorMessages.MAX_QUANTITY_EXCEEDED, Config.MAX_VAS_ITEMS_PER_DEFAULT_ITEM);
         }
     }
 
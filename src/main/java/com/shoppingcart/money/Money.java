@@ -0,0 +1,57 @@
+package com.shoppingcart.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amounts held as a whole number of cents in a {@code long}. Cart totals and the built-in promotions compute in
+ * cents, so pricing allocates nothing; {@link BigDecimal} is only used where amounts are read from commands and
+ * written to responses. Arithmetic throws {@link ArithmeticException} on overflow instead of wrapping around.
+ */
+public final class Money {
+
+    public static final int SCALE = 2;
+
+    private Money() {
+    }
+
+    /**
+     * @throws ArithmeticException If the amount has fractions of a cent or does not fit in a {@code long}.
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public static long add(long cents, long otherCents) {
+        return Math.addExact(cents, otherCents);
+    }
+
+    public static long subtract(long cents, long otherCents) {
+        return Math.subtractExact(cents, otherCents);
+    }
+
+    public static long times(long cents, int quantity) {
+        return Math.multiplyExact(cents, quantity);
+    }
+
+    /**
+     * Divides rounding halves away from zero, like {@link RoundingMode#HALF_UP}.
+     */
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        return remainder >= divisor - remainder ? quotient + Long.signum(dividend) : quotient;
+    }
+
+    /**
+     * Divides rounding away from zero, like {@link RoundingMode#UP}.
+     */
+    static long divideUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        return dividend % divisor == 0 ? quotient : quotient + Long.signum(dividend);
+    }
+}
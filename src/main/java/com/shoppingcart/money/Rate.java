@@ -0,0 +1,83 @@
+package com.shoppingcart.money;
+
+import java.math.BigDecimal;
+
+/**
+ * A discount rate such as {@code 0.05}, applied to amounts in cents with exact {@code long} arithmetic. The rate
+ * is kept as an unscaled value and a scale, so cents times the rate is an exact product that only needs one
+ * rounding back to cents, giving the same result as the equivalent {@link BigDecimal} calculation.
+ */
+public final class Rate {
+
+    private static final int MAX_SCALE = 18;
+
+    private final long unscaledValue;
+    private final int scale;
+    private final long divisor;
+
+    private Rate(long unscaledValue, int scale) {
+        this.unscaledValue = unscaledValue;
+        this.scale = scale;
+        this.divisor = pow10(scale);
+    }
+
+    public static Rate of(BigDecimal rate) {
+        return of(rate, Math.max(rate.stripTrailingZeros().scale(), 0));
+    }
+
+    /**
+     * Expresses a rate with a given number of decimals, so that products of rates sharing a scale can be summed
+     * before rounding.
+     */
+    public static Rate of(BigDecimal rate, int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Rate scale must be between 0 and " + MAX_SCALE + ": " + rate);
+        }
+        try {
+            return new Rate(rate.setScale(scale).unscaledValue().longValueExact(), scale);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Rate cannot be held with " + scale + " decimals: " + rate, e);
+        }
+    }
+
+    public int scale() {
+        return scale;
+    }
+
+    /**
+     * Returns the exact product of an amount in cents and this rate, in units of 10<sup>-scale</sup> cents.
+     */
+    public long multiply(long cents) {
+        return Math.multiplyExact(cents, unscaledValue);
+    }
+
+    /**
+     * Rounds a product returned by {@link #multiply} to cents, halves away from zero.
+     */
+    public long roundHalfUp(long product) {
+        return Money.divideHalfUp(product, divisor);
+    }
+
+    /**
+     * Rounds a product returned by {@link #multiply} to cents, away from zero.
+     */
+    public long roundUp(long product) {
+        return Money.divideUp(product, divisor);
+    }
+
+    public long applyHalfUp(long cents) {
+        return roundHalfUp(multiply(cents));
+    }
+
+    public long applyUp(long cents) {
+        return roundUp(multiply(cents));
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,111 @@
+package com.shoppingcart.promotions;
+
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.models.IItem;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shares best-promotion results between carts with the same contents, so a popular bundle is priced once
+ * rather than once per cart. Results are keyed by a {@link CartContentKey} and held in a size-bounded LRU
+ * cache, split into independently locked shards the way {@link com.shoppingcart.cart.CartRegistry} splits
+ * carts. What-if calculations are passed straight to the delegate.
+ * <p>
+ * The cache is thread-safe. Promotions must depend only on cart contents for shared results to be correct.
+ */
+public final class CachingPromotionService implements IPromotionService {
+
+    private static final int SHARD_COUNT = 16;
+
+    private final IPromotionService delegate;
+    private final Shard[] shards;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity Maximum number of cached results; each shard holds an equal share of it.
+     */
+    public CachingPromotionService(IPromotionService delegate, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Promotion cache capacity must be positive: " + capacity);
+        }
+        this.delegate = delegate;
+        this.shards = new Shard[SHARD_COUNT];
+        int shardCapacity = Math.max(1, (capacity + SHARD_COUNT - 1) / SHARD_COUNT);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard(shardCapacity);
+        }
+    }
+
+    @Override
+    public PromotionResult calculateBestPromotion(ICart cart) {
+        if (cart == null || cart.getItems() == null) {
+            return delegate.calculateBestPromotion(cart);
+        }
+        CartContentKey key = CartContentKey.of(cart);
+        Shard shard = shards[(key.hashCode() ^ (key.hashCode() >>> 16)) & (SHARD_COUNT - 1)];
+        PromotionResult result;
+        synchronized (shard) {
+            result = shard.get(key);
+        }
+        if (result != null) {
+            hits.increment();
+            return result;
+        }
+        misses.increment();
+        result = delegate.calculateBestPromotion(cart);
+        synchronized (shard) {
+            shard.put(key, result);
+        }
+        return result;
+    }
+
+    @Override
+    public PromotionResult calculateBestPromotionWithNewItem(ICart cart, IItem newItem) {
+        return delegate.calculateBestPromotionWithNewItem(cart, newItem);
+    }
+
+    @Override
+    public List<PromotionResult> calculateBestPromotionsWithNewItems(ICart cart, List<? extends IItem> newItems) {
+        return delegate.calculateBestPromotionsWithNewItems(cart, newItems);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                size += shard.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * An access-ordered map that drops its least recently used entry once it grows past its capacity.
+     */
+    private static final class Shard extends LinkedHashMap<CartContentKey, PromotionResult> {
+
+        private final int capacity;
+
+        private Shard(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CartContentKey, PromotionResult> eldest) {
+            return size() > capacity;
+        }
+    }
+}
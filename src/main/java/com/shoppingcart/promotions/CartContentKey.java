@@ -0,0 +1,101 @@
+package com.shoppingcart.promotions;
+
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.models.DefaultItem;
+import com.shoppingcart.models.DigitalItem;
+import com.shoppingcart.models.IItem;
+import com.shoppingcart.models.VasItem;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Canonical snapshot of what a cart holds: every item and VAS item with its type, ids, category, seller, price
+ * and quantity, ordered by item id so insertion order does not matter, plus the cart totals. Amounts are
+ * compared in cents. Two carts with
+ * equal keys get the same promotion result. The hash is computed once, when the key is built.
+ */
+final class CartContentKey {
+
+    private static final int FIELDS = 6;
+    private static final int DEFAULT = 0;
+    private static final int DIGITAL = 1;
+    private static final int VAS = 2;
+    private static final int OTHER = 3;
+
+    private final int[] fields;
+    private final long[] amounts;
+    private final int hash;
+
+    private CartContentKey(int[] fields, long[] amounts) {
+        this.fields = fields;
+        this.amounts = amounts;
+        this.hash = 31 * Arrays.hashCode(fields) + Arrays.hashCode(amounts);
+    }
+
+    static CartContentKey of(ICart cart) {
+        IItem[] items = cart.getItems().values().toArray(new IItem[0]);
+        Arrays.sort(items, Comparator.comparingInt(IItem::getId));
+        int entries = items.length;
+        for (IItem item : items) {
+            if (item instanceof DefaultItem defaultItem) {
+                entries += defaultItem.getVasItems().size();
+            }
+        }
+
+        int[] fields = new int[entries * FIELDS];
+        long[] amounts = new long[entries + 2];
+        int entry = 0;
+        for (IItem item : items) {
+            entry = put(fields, amounts, entry, item, -1);
+            if (item instanceof DefaultItem defaultItem && !defaultItem.getVasItems().isEmpty()) {
+                VasItem[] vasItems = defaultItem.getVasItems().toArray(new VasItem[0]);
+                Arrays.sort(vasItems, Comparator.comparingInt(VasItem::getId));
+                for (VasItem vasItem : vasItems) {
+                    entry = put(fields, amounts, entry, vasItem, item.getId());
+                }
+            }
+        }
+        amounts[entries] = cart.getTotalPriceCents();
+        amounts[entries + 1] = cart.getNonVasTotalPriceCents();
+        return new CartContentKey(fields, amounts);
+    }
+
+    private static int put(int[] fields, long[] amounts, int entry, IItem item, int parentItemId) {
+        int offset = entry * FIELDS;
+        fields[offset] = typeOf(item);
+        fields[offset + 1] = item.getId();
+        fields[offset + 2] = parentItemId;
+        fields[offset + 3] = item.getCategoryId();
+        fields[offset + 4] = item.getSellerId();
+        fields[offset + 5] = item.getQuantity();
+        amounts[entry] = item.getPriceCents();
+        return entry + 1;
+    }
+
+    private static int typeOf(IItem item) {
+        if (item instanceof VasItem) {
+            return VAS;
+        }
+        if (item instanceof DigitalItem) {
+            return DIGITAL;
+        }
+        return item instanceof DefaultItem ? DEFAULT : OTHER;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CartContentKey other)) {
+            return false;
+        }
+        return hash == other.hash && Arrays.equals(fields, other.fields) && Arrays.equals(amounts, other.amounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
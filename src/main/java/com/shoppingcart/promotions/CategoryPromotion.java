@@ -4,13 +4,17 @@ import com.shoppingcart.cart.ICart;
 import com.shoppingcart.config.Config;
 import com.shoppingcart.constants.PromotionType;
 import com.shoppingcart.models.IItem;
+import com.shoppingcart.money.Money;
+import com.shoppingcart.money.Rate;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.Map;
 
 public class CategoryPromotion implements IPromotion {
 
+    private static final PromotionScope SCOPE = PromotionScope.categories(Config.DISCOUNT_CATEGORIES.keySet());
+    private static final int[] CATEGORY_IDS = Config.DISCOUNT_CATEGORIES.keySet().stream().mapToInt(Integer::intValue).toArray();
+    private static final Rate[] CATEGORY_RATES = commonScaleRates();
+
     private final int id;
 
     public CategoryPromotion() {
@@ -19,22 +23,53 @@ public class CategoryPromotion implements IPromotion {
 
     @Override
     public boolean isApplicable(ICart cart) {
-        return cart.getItems().values().stream().anyMatch(item -> Config.DISCOUNT_CATEGORIES.containsKey(item.getCategoryId()));
+        for (int categoryId : CATEGORY_IDS) {
+            if (cart.getCategoryItemCount(categoryId) > 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public BigDecimal calculatePromotion(ICart cart) {
-        return calculateDiscount(cart.getItems(), BigDecimal.ZERO);
+        return calculateDiscount(cart, 0);
     }
 
     @Override
     public BigDecimal calculatePromotionWithNewItem(ICart cart, IItem newItem) {
-        BigDecimal newItemDiscount = BigDecimal.ZERO;
-        if (Config.DISCOUNT_CATEGORIES.containsKey(newItem.getCategoryId())) {
-            newItemDiscount = newItem.getPrice().multiply(Config.DISCOUNT_CATEGORIES.get(newItem.getCategoryId()));
+        long newItemDiscount = 0;
+        for (int i = 0; i < CATEGORY_IDS.length; i++) {
+            if (CATEGORY_IDS[i] == newItem.getCategoryId()) {
+                newItemDiscount = CATEGORY_RATES[i].multiply(newItem.getPriceCents());
+            }
         }
 
-        return calculateDiscount(cart.getItems(), newItemDiscount);
+        return calculateDiscount(cart, newItemDiscount);
+    }
+
+    /**
+     * The cart's category subtotals make the exact discount as cheap as any estimate. A bound based on
+     * the non-VAS total would not be safe, since re-adding an item at another price moves the two apart.
+     */
+    @Override
+    public BigDecimal getUpperBound(ICart cart) {
+        return calculatePromotion(cart);
+    }
+
+    @Override
+    public BigDecimal getUpperBoundWithNewItem(ICart cart, IItem newItem) {
+        return calculatePromotionWithNewItem(cart, newItem);
+    }
+
+    @Override
+    public PromotionScope getScope() {
+        return SCOPE;
+    }
+
+    @Override
+    public boolean isUpperBoundExact() {
+        return true;
     }
 
     @Override
@@ -42,15 +77,36 @@ public class CategoryPromotion implements IPromotion {
         return id;
     }
 
-    private BigDecimal calculateDiscount(Map<Integer, IItem> items, BigDecimal discount) {
-        for (IItem item : items.values()) {
-            BigDecimal discountRate = Config.DISCOUNT_CATEGORIES.get(item.getCategoryId());
-            if (discountRate != null) {
-                BigDecimal itemTotalPrice = item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity()));
-                discount = discount.add(itemTotalPrice.multiply(discountRate));
+    /**
+     * Works from the cart's per-category subtotals, so the cost depends on the number of discounted
+     * categories rather than on the number of items. The unrounded category discounts are summed and
+     * rounded once.
+     *
+     * @param discount Unrounded discount already due, at the scale of the category rates.
+     */
+    private BigDecimal calculateDiscount(ICart cart, long discount) {
+        for (int i = 0; i < CATEGORY_IDS.length; i++) {
+            if (cart.getCategoryItemCount(CATEGORY_IDS[i]) > 0) {
+                discount = Math.addExact(discount, CATEGORY_RATES[i].multiply(cart.getCategorySubtotalCents(CATEGORY_IDS[i])));
             }
         }
-        return discount.setScale(2, RoundingMode.HALF_UP);
+        return Money.toAmount(CATEGORY_RATES.length == 0 ? 0 : CATEGORY_RATES[0].roundHalfUp(discount));
+    }
+
+    /**
+     * Expresses every category rate with as many decimals as the most precise one, so that their products
+     * can be summed exactly; any of them then rounds the sum. Ordered like {@link #CATEGORY_IDS}.
+     */
+    private static Rate[] commonScaleRates() {
+        int scale = 0;
+        for (BigDecimal rate : Config.DISCOUNT_CATEGORIES.values()) {
+            scale = Math.max(scale, rate.stripTrailingZeros().scale());
+        }
+        Rate[] rates = new Rate[CATEGORY_IDS.length];
+        for (int i = 0; i < CATEGORY_IDS.length; i++) {
+            rates[i] = Rate.of(Config.DISCOUNT_CATEGORIES.get(CATEGORY_IDS[i]), scale);
+        }
+        return rates;
     }
 
 }
\ No newline at end of file
@@ -6,11 +6,51 @@ import com.shoppingcart.models.IItem;
 import java.math.BigDecimal;
 
 public interface IPromotion {
+
+    /**
+     * Combinability groups of a promotion that can only be applied on its own.
+     */
+    long EXCLUSIVE = -1L;
+
     boolean isApplicable(ICart cart);
 
     BigDecimal calculatePromotion(ICart cart);
 
     BigDecimal calculatePromotionWithNewItem(ICart cart, IItem newItem);
 
+    /**
+     * Returns a cheap estimate the discount from {@link #calculatePromotion(ICart)} never exceeds,
+     * so the service can skip promotions that cannot beat the best one found so far.
+     */
+    BigDecimal getUpperBound(ICart cart);
+
+    /**
+     * Same as {@link #getUpperBound(ICart)} for {@link #calculatePromotionWithNewItem(ICart, IItem)}.
+     */
+    BigDecimal getUpperBoundWithNewItem(ICart cart, IItem newItem);
+
+    /**
+     * Returns whether the upper bounds are the discounts themselves whenever the promotion applies, so the
+     * service takes the bound as the discount instead of calculating it a second time.
+     */
+    default boolean isUpperBoundExact() {
+        return false;
+    }
+
     int getId();
+
+    /**
+     * Returns the bit set of combinability groups this promotion takes part in. Two promotions can be applied
+     * together only when they share no group; a promotion in no group stacks with any other.
+     */
+    default long getCombinabilityGroups() {
+        return EXCLUSIVE;
+    }
+
+    /**
+     * Returns the sellers and categories this promotion depends on, so it is only evaluated for carts holding them.
+     */
+    default PromotionScope getScope() {
+        return PromotionScope.GLOBAL;
+    }
 }
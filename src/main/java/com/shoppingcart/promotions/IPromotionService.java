@@ -3,8 +3,16 @@ package com.shoppingcart.promotions;
 import com.shoppingcart.cart.ICart;
 import com.shoppingcart.models.IItem;
 
+import java.util.List;
+
 public interface IPromotionService {
     PromotionResult calculateBestPromotion(ICart cart);
 
     PromotionResult calculateBestPromotionWithNewItem(ICart cart, IItem newItem);
+
+    /**
+     * Returns, for each candidate in order, the best promotion the cart would get if that candidate alone
+     * were added. Equivalent to calling {@link #calculateBestPromotionWithNewItem} per candidate.
+     */
+    List<PromotionResult> calculateBestPromotionsWithNewItems(ICart cart, List<? extends IItem> newItems);
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.shoppingcart.promotions;
+
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.models.IItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps sellers and categories to the positions of the scoped promotions that depend on them, so only the
+ * promotions relevant to a cart are evaluated. Finding them costs in proportion to the cart's distinct sellers
+ * and categories and the promotions they match, not to the size of the catalog.
+ */
+final class PromotionIndex {
+
+    private final int[] allPositions;
+    private final long[] globalMarks;
+    private final Map<Integer, int[]> bySeller;
+    private final Map<Integer, int[]> byCategory;
+
+    PromotionIndex(List<IPromotion> promotions) {
+        List<Integer> global = new ArrayList<>();
+        Map<Integer, List<Integer>> sellers = new HashMap<>();
+        Map<Integer, List<Integer>> categories = new HashMap<>();
+        for (int i = 0; i < promotions.size(); i++) {
+            PromotionScope scope = promotions.get(i).getScope();
+            if (scope.global()) {
+                global.add(i);
+                continue;
+            }
+            for (int sellerId : scope.sellerIds()) {
+                sellers.computeIfAbsent(sellerId, id -> new ArrayList<>()).add(i);
+            }
+            for (int categoryId : scope.categoryIds()) {
+                categories.computeIfAbsent(categoryId, id -> new ArrayList<>()).add(i);
+            }
+        }
+        this.allPositions = new int[promotions.size()];
+        Arrays.setAll(allPositions, i -> i);
+        this.globalMarks = new long[(promotions.size() + Long.SIZE - 1) / Long.SIZE];
+        global.forEach(position -> globalMarks[position / Long.SIZE] |= 1L << position);
+        this.bySeller = toArrays(sellers);
+        this.byCategory = toArrays(categories);
+    }
+
+    /**
+     * Returns the number of words the marks passed to {@link #candidates} must hold.
+     */
+    int markWords() {
+        return globalMarks.length;
+    }
+
+    /**
+     * Writes the positions, in registration order, of the promotions that may apply to the cart once the
+     * optional new item is added, and returns how many there are. Matches are marked in a bit set indexed by
+     * position, which keeps them ordered and unique without sorting.
+     *
+     * @param positions Receives the positions; holds at least one entry per promotion.
+     * @param marks     Scratch bit set of at least {@link #markWords()} words; its contents are overwritten.
+     */
+    int candidates(ICart cart, IItem newItem, int[] positions, long[] marks) {
+        if (bySeller.isEmpty() && byCategory.isEmpty()) {
+            System.arraycopy(allPositions, 0, positions, 0, allPositions.length);
+            return allPositions.length;
+        }
+        System.arraycopy(globalMarks, 0, marks, 0, globalMarks.length);
+        for (Integer sellerId : cart.getSellerIds()) {
+            mark(marks, bySeller.get(sellerId));
+        }
+        for (Integer categoryId : cart.getCategoryIds()) {
+            mark(marks, byCategory.get(categoryId));
+        }
+        if (newItem != null) {
+            mark(marks, bySeller.get(newItem.getSellerId()));
+            mark(marks, byCategory.get(newItem.getCategoryId()));
+        }
+        int count = 0;
+        for (int word = 0; word < globalMarks.length; word++) {
+            for (long bits = marks[word]; bits != 0; bits &= bits - 1) {
+                positions[count++] = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return count;
+    }
+
+    private static void mark(long[] marks, int[] matches) {
+        if (matches == null) {
+            return;
+        }
+        for (int position : matches) {
+            marks[position / Long.SIZE] |= 1L << position;
+        }
+    }
+
+    private static Map<Integer, int[]> toArrays(Map<Integer, List<Integer>> positions) {
+        Map<Integer, int[]> arrays = new HashMap<>();
+        positions.forEach((key, list) -> arrays.put(key, toArray(list)));
+        return arrays;
+    }
+
+    private static int[] toArray(List<Integer> positions) {
+        return positions.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -1,6 +1,16 @@
 package com.shoppingcart.promotions;
 
 import java.math.BigDecimal;
+import java.util.List;
 
-public record PromotionResult(BigDecimal discount, int promotionId) {
+/**
+ * @param discount     The combined discount of the applied promotions.
+ * @param promotionId  The applied promotion giving the largest share of the discount, or -1 when none applies.
+ * @param promotionIds Every applied promotion, in registration order.
+ */
+public record PromotionResult(BigDecimal discount, int promotionId, List<Integer> promotionIds) {
+
+    public PromotionResult(BigDecimal discount, int promotionId) {
+        this(discount, promotionId, promotionId < 0 ? List.of() : List.of(promotionId));
+    }
 }
@@ -0,0 +1,26 @@
+package com.shoppingcart.promotions;
+
+import java.util.Set;
+
+/**
+ * The sellers and categories a promotion depends on. A scoped promotion can only give a discount to a cart
+ * holding an item from one of its sellers or in one of its categories, so it is skipped for every other cart.
+ *
+ * @param global Whether the promotion may apply to any cart regardless of its sellers and categories.
+ */
+public record PromotionScope(boolean global, Set<Integer> sellerIds, Set<Integer> categoryIds) {
+
+    public static final PromotionScope GLOBAL = new PromotionScope(true, Set.of(), Set.of());
+
+    public static PromotionScope of(Set<Integer> sellerIds, Set<Integer> categoryIds) {
+        return new PromotionScope(false, Set.copyOf(sellerIds), Set.copyOf(categoryIds));
+    }
+
+    public static PromotionScope sellers(Set<Integer> sellerIds) {
+        return of(sellerIds, Set.of());
+    }
+
+    public static PromotionScope categories(Set<Integer> categoryIds) {
+        return of(Set.of(), categoryIds);
+    }
+}
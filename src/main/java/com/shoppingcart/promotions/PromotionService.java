@@ -1,68 +1,333 @@
 package com.shoppingcart.promotions;
 
 import com.shoppingcart.cart.ICart;
+import com.shoppingcart.config.Config;
 import com.shoppingcart.exceptions.ErrorMessages;
 import com.shoppingcart.exceptions.ItemValidationException;
 import com.shoppingcart.models.IItem;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 public class PromotionService implements IPromotionService {
 
+    private static final int LEAF_SIZE = 32;
+    private static final int INSERTION_SORT_SIZE = 16;
+    private static final Candidate NO_CANDIDATE = new Candidate(BigDecimal.ZERO, -1);
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
     private final List<IPromotion> promotions;
+    private final int parallelThreshold;
+    private final boolean stacking;
+    private final PromotionIndex index;
 
     public PromotionService(List<IPromotion> promotions) {
+        this(promotions, Config.PROMOTION_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param parallelThreshold Number of promotions from which they are evaluated as fork-join tasks on the
+     *                          common pool. Zero or less always evaluates sequentially.
+     */
+    public PromotionService(List<IPromotion> promotions, int parallelThreshold) {
         this.promotions = promotions;
+        this.parallelThreshold = parallelThreshold;
+        this.stacking = promotions.stream().anyMatch(promotion -> promotion.getCombinabilityGroups() != IPromotion.EXCLUSIVE);
+        this.index = new PromotionIndex(promotions);
     }
 
     @Override
     public PromotionResult calculateBestPromotion(ICart cart) {
         validateCart(cart);
-
-        BigDecimal maxDiscount = BigDecimal.ZERO;
-        int bestPromotionId = -1;
-
-        for (IPromotion promotion : promotions) {
-            BigDecimal discount = promotion.calculatePromotion(cart);
-            if (discount.compareTo(maxDiscount) > 0) {
-                maxDiscount = discount;
-                bestPromotionId = promotion.getId();
-            }
-        }
-        return new PromotionResult(maxDiscount.setScale(2, RoundingMode.HALF_UP), bestPromotionId);
+        return findBestPromotion(cart, null);
     }
 
     @Override
     public PromotionResult calculateBestPromotionWithNewItem(ICart cart, IItem newItem) {
         validateCart(cart);
         validateItem(newItem);
+        return findBestPromotion(cart, newItem);
+    }
+
+    /**
+     * Validates the cart and the candidates once, then prices every candidate against the same cart state.
+     */
+    @Override
+    public List<PromotionResult> calculateBestPromotionsWithNewItems(ICart cart, List<? extends IItem> newItems) {
+        validateCart(cart);
+        if (newItems == null) {
+            throw new ItemValidationException(ErrorMessages.ITEM_CANNOT_BE_NULL);
+        }
+        newItems.forEach(this::validateItem);
+
+        List<PromotionResult> results = new ArrayList<>(newItems.size());
+        for (IItem newItem : newItems) {
+            results.add(findBestPromotion(cart, newItem));
+        }
+        return results;
+    }
+
+    /**
+     * Evaluates the promotions the index finds worth evaluating. Fork-join tasks get their own copy of the
+     * positions, since the scratch copy belongs to the calling thread.
+     *
+     * @param newItem Item the what-if evaluation adds to the cart, or {@code null} to price the cart as it is.
+     */
+    private PromotionResult findBestPromotion(ICart cart, IItem newItem) {
+        Scratch scratch = SCRATCH.get().ensureCandidateCapacity(promotions.size(), index.markWords());
+        int count = index.candidates(cart, newItem, scratch.positions, scratch.marks);
+        if (stacking) {
+            return findBestStack(cart, newItem, scratch.positions, count);
+        }
+        Candidate best = parallelThreshold > 0 && count >= parallelThreshold
+                ? ForkJoinPool.commonPool().invoke(new EvaluationTask(cart, newItem, Arrays.copyOf(scratch.positions, count), 0, count))
+                : findBestCandidate(cart, newItem, scratch.positions, 0, count);
+        int bestPromotionId = best.index() < 0 ? -1 : promotions.get(best.index()).getId();
+        return new PromotionResult(best.discount().setScale(2, RoundingMode.HALF_UP), bestPromotionId);
+    }
+
+    /**
+     * Evaluates the candidate promotions in {@code [from, to)} in descending order of their upper bound and stops once no
+     * remaining promotion can beat the best discount found. Ties still go to the promotion registered first, as
+     * with a plain scan of the list.
+     */
+    private Candidate findBestCandidate(ICart cart, IItem newItem, int[] positions, int from, int to) {
+        int count = to - from;
+        Scratch scratch = SCRATCH.get().ensureCapacity(count);
+        BigDecimal[] bounds = scratch.bounds;
+        int[] order = scratch.order;
+        for (int i = 0; i < count; i++) {
+            bounds[i] = upperBound(promotions.get(positions[from + i]), cart, newItem);
+            order[i] = i;
+        }
+        sortByBoundDescending(order, scratch.buffer, bounds, count);
 
-        int bestPromotionId = -1;
         BigDecimal maxDiscount = BigDecimal.ZERO;
-        for (IPromotion promotion : promotions) {
-            BigDecimal discount = promotion.calculatePromotionWithNewItem(cart, newItem);
-            if (discount.compareTo(maxDiscount) > 0) {
+        int bestIndex = -1;
+        for (int i = 0; i < count; i++) {
+            int index = order[i];
+            int comparison = bounds[index].compareTo(maxDiscount);
+            if (comparison < 0) {
+                break;
+            }
+            if (comparison == 0 && (bestIndex < 0 || index > bestIndex)) {
+                continue;
+            }
+            IPromotion promotion = promotions.get(positions[from + index]);
+            if (!isApplicable(promotion, cart, newItem)) {
+                continue;
+            }
+            BigDecimal discount = promotion.isUpperBoundExact() ? bounds[index] : discount(promotion, cart, newItem);
+            int discountComparison = discount.compareTo(maxDiscount);
+            if (discountComparison > 0 || discountComparison == 0 && bestIndex >= 0 && index < bestIndex) {
                 maxDiscount = discount;
-                bestPromotionId = promotion.getId();
+                bestIndex = index;
+            }
+        }
+        return bestIndex < 0 ? NO_CANDIDATE : new Candidate(maxDiscount, positions[from + bestIndex]);
+    }
+
+    /**
+     * Orders candidate indexes by descending bound, keeping equal bounds in registration order. Short runs,
+     * such as the built-in promotions, are insertion sorted; longer ones are merge sorted through the buffer.
+     */
+    private static void sortByBoundDescending(int[] order, int[] buffer, BigDecimal[] bounds, int count) {
+        if (count <= INSERTION_SORT_SIZE) {
+            for (int i = 1; i < count; i++) {
+                int index = order[i];
+                int j = i - 1;
+                while (j >= 0 && bounds[order[j]].compareTo(bounds[index]) < 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = index;
             }
+            return;
+        }
+        int[] from = order;
+        int[] to = buffer;
+        for (int width = 1; width < count; width *= 2) {
+            for (int low = 0; low < count; low += 2 * width) {
+                int middle = Math.min(low + width, count);
+                int high = Math.min(low + 2 * width, count);
+                int left = low;
+                int right = middle;
+                for (int k = low; k < high; k++) {
+                    if (left < middle && (right >= high || bounds[from[left]].compareTo(bounds[from[right]]) >= 0)) {
+                        to[k] = from[left++];
+                    } else {
+                        to[k] = from[right++];
+                    }
+                }
+            }
+            int[] swap = from;
+            from = to;
+            to = swap;
+        }
+        if (from != order) {
+            System.arraycopy(from, 0, order, 0, count);
         }
-        return new PromotionResult(maxDiscount.setScale(2, RoundingMode.HALF_UP), bestPromotionId);
+    }
+
+    /**
+     * Applies the best-value set of combinable promotions. Promotions that are not applicable or whose upper
+     * bound rules out any discount are left out before the search.
+     */
+    private PromotionResult findBestStack(ICart cart, IItem newItem, int[] candidatePositions, int count) {
+        int[] positions = new int[count];
+        BigDecimal[] discounts = new BigDecimal[count];
+        long[] groups = new long[count];
+        int candidates = 0;
+        for (int i = 0; i < count; i++) {
+            IPromotion promotion = promotions.get(candidatePositions[i]);
+            BigDecimal bound = upperBound(promotion, cart, newItem);
+            if (bound.signum() <= 0 || !isApplicable(promotion, cart, newItem)) {
+                continue;
+            }
+            BigDecimal discount = promotion.isUpperBoundExact() ? bound : discount(promotion, cart, newItem);
+            if (discount.signum() > 0) {
+                positions[candidates] = candidatePositions[i];
+                discounts[candidates] = discount;
+                groups[candidates] = promotion.getCombinabilityGroups();
+                candidates++;
+            }
+        }
+
+        List<Integer> chosen = new PromotionStackSearch(Arrays.copyOf(discounts, candidates), Arrays.copyOf(groups, candidates)).solve();
+        BigDecimal total = BigDecimal.ZERO;
+        BigDecimal largest = BigDecimal.ZERO;
+        int promotionId = -1;
+        List<Integer> promotionIds = new ArrayList<>(chosen.size());
+        for (int candidate : chosen) {
+            IPromotion promotion = promotions.get(positions[candidate]);
+            total = total.add(discounts[candidate]);
+            promotionIds.add(promotion.getId());
+            if (discounts[candidate].compareTo(largest) > 0) {
+                largest = discounts[candidate];
+                promotionId = promotion.getId();
+            }
+        }
+        return new PromotionResult(total.setScale(2, RoundingMode.HALF_UP), promotionId, List.copyOf(promotionIds));
+    }
+
+    /**
+     * Picks the larger discount, or the promotion registered first when they are equal, so the result does not
+     * depend on how the list was split.
+     */
+    private static Candidate better(Candidate first, Candidate second) {
+        if (first.index() < 0) {
+            return second;
+        }
+        if (second.index() < 0) {
+            return first;
+        }
+        int comparison = first.discount().compareTo(second.discount());
+        if (comparison != 0) {
+            return comparison > 0 ? first : second;
+        }
+        return first.index() < second.index() ? first : second;
+    }
+
+    private static BigDecimal upperBound(IPromotion promotion, ICart cart, IItem newItem) {
+        return newItem == null ? promotion.getUpperBound(cart) : promotion.getUpperBoundWithNewItem(cart, newItem);
+    }
+
+    /**
+     * What-if evaluations price every candidate, as the new item may make any of them apply.
+     */
+    private static boolean isApplicable(IPromotion promotion, ICart cart, IItem newItem) {
+        return newItem != null || promotion.isApplicable(cart);
+    }
+
+    private static BigDecimal discount(IPromotion promotion, ICart cart, IItem newItem) {
+        return newItem == null ? promotion.calculatePromotion(cart) : promotion.calculatePromotionWithNewItem(cart, newItem);
     }
 
     private void validateCart(ICart cart) {
         if (cart == null) {
-            throw new ItemValidationException(ErrorMessages.CART_CANNOT_BE_NULL.format());
+            throw new ItemValidationException(ErrorMessages.CART_CANNOT_BE_NULL);
         }
         if (cart.getItems() == null) {
-            throw new ItemValidationException(ErrorMessages.CART_ITEMS_CANNOT_BE_NULL.format());
+            throw new ItemValidationException(ErrorMessages.CART_ITEMS_CANNOT_BE_NULL);
         }
     }
 
     private void validateItem(IItem item) {
         if (item == null) {
-            throw new ItemValidationException(ErrorMessages.ITEM_CANNOT_BE_NULL.format());
+            throw new ItemValidationException(ErrorMessages.ITEM_CANNOT_BE_NULL);
+        }
+    }
+
+    /**
+     * A promotion's position in the list and the discount it gives; a negative index means none applies.
+     */
+    private record Candidate(BigDecimal discount, int index) {
+    }
+
+    /**
+     * Per-thread candidate positions, bounds and sort order, grown to the largest evaluation seen, so pricing a
+     * cart allocates no arrays. Promotions must not call back into the service while it is evaluating them.
+     */
+    private static final class Scratch {
+
+        private int[] positions = new int[0];
+        private long[] marks = new long[0];
+        private BigDecimal[] bounds = new BigDecimal[INSERTION_SORT_SIZE];
+        private int[] order = new int[INSERTION_SORT_SIZE];
+        private int[] buffer = new int[INSERTION_SORT_SIZE];
+
+        private Scratch ensureCandidateCapacity(int promotionCount, int markWords) {
+            if (promotionCount > positions.length) {
+                positions = new int[promotionCount];
+            }
+            if (markWords > marks.length) {
+                marks = new long[markWords];
+            }
+            return this;
+        }
+
+        private Scratch ensureCapacity(int count) {
+            if (count > order.length) {
+                int capacity = Math.max(count, order.length * 2);
+                bounds = new BigDecimal[capacity];
+                order = new int[capacity];
+                buffer = new int[capacity];
+            }
+            return this;
+        }
+    }
+
+    private final class EvaluationTask extends RecursiveTask<Candidate> {
+
+        private final ICart cart;
+        private final IItem newItem;
+        private final int[] positions;
+        private final int from;
+        private final int to;
+
+        private EvaluationTask(ICart cart, IItem newItem, int[] positions, int from, int to) {
+            this.cart = cart;
+            this.newItem = newItem;
+            this.positions = positions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Candidate compute() {
+            if (to - from <= LEAF_SIZE) {
+                return findBestCandidate(cart, newItem, positions, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            EvaluationTask left = new EvaluationTask(cart, newItem, positions, from, middle);
+            left.fork();
+            Candidate right = new EvaluationTask(cart, newItem, positions, middle, to).compute();
+            return better(left.join(), right);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package com.shoppingcart.promotions;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Branch-and-bound search for the subset of candidate promotions with the largest total discount such that no two
+ * share a combinability group.
+ * <ul>
+ *     <li>Candidates in no group stack with everything and are always taken.</li>
+ *     <li>Of the candidates claiming exactly the same groups at most one can be taken, so only the best is kept.</li>
+ *     <li>The rest are explored largest discount first. A branch is cut when even the best remaining discount for
+ *     each free group cannot beat the best total found, or when the same candidates and free groups were already
+ *     reached with at least the same total.</li>
+ * </ul>
+ * Ties go to the set found first: larger discounts first, then earlier registration.
+ */
+final class PromotionStackSearch {
+
+    private final int[] candidates;
+    private final BigDecimal[] discounts;
+    private final long[] groups;
+    private final List<Integer> alwaysTaken = new ArrayList<>();
+    private final BigDecimal[][] bestRemainingByGroup;
+    private final Map<StateKey, BigDecimal> bestTotalByState = new HashMap<>();
+    private final int[] path;
+    private int[] bestPath = new int[0];
+    private BigDecimal bestTotal = BigDecimal.ZERO;
+
+    /**
+     * @param discounts Positive discount of each candidate, in registration order.
+     * @param groups    Combinability groups of each candidate.
+     */
+    PromotionStackSearch(BigDecimal[] discounts, long[] groups) {
+        Map<Long, Integer> bestByGroups = new LinkedHashMap<>();
+        for (int i = 0; i < discounts.length; i++) {
+            if (groups[i] == 0L) {
+                alwaysTaken.add(i);
+            } else {
+                bestByGroups.merge(groups[i], i, (kept, next) -> discounts[next].compareTo(discounts[kept]) > 0 ? next : kept);
+            }
+        }
+        this.candidates = bestByGroups.values().stream()
+                .sorted(Comparator.comparing((Integer i) -> discounts[i]).reversed().thenComparing(i -> i))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        this.discounts = new BigDecimal[candidates.length];
+        this.groups = new long[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            this.discounts[i] = discounts[candidates[i]];
+            this.groups[i] = groups[candidates[i]];
+        }
+        this.bestRemainingByGroup = new BigDecimal[candidates.length + 1][];
+        bestRemainingByGroup[candidates.length] = new BigDecimal[Long.SIZE];
+        for (int i = candidates.length - 1; i >= 0; i--) {
+            BigDecimal[] best = bestRemainingByGroup[i + 1].clone();
+            for (long bits = this.groups[i]; bits != 0; bits &= bits - 1) {
+                int group = Long.numberOfTrailingZeros(bits);
+                if (best[group] == null || this.discounts[i].compareTo(best[group]) > 0) {
+                    best[group] = this.discounts[i];
+                }
+            }
+            bestRemainingByGroup[i] = best;
+        }
+        this.path = new int[candidates.length];
+    }
+
+    /**
+     * Returns the positions of the chosen candidates in ascending order.
+     */
+    List<Integer> solve() {
+        search(0, 0L, BigDecimal.ZERO, 0);
+        List<Integer> chosen = new ArrayList<>(alwaysTaken);
+        for (int step : bestPath) {
+            chosen.add(candidates[step]);
+        }
+        chosen.sort(null);
+        return chosen;
+    }
+
+    private void search(int index, long taken, BigDecimal total, int depth) {
+        if (total.compareTo(bestTotal) > 0) {
+            bestTotal = total;
+            bestPath = Arrays.copyOf(path, depth);
+        }
+        if (index == candidates.length || total.add(upperBound(index, taken)).compareTo(bestTotal) <= 0) {
+            return;
+        }
+        StateKey state = new StateKey(index, taken);
+        BigDecimal seen = bestTotalByState.get(state);
+        if (seen != null && seen.compareTo(total) >= 0) {
+            return;
+        }
+        bestTotalByState.put(state, total);
+
+        if ((groups[index] & taken) == 0) {
+            path[depth] = index;
+            search(index + 1, taken | groups[index], total.add(discounts[index]), depth + 1);
+        }
+        search(index + 1, taken, total, depth);
+    }
+
+    /**
+     * Every taken candidate claims at least one free group, so the best remaining discount per free group
+     * bounds what the remaining candidates can add.
+     */
+    private BigDecimal upperBound(int index, long taken) {
+        BigDecimal[] best = bestRemainingByGroup[index];
+        BigDecimal bound = BigDecimal.ZERO;
+        for (int group = 0; group < Long.SIZE; group++) {
+            if ((taken & (1L << group)) == 0 && best[group] != null) {
+                bound = bound.add(best[group]);
+            }
+        }
+        return bound;
+    }
+
+    private record StateKey(int index, long taken) {
+    }
+}
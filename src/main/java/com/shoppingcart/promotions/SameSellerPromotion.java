@@ -4,15 +4,15 @@ import com.shoppingcart.cart.ICart;
 import com.shoppingcart.config.Config;
 import com.shoppingcart.constants.PromotionType;
 import com.shoppingcart.models.IItem;
+import com.shoppingcart.money.Money;
+import com.shoppingcart.money.Rate;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
 
 public class SameSellerPromotion implements IPromotion {
 
+    private static final Rate RATE = Rate.of(Config.SAME_SELLER_PROMOTION_RATE);
+
     private final int id;
 
     public SameSellerPromotion() {
@@ -21,7 +21,7 @@ public class SameSellerPromotion implements IPromotion {
 
     @Override
     public boolean isApplicable(ICart cart) {
-        return areAllItemsFromSameSeller(cart.getItems().values());
+        return cart.getUniqueItemCount() >= 2 && cart.getDistinctSellerCount() == 1;
     }
 
     @Override
@@ -29,41 +29,40 @@ public class SameSellerPromotion implements IPromotion {
         if (!isApplicable(cart)) {
             return BigDecimal.ZERO;
         }
-        BigDecimal totalDiscountablePrice = cart.getNonVasTotalPrice();
-        return totalDiscountablePrice.multiply(Config.SAME_SELLER_PROMOTION_RATE).setScale(2, RoundingMode.HALF_UP);
+        return Money.toAmount(RATE.applyHalfUp(cart.getNonVasTotalPriceCents()));
     }
 
     @Override
     public BigDecimal calculatePromotionWithNewItem(ICart cart, IItem newItem) {
-
-        List<IItem> tempItems = new ArrayList<>(cart.getItems().values());
-        tempItems.add(newItem);
-        if (areAllItemsFromSameSeller(tempItems)) {
-            BigDecimal totalDiscountablePrice = cart.getNonVasTotalPrice().add(newItem.getPrice());
-            return totalDiscountablePrice.multiply(Config.SAME_SELLER_PROMOTION_RATE).setScale(2, RoundingMode.HALF_UP);
+        if (isApplicableWithNewItem(cart, newItem)) {
+            long discountablePriceCents = Money.add(cart.getNonVasTotalPriceCents(), newItem.getPriceCents());
+            return Money.toAmount(RATE.applyHalfUp(discountablePriceCents));
         } else {
             return BigDecimal.ZERO;
         }
     }
 
     @Override
-    public int getId() {
-        return id;
+    public BigDecimal getUpperBound(ICart cart) {
+        return Money.toAmount(RATE.applyUp(cart.getNonVasTotalPriceCents()));
     }
 
-    private boolean areAllItemsFromSameSeller(Collection<IItem> items) {
-        if (items.size() < 2) {
-            return false;
-        }
+    @Override
+    public BigDecimal getUpperBoundWithNewItem(ICart cart, IItem newItem) {
+        return Money.toAmount(RATE.applyUp(Money.add(cart.getNonVasTotalPriceCents(), newItem.getPriceCents())));
+    }
 
-        int sellerId = items.iterator().next().getSellerId();
-        for (IItem item : items) {
-            if (item.getSellerId() != sellerId) {
-                return false;
-            }
-        }
+    @Override
+    public int getId() {
+        return id;
+    }
 
-        return true;
+    /**
+     * The new item counts as one more entry even when it shares an id with an item already in the cart.
+     */
+    private boolean isApplicableWithNewItem(ICart cart, IItem newItem) {
+        int itemCount = cart.getUniqueItemCount();
+        return itemCount >= 1 && cart.getSellerItemCount(newItem.getSellerId()) == itemCount;
     }
 
 }
\ No newline at end of file
@@ -1,43 +1,60 @@
 package com.shoppingcart.promotions;
 
 import com.shoppingcart.cart.ICart;
+import com.shoppingcart.config.Config;
 import com.shoppingcart.constants.PromotionType;
-import com.shoppingcart.constants.TotalPricePromotionRange;
 import com.shoppingcart.models.IItem;
+import com.shoppingcart.money.Money;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 public class TotalPricePromotion implements IPromotion {
 
+    private static final TotalPriceTiers CONFIGURED_TIERS = TotalPriceTiers.of(Config.TOTAL_PRICE_PROMOTION_TIERS);
+
     private final int id;
+    private final TotalPriceTiers tiers;
 
     public TotalPricePromotion() {
+        this(CONFIGURED_TIERS);
+    }
+
+    public TotalPricePromotion(TotalPriceTiers tiers) {
         this.id = PromotionType.TOTAL_PRICE.id;
+        this.tiers = tiers;
     }
 
     @Override
     public boolean isApplicable(ICart cart) {
-        BigDecimal totalPrice = cart.getTotalPrice();
-        return TotalPricePromotionRange.getRange(totalPrice) != null;
+        return tiers.indexOf(cart.getTotalPriceCents()) >= 0;
     }
 
     @Override
     public BigDecimal calculatePromotion(ICart cart) {
-        TotalPricePromotionRange range = TotalPricePromotionRange.getRange(cart.getTotalPrice());
-        if (range == null) {
-            return BigDecimal.ZERO;
-        }
-        return range.getDiscount().setScale(2, RoundingMode.HALF_UP);
+        return tiers.discountFor(cart.getTotalPriceCents());
     }
 
     @Override
     public BigDecimal calculatePromotionWithNewItem(ICart cart, IItem newItem) {
-        TotalPricePromotionRange range = TotalPricePromotionRange.getRange(cart.getTotalPrice().add(newItem.getPrice()));
-        if (range == null) {
-            return BigDecimal.ZERO;
-        }
-        return range.getDiscount().setScale(2, RoundingMode.HALF_UP);
+        return tiers.discountFor(Money.add(cart.getTotalPriceCents(), newItem.getPriceCents()));
+    }
+
+    /**
+     * The tier lookup is as cheap as a bound, so the bound is the discount itself.
+     */
+    @Override
+    public BigDecimal getUpperBound(ICart cart) {
+        return calculatePromotion(cart);
+    }
+
+    @Override
+    public BigDecimal getUpperBoundWithNewItem(ICart cart, IItem newItem) {
+        return calculatePromotionWithNewItem(cart, newItem);
+    }
+
+    @Override
+    public boolean isUpperBoundExact() {
+        return true;
     }
 
     @Override
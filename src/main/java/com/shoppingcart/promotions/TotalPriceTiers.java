@@ -0,0 +1,91 @@
+package com.shoppingcart.promotions;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Total price promotion tiers compiled into a sorted array of thresholds in cents, so finding the tier
+ * for a total in cents is an allocation-free binary search. Each tier applies from its threshold up to
+ * the next one; the last tier has no upper limit.
+ */
+public final class TotalPriceTiers {
+
+    private static final BigDecimal MAX_CENTS_AMOUNT = BigDecimal.valueOf(Long.MAX_VALUE).movePointLeft(2);
+
+    private final long[] thresholds;
+    private final BigDecimal[] discounts;
+
+    private TotalPriceTiers(long[] thresholds, BigDecimal[] discounts) {
+        this.thresholds = thresholds;
+        this.discounts = discounts;
+    }
+
+    /**
+     * @param tiers Discounts keyed by the total price from which they apply, in whole cents.
+     */
+    public static TotalPriceTiers of(Map<BigDecimal, BigDecimal> tiers) {
+        SortedMap<BigDecimal, BigDecimal> sorted = new TreeMap<>(tiers);
+        long[] thresholds = new long[sorted.size()];
+        BigDecimal[] discounts = new BigDecimal[sorted.size()];
+        int i = 0;
+        for (Map.Entry<BigDecimal, BigDecimal> tier : sorted.entrySet()) {
+            if (tier.getKey().signum() < 0 || tier.getValue().signum() < 0) {
+                throw new IllegalArgumentException("Total price promotion tiers must not be negative: " + tier);
+            }
+            try {
+                thresholds[i] = tier.getKey().setScale(2, RoundingMode.UNNECESSARY).movePointRight(2).longValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Total price promotion tier threshold must be in whole cents: " + tier.getKey(), e);
+            }
+            discounts[i] = tier.getValue().setScale(2, RoundingMode.HALF_UP);
+            i++;
+        }
+        return new TotalPriceTiers(thresholds, discounts);
+    }
+
+    /**
+     * Returns the index of the tier covering a total in cents, or -1 when the total is below every tier.
+     */
+    public int indexOf(long totalCents) {
+        int low = 0;
+        int high = thresholds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= totalCents) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    public int indexOf(BigDecimal totalPrice) {
+        return indexOf(toCents(totalPrice));
+    }
+
+    /**
+     * Returns the discount of the tier covering a total, scaled to two decimals, or zero when none does.
+     */
+    public BigDecimal discountFor(BigDecimal totalPrice) {
+        return discountFor(toCents(totalPrice));
+    }
+
+    public BigDecimal discountFor(long totalCents) {
+        int index = indexOf(totalCents);
+        return index < 0 ? BigDecimal.ZERO : discounts[index];
+    }
+
+    /**
+     * Rounds a total down to whole cents; tier thresholds are whole cents, so this keeps comparisons exact.
+     */
+    static long toCents(BigDecimal amount) {
+        if (amount.compareTo(MAX_CENTS_AMOUNT) >= 0) {
+            return Long.MAX_VALUE;
+        }
+        return amount.setScale(2, RoundingMode.FLOOR).movePointRight(2).longValue();
+    }
+}
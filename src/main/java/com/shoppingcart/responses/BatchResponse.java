@@ -0,0 +1,81 @@
+package com.shoppingcart.responses;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * A {@code {"result": ..., "message": {"items": [...]}}} response reporting each entry of a batch command with its
+ * own {@code result} and {@code message}, tagged with the entry's {@code itemId}.
+ */
+public record BatchResponse(boolean result, List<ItemResponse> items) implements Response {
+
+    private static final byte[] RESULT_KEY = ascii("{\"result\":");
+    private static final byte[] ITEMS_KEY = ascii(",\"message\":{\"items\":[");
+    private static final byte[] ITEMS_SUFFIX = ascii("]}}");
+    private static final byte[] ITEM_ID_KEY = ascii(",\"itemId\":");
+    private static final byte[] MESSAGE_KEY = ascii(",\"message\":");
+
+    /**
+     * Keys are written in the order org.json emits them so the bytes are identical.
+     */
+    @Override
+    public void encodeTo(ResponseEncoder encoder) {
+        encoder.writeRaw(RESULT_KEY);
+        encoder.writeBoolean(result);
+        encoder.writeRaw(ITEMS_KEY);
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                encoder.writeByte(',');
+            }
+            ItemResponse item = items.get(i);
+            encoder.writeRaw(RESULT_KEY);
+            encoder.writeBoolean(item.result());
+            encoder.writeRaw(ITEM_ID_KEY);
+            encoder.writeInt(item.itemId());
+            encoder.writeRaw(MESSAGE_KEY);
+            encoder.writeString(item.message());
+            encoder.writeByte('}');
+        }
+        encoder.writeRaw(ITEMS_SUFFIX);
+    }
+
+    @Override
+    public JSONObject toJSON() {
+        JSONArray itemsArray = new JSONArray();
+        for (ItemResponse item : items) {
+            itemsArray.put(item.response().toJSON().put("itemId", item.itemId()));
+        }
+        JSONObject response = new JSONObject();
+        response.put("result", result);
+        response.put("message", new JSONObject().put("items", itemsArray));
+        return response;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * @param response A {@link MessageResponse} or a {@link RejectionResponse}, whose message is still only
+     *                 formatted when the batch is encoded.
+     */
+    public record ItemResponse(int itemId, Response response) {
+
+        public ItemResponse {
+            if (!(response instanceof MessageResponse) && !(response instanceof RejectionResponse)) {
+                throw new IllegalArgumentException("Batch entries must be message or rejection responses: " + response);
+            }
+        }
+
+        boolean result() {
+            return response instanceof MessageResponse message && message.result();
+        }
+
+        String message() {
+            return response instanceof MessageResponse message ? message.message() : ((RejectionResponse) response).message();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.shoppingcart.responses;
+
+import org.json.JSONObject;
+
+/**
+ * A response produced in generic JSON form by the org.json command path.
+ */
+public record JsonResponse(JSONObject json) implements Response {
+
+    @Override
+    public void encodeTo(ResponseEncoder encoder) {
+        encoder.writeRaw(json.toString());
+    }
+
+    @Override
+    public JSONObject toJSON() {
+        return json;
+    }
+}
@@ -0,0 +1,22 @@
+package com.shoppingcart.responses;
+
+import org.json.JSONObject;
+
+/**
+ * A {@code {"result": ..., "message": "..."}} response with a message built at runtime.
+ */
+public record MessageResponse(boolean result, String message) implements Response {
+
+    @Override
+    public void encodeTo(ResponseEncoder encoder) {
+        encoder.writeMessageResponse(result, message);
+    }
+
+    @Override
+    public JSONObject toJSON() {
+        JSONObject response = new JSONObject();
+        response.put("result", result);
+        response.put("message", message);
+        return response;
+    }
+}
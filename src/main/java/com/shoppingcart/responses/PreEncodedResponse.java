@@ -0,0 +1,39 @@
+package com.shoppingcart.responses;
+
+import org.json.JSONObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * A response whose bytes were encoded once up front: either a constant response shared by every command,
+ * or a snapshot of mutable state (such as the cart) taken when the command ran.
+ */
+public final class PreEncodedResponse implements Response {
+
+    private final byte[] bytes;
+
+    private PreEncodedResponse(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public static PreEncodedResponse of(Response response) {
+        return encode(response::encodeTo);
+    }
+
+    public static PreEncodedResponse encode(Consumer<ResponseEncoder> writer) {
+        ResponseEncoder encoder = new ResponseEncoder();
+        writer.accept(encoder);
+        return new PreEncodedResponse(encoder.toByteArray());
+    }
+
+    @Override
+    public void encodeTo(ResponseEncoder encoder) {
+        encoder.writeRaw(bytes);
+    }
+
+    @Override
+    public JSONObject toJSON() {
+        return new JSONObject(new String(bytes, StandardCharsets.UTF_8));
+    }
+}
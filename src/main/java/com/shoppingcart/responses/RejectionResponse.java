@@ -0,0 +1,32 @@
+package com.shoppingcart.responses;
+
+import com.shoppingcart.exceptions.ErrorMessages;
+import com.shoppingcart.exceptions.RejectionException;
+import org.json.JSONObject;
+
+/**
+ * A {@code {"result": false, "message": "..."}} response for a rejected command, holding the rejection with its
+ * error code and arguments. The message text is only formatted when the response is encoded.
+ *
+ * @param prefix Text put before the formatted error, naming the kind of rejection.
+ */
+public record RejectionResponse(String prefix, RejectionException rejection) implements Response {
+
+    public ErrorMessages error() {
+        return rejection.getError();
+    }
+
+    public String message() {
+        return prefix + rejection.getMessage();
+    }
+
+    @Override
+    public void encodeTo(ResponseEncoder encoder) {
+        encoder.writeMessageResponse(false, message());
+    }
+
+    @Override
+    public JSONObject toJSON() {
+        return new MessageResponse(false, message()).toJSON();
+    }
+}
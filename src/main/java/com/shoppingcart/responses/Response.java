@@ -0,0 +1,17 @@
+package com.shoppingcart.responses;
+
+import org.json.JSONObject;
+
+/**
+ * The result of a command. Responses are immutable so they can be encoded after the command that produced
+ * them has returned.
+ */
+public interface Response {
+
+    /**
+     * Writes the compact JSON form of this response, byte-identical to {@code toJSON().toString()}.
+     */
+    void encodeTo(ResponseEncoder encoder);
+
+    JSONObject toJSON();
+}
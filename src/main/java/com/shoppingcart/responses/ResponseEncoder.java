@@ -0,0 +1,264 @@
+package com.shoppingcart.responses;
+
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Writes compact JSON straight into a reusable {@link ByteBuffer}, following org.json's output rules
+ * (string escaping and number formatting) so the bytes match {@link JSONObject#toString()}.
+ * <p>
+ * An encoder bound to a channel drains the buffer into it whenever it fills up; an unbound encoder
+ * grows its buffer instead. Encoders are not thread-safe.
+ */
+public final class ResponseEncoder {
+
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] RESULT_TRUE_MESSAGE = ascii("{\"result\":true,\"message\":");
+    private static final byte[] RESULT_FALSE_MESSAGE = ascii("{\"result\":false,\"message\":");
+
+    private final WritableByteChannel channel;
+    private ByteBuffer buffer;
+
+    public ResponseEncoder() {
+        this(null, DEFAULT_CAPACITY);
+    }
+
+    public ResponseEncoder(WritableByteChannel channel, int capacity) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * Writes a {@code {"result":...,"message":"..."}} object in org.json's key order.
+     */
+    public void writeMessageResponse(boolean result, String message) {
+        writeRaw(result ? RESULT_TRUE_MESSAGE : RESULT_FALSE_MESSAGE);
+        writeString(message);
+        writeByte('}');
+    }
+
+    public void writeByte(char b) {
+        ensureCapacity(1);
+        buffer.put((byte) b);
+    }
+
+    public void writeRaw(byte[] bytes) {
+        if (channel != null && bytes.length > buffer.capacity()) {
+            flush();
+            drain(ByteBuffer.wrap(bytes));
+            return;
+        }
+        ensureCapacity(bytes.length);
+        buffer.put(bytes);
+    }
+
+    public void writeRaw(String value) {
+        writeRaw(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void writeBoolean(boolean value) {
+        writeRaw(value ? TRUE : FALSE);
+    }
+
+    public void writeNull() {
+        writeRaw(NULL);
+    }
+
+    public void writeInt(int value) {
+        writeLong(value);
+    }
+
+    public void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeRaw(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int end = buffer.position() + digits;
+        for (int i = end - 1; i >= buffer.position(); i--) {
+            buffer.put(i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+        buffer.position(end);
+    }
+
+    /**
+     * Writes an amount in cents the way {@link #writeNumber} writes it as a two-decimal number, without
+     * converting it to a {@link BigDecimal}.
+     */
+    public void writeCents(long cents) {
+        if (cents == Long.MIN_VALUE) {
+            writeNumber(BigDecimal.valueOf(cents, 2));
+            return;
+        }
+        if (cents < 0) {
+            writeByte('-');
+            cents = -cents;
+        }
+        writeLong(cents / 100);
+        int fraction = (int) (cents % 100);
+        if (fraction != 0) {
+            writeByte('.');
+            writeByte((char) ('0' + fraction / 10));
+            if (fraction % 10 != 0) {
+                writeByte((char) ('0' + fraction % 10));
+            }
+        }
+    }
+
+    /**
+     * Writes a number the way org.json does, dropping trailing fractional zeros.
+     */
+    public void writeNumber(BigDecimal value) {
+        writeRaw(JSONObject.numberToString(value));
+    }
+
+    /**
+     * Writes a quoted string with the same escaping as {@link JSONObject#quote(String)}.
+     */
+    public void writeString(String value) {
+        if (value == null || value.isEmpty()) {
+            ensureCapacity(2);
+            buffer.put((byte) '"').put((byte) '"');
+            return;
+        }
+        writeByte('"');
+        char previous;
+        char c = 0;
+        for (int i = 0; i < value.length(); i++) {
+            previous = c;
+            c = value.charAt(i);
+            switch (c) {
+                case '\\', '"' -> writeEscaped(c);
+                case '/' -> {
+                    if (previous == '<') {
+                        writeByte('\\');
+                    }
+                    writeByte(c);
+                }
+                case '\b' -> writeEscaped('b');
+                case '\t' -> writeEscaped('t');
+                case '\n' -> writeEscaped('n');
+                case '\f' -> writeEscaped('f');
+                case '\r' -> writeEscaped('r');
+                default -> {
+                    if (c < ' ' || (c >= 0x80 && c < 0xA0) || (c >= 0x2000 && c < 0x2100)) {
+                        writeUnicodeEscape(c);
+                    } else if (c < 0x80) {
+                        writeByte(c);
+                    } else {
+                        i = writeUtf8(value, i, c);
+                        c = value.charAt(i);
+                    }
+                }
+            }
+        }
+        writeByte('"');
+    }
+
+    /**
+     * Drains buffered bytes into the channel. Has no effect on an unbound encoder.
+     */
+    public void flush() {
+        if (channel == null) {
+            return;
+        }
+        buffer.flip();
+        drain(buffer);
+        buffer.clear();
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    public void reset() {
+        buffer.clear();
+    }
+
+    private void writeEscaped(char c) {
+        ensureCapacity(2);
+        buffer.put((byte) '\\').put((byte) c);
+    }
+
+    private void writeUnicodeEscape(char c) {
+        ensureCapacity(6);
+        buffer.put((byte) '\\').put((byte) 'u')
+                .put(HEX_DIGITS[(c >> 12) & 0xF]).put(HEX_DIGITS[(c >> 8) & 0xF])
+                .put(HEX_DIGITS[(c >> 4) & 0xF]).put(HEX_DIGITS[c & 0xF]);
+    }
+
+    /**
+     * Encodes a non-ASCII character, consuming the low surrogate of a valid pair.
+     *
+     * @return The index of the last character consumed.
+     */
+    private int writeUtf8(String value, int index, char c) {
+        ensureCapacity(4);
+        if (c < 0x800) {
+            buffer.put((byte) (0xC0 | (c >> 6))).put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            buffer.put((byte) (0xF0 | (codePoint >> 18)))
+                    .put((byte) (0x80 | ((codePoint >> 12) & 0x3F)))
+                    .put((byte) (0x80 | ((codePoint >> 6) & 0x3F)))
+                    .put((byte) (0x80 | (codePoint & 0x3F)));
+            return index + 1;
+        } else if (Character.isSurrogate(c)) {
+            buffer.put((byte) '?');
+        } else {
+            buffer.put((byte) (0xE0 | (c >> 12)))
+                    .put((byte) (0x80 | ((c >> 6) & 0x3F)))
+                    .put((byte) (0x80 | (c & 0x3F)));
+        }
+        return index;
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        if (channel != null) {
+            flush();
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+        }
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+        buffer = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), capacity)).position(buffer.position());
+    }
+
+    private void drain(ByteBuffer source) {
+        try {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -9,87 +9,194 @@ import com.shoppingcart.exceptions.ItemValidationException;
 import com.shoppingcart.models.DefaultItem;
 import com.shoppingcart.models.IItem;
 import com.shoppingcart.models.VasItem;
+import com.shoppingcart.money.Money;
+import com.shoppingcart.promotions.PromotionResult;
 
-import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 public class CartItemValidator implements ICartItemValidator {
 
-    public void validateItem(IItem item, ICart cart) {
+    /**
+     * Runs every check in one pass, reading each cart figure once. When the amount check had to price the cart
+     * with the item and that what-if matches the cart after the add (a single unit of an item not in the cart
+     * yet), the result is handed back so the cart can apply it without evaluating the promotions again.
+     */
+    public ItemValidationOutcome validateItem(IItem item, ICart cart) {
         validateNotNull(item, cart);
-        validateCategory(item, cart);
-        validateTotalQuantity(item, cart);
-        validateUniqueItemCount(item, cart);
-        validateTotalAmount(item, cart);
-    }
+        if (item instanceof VasItem) {
+            throw new ItemValidationException(ErrorMessages.VAS_ITEM_CANNOT_BE_ADDED_DIRECTLY);
+        }
 
-    public void validateVasItem(VasItem vasItem, ICart cart) {
-        if (vasItem == null) {
-            throw new ItemValidationException(ErrorMessages.VAS_ITEM_CANNOT_BE_NULL.format());
+        int quantity = item.getQuantity();
+        if (item.getCategoryId() == Category.DIGITAL_ITEM.getId()) {
+            int digitalItemCount = cart.getDigitalItemCount();
+            if (digitalItemCount + quantity > Config.MAX_DIGITAL_ITEM_QUANTITY) {
+                throw new ItemValidationException(ErrorMessages.DIGITAL_ITEM_LIMIT_EXCEEDED,
+                        quantity, Config.MAX_DIGITAL_ITEM_QUANTITY, digitalItemCount);
+            }
         }
 
-        IItem parentItem = cart.getItems().get(vasItem.getItemId());
-        if (parentItem == null) {
-            throw new ItemNotFoundException(ErrorMessages.PARENT_ITEM_NOT_FOUND.format());
+        int totalItemCount = cart.getTotalItemCount();
+        if (totalItemCount + quantity > Config.MAX_TOTAL_ITEMS) {
+            throw new ItemValidationException(ErrorMessages.TOTAL_ITEM_LIMIT_EXCEEDED,
+                    quantity, totalItemCount, quantity, Config.MAX_TOTAL_ITEMS);
         }
 
-        if (!(parentItem instanceof DefaultItem)) {
-            throw new ItemValidationException(ErrorMessages.VAS_ITEM_MUST_BE_ASSOCIATED.format());
+        boolean newItem = !cart.getItems().containsKey(item.getId());
+        if (newItem) {
+            int uniqueItemCount = cart.getUniqueItemCount();
+            if (uniqueItemCount + 1 > Config.MAX_UNIQUE_ITEMS) {
+                throw new ItemValidationException(ErrorMessages.UNIQUE_ITEM_LIMIT_EXCEEDED,
+                        uniqueItemCount, Config.MAX_UNIQUE_ITEMS);
+            }
         }
-        validateTotalAmount(vasItem, cart);
+
+        PromotionResult promotionResult = validateTotalAmount(item, cart);
+        return promotionResult != null && newItem && quantity == 1 ? new ItemValidationOutcome(promotionResult) : ItemValidationOutcome.NONE;
     }
 
-    private void validateNotNull(Object item, ICart cart) {
-        if (item == null) {
-            throw new ItemValidationException(ErrorMessages.ITEM_CANNOT_BE_NULL.format());
+    /**
+     * Checks a batch in one pass against the cart plus the batch items before it that passed, so each rejected
+     * item is reported for its own reason. The total amount is left to the cart, which prices the whole batch
+     * once it is applied.
+     *
+     * @return The rejection of each failing item keyed by its position in the batch; empty when all pass.
+     */
+    public Map<Integer, ItemValidationException> validateItems(List<? extends IItem> items, ICart cart) {
+        if (items == null) {
+            throw new ItemValidationException(ErrorMessages.ITEM_CANNOT_BE_NULL);
         }
         if (cart == null) {
-            throw new ItemValidationException(ErrorMessages.CART_CANNOT_BE_NULL.format());
+            throw new ItemValidationException(ErrorMessages.CART_CANNOT_BE_NULL);
         }
+
+        Map<Integer, ItemValidationException> failures = new LinkedHashMap<>();
+        Map<Integer, Integer> batchQuantities = new HashMap<>();
+        int digitalItemCount = cart.getDigitalItemCount();
+        int totalItemCount = cart.getTotalItemCount();
+        int uniqueItemCount = cart.getUniqueItemCount();
+        for (int i = 0; i < items.size(); i++) {
+            IItem item = items.get(i);
+            if (item == null) {
+                failures.put(i, new ItemValidationException(ErrorMessages.ITEM_CANNOT_BE_NULL));
+                continue;
+            }
+            if (item instanceof VasItem) {
+                failures.put(i, new ItemValidationException(ErrorMessages.VAS_ITEM_CANNOT_BE_ADDED_DIRECTLY));
+                continue;
+            }
+
+            int quantity = item.getQuantity();
+            boolean digital = item.getCategoryId() == Category.DIGITAL_ITEM.getId();
+            if (digital && digitalItemCount + quantity > Config.MAX_DIGITAL_ITEM_QUANTITY) {
+                failures.put(i, new ItemValidationException(ErrorMessages.DIGITAL_ITEM_LIMIT_EXCEEDED,
+                        quantity, Config.MAX_DIGITAL_ITEM_QUANTITY, digitalItemCount));
+                continue;
+            }
+            if (totalItemCount + quantity > Config.MAX_TOTAL_ITEMS) {
+                failures.put(i, new ItemValidationException(ErrorMessages.TOTAL_ITEM_LIMIT_EXCEEDED,
+                        quantity, totalItemCount, quantity, Config.MAX_TOTAL_ITEMS));
+                continue;
+            }
+
+            Integer existingQuantity = batchQuantities.get(item.getId());
+            if (existingQuantity == null && cart.getItems().containsKey(item.getId())) {
+                existingQuantity = cart.getItems().get(item.getId()).getQuantity();
+            }
+            if (existingQuantity == null && uniqueItemCount + 1 > Config.MAX_UNIQUE_ITEMS) {
+                failures.put(i, new ItemValidationException(ErrorMessages.UNIQUE_ITEM_LIMIT_EXCEEDED,
+                        uniqueItemCount, Config.MAX_UNIQUE_ITEMS));
+                continue;
+            }
+            if (existingQuantity != null && existingQuantity + quantity > Config.MAX_QUANTITY_PER_ITEM) {
+                failures.put(i, new ItemValidationException(ErrorMessages.ITEM_VALIDATION_FAILED,
+                        quantity, item.getId(), existingQuantity, quantity, Config.MAX_QUANTITY_PER_ITEM));
+                continue;
+            }
+
+            if (digital) {
+                digitalItemCount += quantity;
+            }
+            totalItemCount += quantity;
+            if (existingQuantity == null) {
+                uniqueItemCount++;
+                existingQuantity = 0;
+            }
+            batchQuantities.put(item.getId(), existingQuantity + quantity);
+        }
+        return failures;
     }
 
-    private void validateCategory(IItem item, ICart cart) {
-        if (item instanceof VasItem) {
-            throw new ItemValidationException(ErrorMessages.VAS_ITEM_CANNOT_BE_ADDED_DIRECTLY.format());
+    /**
+     * Checks the cart-wide item limits for changing the quantity of an item in the cart. Only a larger quantity
+     * can break them; the item's own quantity rules and the total amount are checked by the cart as it applies
+     * the change.
+     */
+    public void validateQuantityChange(IItem item, int quantity, ICart cart) {
+        validateNotNull(item, cart);
+        int delta = quantity - item.getQuantity();
+        if (delta <= 0) {
+            return;
+        }
+        if (item.getCategoryId() == Category.DIGITAL_ITEM.getId()) {
+            int digitalItemCount = cart.getDigitalItemCount();
+            if (digitalItemCount + delta > Config.MAX_DIGITAL_ITEM_QUANTITY) {
+                throw new ItemValidationException(ErrorMessages.DIGITAL_ITEM_LIMIT_EXCEEDED,
+                        delta, Config.MAX_DIGITAL_ITEM_QUANTITY, digitalItemCount);
+            }
         }
-        if (item.getCategoryId() == Category.DIGITAL_ITEM.getId() && !validateDigitalItem(item, cart)) {
-            throw new ItemValidationException(ErrorMessages.DIGITAL_ITEM_LIMIT_EXCEEDED.format(
-                    item.getQuantity(), Config.MAX_DIGITAL_ITEM_QUANTITY, cart.getDigitalItemCount()));
+        int totalItemCount = cart.getTotalItemCount();
+        if (totalItemCount + delta > Config.MAX_TOTAL_ITEMS) {
+            throw new ItemValidationException(ErrorMessages.TOTAL_ITEM_LIMIT_EXCEEDED,
+                    delta, totalItemCount, delta, Config.MAX_TOTAL_ITEMS);
         }
     }
 
-    private boolean validateDigitalItem(IItem item, ICart cart) {
-        return cart.getDigitalItemCount() + item.getQuantity() <= Config.MAX_DIGITAL_ITEM_QUANTITY;
-    }
+    public void validateVasItem(VasItem vasItem, ICart cart) {
+        if (vasItem == null) {
+            throw new ItemValidationException(ErrorMessages.VAS_ITEM_CANNOT_BE_NULL);
+        }
 
-    private void validateTotalQuantity(IItem item, ICart cart) {
-        int newTotalQuantity = cart.getTotalItemCount() + item.getQuantity();
-        if (newTotalQuantity > Config.MAX_TOTAL_ITEMS) {
-            throw new ItemValidationException(ErrorMessages.TOTAL_ITEM_LIMIT_EXCEEDED.format(
-                    item.getQuantity(), cart.getTotalItemCount(), item.getQuantity(), Config.MAX_TOTAL_ITEMS));
+        IItem parentItem = cart.getItems().get(vasItem.getItemId());
+        if (parentItem == null) {
+            throw new ItemNotFoundException(ErrorMessages.PARENT_ITEM_NOT_FOUND);
         }
-    }
 
-    private void validateTotalAmount(IItem item, ICart cart) {
-        BigDecimal newTotalPrice = cart.getTotalPrice().add(item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
-        if (newTotalPrice.compareTo(Config.MAX_TOTAL_AMOUNT) <= 0) {
-            return;
+        if (!(parentItem instanceof DefaultItem)) {
+            throw new ItemValidationException(ErrorMessages.VAS_ITEM_MUST_BE_ASSOCIATED);
         }
+        validateTotalAmount(vasItem, cart);
+    }
 
-        BigDecimal newTotalAmount = newTotalPrice.subtract(cart.calculateBestPromotionWithTempItem(item).discount());
-        if (newTotalAmount.compareTo(Config.MAX_TOTAL_AMOUNT) > 0) {
-            throw new ItemValidationException(ErrorMessages.TOTAL_AMOUNT_EXCEEDED.format(
-                    cart.getTotalPrice(), item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())), newTotalAmount, Config.MAX_TOTAL_AMOUNT));
+    private void validateNotNull(Object item, ICart cart) {
+        if (item == null) {
+            throw new ItemValidationException(ErrorMessages.ITEM_CANNOT_BE_NULL);
+        }
+        if (cart == null) {
+            throw new ItemValidationException(ErrorMessages.CART_CANNOT_BE_NULL);
         }
     }
 
-    private void validateUniqueItemCount(IItem item, ICart cart) {
-        if (cart.getItems().containsKey(item.getId())) {
-            return;
+    /**
+     * @return The what-if promotion result, or {@code null} when the total stays within the limit without it.
+     */
+    private PromotionResult validateTotalAmount(IItem item, ICart cart) {
+        long totalPriceCents = cart.getTotalPriceCents();
+        long itemTotalCents = Money.times(item.getPriceCents(), item.getQuantity());
+        long newTotalPriceCents = Money.add(totalPriceCents, itemTotalCents);
+        if (newTotalPriceCents <= Config.MAX_TOTAL_AMOUNT_CENTS) {
+            return null;
         }
-        int newUniqueItemCount = cart.getUniqueItemCount() + 1;
-        if (newUniqueItemCount > Config.MAX_UNIQUE_ITEMS) {
-            throw new ItemValidationException(ErrorMessages.UNIQUE_ITEM_LIMIT_EXCEEDED.format(
-                    cart.getUniqueItemCount(), Config.MAX_UNIQUE_ITEMS));
+
+        PromotionResult promotionResult = cart.calculateBestPromotionWithTempItem(item);
+        long newTotalAmountCents = Money.subtract(newTotalPriceCents, Money.toCents(promotionResult.discount()));
+        if (newTotalAmountCents > Config.MAX_TOTAL_AMOUNT_CENTS) {
+            throw new ItemValidationException(ErrorMessages.TOTAL_AMOUNT_EXCEEDED, totalPriceCents,
+                    itemTotalCents, newTotalAmountCents, Config.MAX_TOTAL_AMOUNT_CENTS);
         }
+        return promotionResult;
     }
 }
\ No newline at end of file
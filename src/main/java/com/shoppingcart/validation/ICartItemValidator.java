@@ -1,11 +1,26 @@
 package com.shoppingcart.validation;
 
 import com.shoppingcart.cart.ICart;
+import com.shoppingcart.exceptions.ItemValidationException;
 import com.shoppingcart.models.IItem;
 import com.shoppingcart.models.VasItem;
 
+import java.util.List;
+import java.util.Map;
+
 public interface ICartItemValidator {
-    void validateItem(IItem item, ICart cart);
+    /**
+     * Throws if the item cannot be added to the cart, otherwise returns anything validation learned about
+     * the cart after the add.
+     */
+    ItemValidationOutcome validateItem(IItem item, ICart cart);
+
+    /**
+     * Returns the rejection of every item of a batch that cannot be added, keyed by its position in the batch.
+     */
+    Map<Integer, ItemValidationException> validateItems(List<? extends IItem> items, ICart cart);
+
+    void validateQuantityChange(IItem item, int quantity, ICart cart);
 
     void validateVasItem(VasItem vasItem, ICart cart);
 }
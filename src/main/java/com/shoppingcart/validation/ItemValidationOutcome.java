@@ -0,0 +1,14 @@
+package com.shoppingcart.validation;
+
+import com.shoppingcart.promotions.PromotionResult;
+
+/**
+ * What validating an item already worked out about the cart it is about to join.
+ *
+ * @param promotionResult The best promotion for the cart once the item is added, or {@code null} when validation
+ *                        did not have to compute it or its what-if result does not match the post-add cart.
+ */
+public record ItemValidationOutcome(PromotionResult promotionResult) {
+
+    public static final ItemValidationOutcome NONE = new ItemValidationOutcome(null);
+}
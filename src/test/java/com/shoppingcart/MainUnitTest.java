@@ -1,6 +1,10 @@
 package com.shoppingcart;
 
+import com.shoppingcart.commands.DisplayCartCommand;
+import com.shoppingcart.commands.JsonCommand;
 import com.shoppingcart.io.FileOperations;
+import com.shoppingcart.io.ResponseWriter;
+import com.shoppingcart.responses.Response;
 import org.json.JSONObject;
 import org.junit.jupiter.api.*;
 
@@ -8,9 +12,11 @@ import java.io.IOException;
 import java.nio.file.NoSuchFileException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -36,13 +42,43 @@ class MainUnitTest {
         );
 
         // Mock the input commands
-        when(fileOperations.readCommandsFromFile(inputFilePath)).thenReturn(commands);
+        ResponseWriter responseWriter = mock(ResponseWriter.class);
+        when(fileOperations.streamTypedCommandsFromFile(inputFilePath)).thenReturn(commands.stream().map(JsonCommand::new));
+        when(fileOperations.openResponseWriter(outputFilePath, false)).thenReturn(responseWriter);
 
         // When
         Main.main(new String[]{inputFilePath, outputFilePath});
 
         // Then
-        verify(fileOperations).writeResponsesToFile(anyList(), eq(outputFilePath));
+        verify(responseWriter, times(2)).write(any(Response.class));
+        verify(responseWriter).close();
+    }
+
+    @Test
+    void testRun_PrettyPrint() throws IOException {
+        // Given
+        String inputFilePath = "test_input.json";
+        String outputFilePath = "test_output.json";
+        ResponseWriter responseWriter = mock(ResponseWriter.class);
+        when(fileOperations.streamTypedCommandsFromFile(inputFilePath))
+                .thenReturn(Stream.of(DisplayCartCommand.INSTANCE));
+        when(fileOperations.openResponseWriter(outputFilePath, true)).thenReturn(responseWriter);
+
+        // When
+        Main.main(new String[]{inputFilePath, outputFilePath, "--pretty"});
+
+        // Then
+        verify(responseWriter).write(any(Response.class));
+    }
+
+    @Test
+    void testRun_UnknownOption() throws IOException {
+        // When
+        Main.main(new String[]{"test_input.json", "test_output.json", "--unknown"});
+
+        // Then
+        verify(fileOperations, never()).streamTypedCommandsFromFile(any());
+        verify(fileOperations, never()).openResponseWriter(any(), anyBoolean());
     }
 
     @Test
@@ -52,7 +88,7 @@ class MainUnitTest {
         String outputFilePath = "test_output.json";
 
         // Mock the exception
-        when(fileOperations.readCommandsFromFile(inputFilePath)).thenThrow(new NoSuchFileException(inputFilePath));
+        when(fileOperations.streamTypedCommandsFromFile(inputFilePath)).thenThrow(new NoSuchFileException(inputFilePath));
 
         // When
         Exception exception = assertThrows(RuntimeException.class, () -> Main.main(new String[]{inputFilePath, outputFilePath}));
@@ -68,7 +104,7 @@ class MainUnitTest {
         String outputFilePath = "test_output.json";
 
         // Mock the exception
-        when(fileOperations.readCommandsFromFile(inputFilePath)).thenThrow(new IOException("IO error"));
+        when(fileOperations.streamTypedCommandsFromFile(inputFilePath)).thenThrow(new IOException("IO error"));
 
         // When
         Exception exception = assertThrows(RuntimeException.class, () -> Main.main(new String[]{inputFilePath, outputFilePath}));
@@ -0,0 +1,60 @@
+package com.shoppingcart.cart;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class CartRegistryUnitTest {
+
+    private CartRegistry registry;
+    private AtomicInteger created;
+
+    @BeforeEach
+    void setUp() {
+        created = new AtomicInteger();
+        registry = new CartRegistry(4, () -> {
+            created.incrementAndGet();
+            return mock(ICart.class);
+        });
+    }
+
+    @Test
+    void shouldCreateCartOnFirstUseAndReuseIt() {
+        ICart first = registry.getOrCreate(1);
+        ICart again = registry.getOrCreate(1);
+
+        assertSame(first, again);
+        assertEquals(1, created.get());
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void shouldKeepCartsSeparateById() {
+        for (int cartId = 0; cartId < 1000; cartId++) {
+            registry.getOrCreate(cartId);
+        }
+
+        assertEquals(1000, registry.size());
+        assertNotSame(registry.get(1), registry.get(2));
+        assertNull(registry.get(1000));
+    }
+
+    @Test
+    void shouldRemoveCart() {
+        registry.getOrCreate(5);
+
+        assertTrue(registry.remove(5));
+        assertFalse(registry.remove(5));
+        assertNull(registry.get(5));
+    }
+
+    @Test
+    void shouldRejectShardCountThatIsNotAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new CartRegistry(3, () -> mock(ICart.class)));
+        assertThrows(IllegalArgumentException.class, () -> new CartRegistry(0, () -> mock(ICart.class)));
+    }
+}
@@ -1,17 +1,25 @@
 package com.shoppingcart.cart;
 
+import com.shoppingcart.exceptions.ErrorMessages;
 import com.shoppingcart.exceptions.ItemNotFoundException;
 import com.shoppingcart.exceptions.ItemValidationException;
+import com.shoppingcart.models.DefaultItem;
 import com.shoppingcart.models.IItem;
 import com.shoppingcart.models.VasItem;
 import com.shoppingcart.promotions.*;
+import com.shoppingcart.responses.ResponseEncoder;
 import com.shoppingcart.testutil.TestUtils;
 import com.shoppingcart.validation.CartItemValidator;
+import com.shoppingcart.validation.ItemValidationOutcome;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -157,4 +165,301 @@ class CartUnitTest {
         assertEquals(1, message.getJSONArray("items").length());
         assertEquals(0, BigDecimal.valueOf(150.0).compareTo(message.getBigDecimal("totalAmount")));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldEncodeDisplayIdenticallyToJsonDisplay() {
+        // GIVEN: A cart with a discount, several items and a VAS item
+        cart.addItem(TestUtils.createDefaultItem(1, 1001, 2001, 200.0, 1));
+        cart.addItem(TestUtils.createDefaultItem(2, 3004, 2002, 150.50, 3));
+        cart.addVasItem(TestUtils.createVasItem(1, 5, 50.0, 2));
+
+        // WHEN: The cart is streamed through an encoder
+        ResponseEncoder encoder = new ResponseEncoder();
+        cart.display(encoder);
+
+        // THEN: The bytes match the JSON tree rendering
+        assertEquals(cart.display().toString(), new String(encoder.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldEncodeEmptyCartWithoutPromotion() {
+        ResponseEncoder encoder = new ResponseEncoder();
+        cart.display(encoder);
+
+        assertEquals(cart.display().toString(), new String(encoder.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldMaintainSellerAndCategoryAggregates() {
+        // GIVEN: Items from two sellers, one of them added twice
+        cart.addItem(TestUtils.createDefaultItem(1, 3003, 2001, 100.0, 1));
+        cart.addItem(TestUtils.createDefaultItem(2, 3003, 2002, 50.0, 2));
+        cart.addItem(TestUtils.createDefaultItem(1, 3003, 2001, 100.0, 2));
+
+        // THEN: The aggregates reflect the items in the cart
+        assertEquals(2, cart.getDistinctSellerCount());
+        assertEquals(1, cart.getSellerItemCount(2001));
+        assertEquals(2, cart.getCategoryItemCount(3003));
+        assertEquals(0, BigDecimal.valueOf(400.0).compareTo(cart.getCategorySubtotal(3003)));
+
+        // WHEN: One item is removed
+        cart.removeItem(2);
+
+        // THEN: Its seller and share of the subtotal are gone
+        assertEquals(1, cart.getDistinctSellerCount());
+        assertEquals(0, cart.getSellerItemCount(2002));
+        assertEquals(0, BigDecimal.valueOf(300.0).compareTo(cart.getCategorySubtotal(3003)));
+
+        // WHEN: The cart is reset
+        cart.reset();
+
+        // THEN: No aggregates remain
+        assertEquals(0, cart.getDistinctSellerCount());
+        assertEquals(0, cart.getCategoryItemCount(3003));
+        assertEquals(BigDecimal.ZERO, cart.getCategorySubtotal(3003));
+    }
+
+    @Test
+    void shouldDeferPromotions_WhenLazy() {
+        // GIVEN: A lazily priced cart
+        Cart lazyCart = new Cart(mockPromotionService, true);
+        lazyCart.setCartItemValidator(mockCartItemValidator);
+
+        // WHEN: Several mutations happen without a read
+        lazyCart.addItem(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 1));
+        lazyCart.addItem(TestUtils.createDefaultItem(2, 1001, 2001, 100.0, 1));
+        lazyCart.removeItem(1);
+
+        // THEN: Promotions are computed once, on the first read
+        verify(mockPromotionService, never()).calculateBestPromotion(any());
+        assertEquals(0, BigDecimal.valueOf(50.0).compareTo(lazyCart.getTotalAmount()));
+        assertEquals(1, lazyCart.getAppliedPromotionId());
+        assertEquals(0, BigDecimal.valueOf(50).compareTo(lazyCart.getTotalDiscount()));
+        verify(mockPromotionService, times(1)).calculateBestPromotion(lazyCart);
+    }
+
+    @Test
+    void shouldDisplayIdentically_WhenLazy() {
+        // GIVEN: An eager and a lazy cart backed by the real promotions
+        PromotionService promotionService = new PromotionService(
+                List.of(new SameSellerPromotion(), new CategoryPromotion(), new TotalPricePromotion()));
+        Cart eagerCart = new Cart(promotionService, false);
+        Cart lazyCart = new Cart(promotionService, true);
+
+        // WHEN: Both receive the same mutations
+        for (Cart c : new Cart[]{eagerCart, lazyCart}) {
+            c.addItem(TestUtils.createDefaultItem(1, 3003, 2001, 1200.0, 2));
+            c.addItem(TestUtils.createDefaultItem(2, 1001, 2001, 300.0, 1));
+            c.addVasItem(TestUtils.createVasItem(2, 7, 40.0, 1));
+            c.removeItem(1);
+        }
+
+        // THEN: Their rendering is identical
+        ResponseEncoder encoder = new ResponseEncoder();
+        lazyCart.display(encoder);
+        assertEquals(eagerCart.display().toString(), new String(encoder.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldBumpVersionOnlyOnModification() {
+        // GIVEN: An empty cart
+        long initialVersion = cart.getVersion();
+
+        // WHEN: An item is added and a missing item is removed
+        cart.addItem(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 1));
+        long afterAdd = cart.getVersion();
+        assertThrows(ItemNotFoundException.class, () -> cart.removeItem(42));
+
+        // THEN: Only the successful modification changes the version
+        assertTrue(afterAdd > initialVersion);
+        assertEquals(afterAdd, cart.getVersion());
+        cart.reset();
+        assertTrue(cart.getVersion() > afterAdd);
+    }
+
+    @Test
+    void shouldReuseWhatIfResults_UntilCartChanges() {
+        // GIVEN: A cart and a what-if result for a candidate
+        cart.addItem(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 1));
+        PromotionResult whatIf = new PromotionResult(BigDecimal.TEN, 2);
+        when(mockPromotionService.calculateBestPromotionWithNewItem(eq(cart), any())).thenReturn(whatIf);
+
+        // WHEN: An equal candidate is priced again, then the cart changes
+        assertSame(whatIf, cart.calculateBestPromotionWithTempItem(TestUtils.createDefaultItem(2, 1001, 2001, 50.0, 1)));
+        assertSame(whatIf, cart.calculateBestPromotionWithTempItem(TestUtils.createDefaultItem(2, 1001, 2001, 50.0, 1)));
+        verify(mockPromotionService, times(1)).calculateBestPromotionWithNewItem(eq(cart), any());
+        cart.addItem(TestUtils.createDefaultItem(3, 1001, 2001, 10.0, 1));
+        cart.calculateBestPromotionWithTempItem(TestUtils.createDefaultItem(2, 1001, 2001, 50.0, 1));
+
+        // THEN: Only the change forces a new evaluation
+        verify(mockPromotionService, times(2)).calculateBestPromotionWithNewItem(eq(cart), any());
+    }
+
+    @Test
+    void shouldReusePromotionResult_WhileVersionUnchanged() {
+        cart.addItem(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 1));
+
+        cart.applyPromotions();
+        cart.applyPromotions();
+
+        verify(mockPromotionService, times(1)).calculateBestPromotion(cart);
+    }
+
+    @Test
+    void shouldExposeAllAppliedPromotionIds() {
+        // GIVEN: A promotion result with stacked promotions
+        when(mockPromotionService.calculateBestPromotion(any()))
+                .thenReturn(new PromotionResult(BigDecimal.valueOf(70), 2, List.of(1, 2)));
+
+        // WHEN: An item is added
+        cart.addItem(TestUtils.createDefaultItem(1, 1001, 2001, 500.0, 1));
+
+        // THEN: Every applied id is reported, and none after a reset
+        assertEquals(List.of(1, 2), cart.getAppliedPromotionIds());
+        assertEquals(2, cart.getAppliedPromotionId());
+        cart.reset();
+        assertEquals(List.of(), cart.getAppliedPromotionIds());
+    }
+
+    @Test
+    void shouldCommitPromotionResultFromValidation() {
+        // GIVEN: Validation already priced the cart with the item
+        IItem item = TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 1);
+        PromotionResult knownResult = new PromotionResult(BigDecimal.valueOf(20), 3);
+        when(mockCartItemValidator.validateItem(item, cart)).thenReturn(new ItemValidationOutcome(knownResult));
+
+        // WHEN: The item is added
+        cart.addItem(item);
+
+        // THEN: That result is applied without evaluating the promotions again
+        assertEquals(3, cart.getAppliedPromotionId());
+        assertEquals(0, BigDecimal.valueOf(80).compareTo(cart.getTotalAmount()));
+        verify(mockPromotionService, never()).calculateBestPromotion(any());
+    }
+
+    @Test
+    void shouldMatchFullEvaluation_WhenCommittingValidationResult() {
+        // GIVEN: A cart with real promotions just below the amount limit
+        PromotionService promotionService = spy(new PromotionService(List.of(new SameSellerPromotion(), new CategoryPromotion(), new TotalPricePromotion())));
+        Cart realCart = new Cart(promotionService, false);
+        for (int i = 1; i <= 9; i++) {
+            realCart.addItem(TestUtils.createDefaultItem(i, 3003, 2001, 50000.0, 1));
+        }
+
+        // WHEN: A single unit pushes the total over the limit before discounts
+        realCart.addItem(TestUtils.createDefaultItem(10, 3003, 2001, 55000.0, 1));
+
+        // THEN: The what-if result is committed, and it is the one a full evaluation gives
+        verify(promotionService, times(9)).calculateBestPromotion(realCart);
+        assertEquals(promotionService.calculateBestPromotion(realCart), new PromotionResult(realCart.getTotalDiscount(), realCart.getAppliedPromotionId()));
+    }
+
+    @Test
+    void shouldAddBatchAndEvaluatePromotionsOnce() {
+        // GIVEN: A cart with real validation and an item already in it
+        Cart realCart = new Cart(mockPromotionService, false);
+        realCart.addItem(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 1));
+        clearInvocations(mockPromotionService);
+
+        // WHEN: A batch adding a new item and more of the existing one is applied
+        Map<Integer, ItemValidationException> failures = realCart.addItems(List.of(
+                TestUtils.createDefaultItem(2, 3003, 2001, 50.0, 2),
+                TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 2)));
+
+        // THEN: Both are in the cart and the promotions ran once
+        assertTrue(failures.isEmpty());
+        assertEquals(2, realCart.getUniqueItemCount());
+        assertEquals(5, realCart.getTotalItemCount());
+        assertEquals(3, realCart.getItems().get(1).getQuantity());
+        assertEquals(0, BigDecimal.valueOf(400.0).compareTo(realCart.getTotalPrice()));
+        verify(mockPromotionService, times(1)).calculateBestPromotion(realCart);
+    }
+
+    @Test
+    void shouldLeaveCartUnchanged_WhenBatchItemIsRejected() {
+        // GIVEN: A cart with real validation
+        Cart realCart = new Cart(mockPromotionService, false);
+        realCart.addItem(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 9));
+        long version = realCart.getVersion();
+
+        // WHEN: The second entry takes item 1 past the per-item limit
+        Map<Integer, ItemValidationException> failures = realCart.addItems(List.of(
+                TestUtils.createDefaultItem(2, 1001, 2001, 50.0, 1),
+                TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 2)));
+
+        // THEN: Only that entry is reported and nothing was added
+        assertEquals(Set.of(1), failures.keySet());
+        assertEquals(ErrorMessages.ITEM_VALIDATION_FAILED, failures.get(1).getError());
+        assertEquals(1, realCart.getUniqueItemCount());
+        assertEquals(9, realCart.getItems().get(1).getQuantity());
+        assertEquals(version, realCart.getVersion());
+    }
+
+    @Test
+    void shouldUndoBatch_WhenDiscountedTotalExceedsLimit() {
+        // GIVEN: A cart with real promotions close to the amount limit
+        Cart realCart = new Cart(new PromotionService(List.of(new SameSellerPromotion(), new CategoryPromotion(), new TotalPricePromotion())), false);
+        realCart.addItem(TestUtils.createDefaultItem(1, 1001, 2001, 400000.0, 1));
+        BigDecimal totalAmount = realCart.getTotalAmount();
+        BigDecimal totalPrice = realCart.getTotalPrice();
+
+        // WHEN: A batch pushes the total past the limit even after discounts
+        Map<Integer, ItemValidationException> failures = realCart.addItems(List.of(
+                TestUtils.createDefaultItem(1, 1001, 2001, 400000.0, 1),
+                TestUtils.createDefaultItem(2, 1001, 2002, 100000.0, 1)));
+
+        // THEN: Every entry carries the amount rejection and the cart is as before
+        assertEquals(Set.of(0, 1), failures.keySet());
+        assertEquals(ErrorMessages.TOTAL_AMOUNT_EXCEEDED, failures.get(0).getError());
+        assertEquals(ErrorMessages.TOTAL_AMOUNT_EXCEEDED, failures.get(1).getError());
+        assertEquals(1, realCart.getUniqueItemCount());
+        assertEquals(1, realCart.getTotalItemCount());
+        assertEquals(1, realCart.getItems().get(1).getQuantity());
+        assertEquals(totalPrice, realCart.getTotalPrice());
+        assertEquals(totalAmount, realCart.getTotalAmount());
+        assertEquals(0, totalPrice.compareTo(realCart.getCategorySubtotal(1001)));
+    }
+
+    @Test
+    void shouldSetQuantityInPlace_KeepingVasItems() {
+        // GIVEN: A default item with a VAS item attached
+        DefaultItem item = (DefaultItem) TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 2);
+        cart.addItem(item);
+        cart.addVasItem(TestUtils.createVasItem(1, 2, 50.0, 1));
+        clearInvocations(mockPromotionService);
+
+        // WHEN: Its quantity is raised
+        cart.setItemQuantity(1, 5);
+
+        // THEN: The same item is updated, totals move by the delta and promotions run once
+        assertSame(item, cart.getItems().get(1));
+        assertEquals(5, item.getQuantity());
+        assertEquals(1, item.getVasItems().size());
+        assertEquals(5, cart.getTotalItemCount());
+        assertEquals(0, BigDecimal.valueOf(550.0).compareTo(cart.getTotalPrice()));
+        assertEquals(0, BigDecimal.valueOf(500.0).compareTo(cart.getCategorySubtotal(1001)));
+        verify(mockCartItemValidator).validateQuantityChange(item, 5, cart);
+        verify(mockPromotionService, times(1)).calculateBestPromotion(cart);
+    }
+
+    @Test
+    void shouldThrowException_WhenSettingQuantityOfMissingItem() {
+        assertThrows(ItemNotFoundException.class, () -> cart.setItemQuantity(9, 1));
+    }
+
+    @Test
+    void shouldRevertQuantity_WhenDiscountedTotalExceedsLimit() {
+        // GIVEN: A cart with real promotions
+        Cart realCart = new Cart(new PromotionService(List.of(new SameSellerPromotion(), new CategoryPromotion(), new TotalPricePromotion())), false);
+        realCart.addItem(TestUtils.createDefaultItem(1, 1001, 2001, 200000.0, 2));
+        BigDecimal totalAmount = realCart.getTotalAmount();
+
+        // WHEN & THEN: Raising the quantity past the amount limit is rejected and undone
+        ItemValidationException exception = assertThrows(ItemValidationException.class, () -> realCart.setItemQuantity(1, 3));
+        assertEquals(ErrorMessages.TOTAL_AMOUNT_EXCEEDED, exception.getError());
+        assertEquals(2, realCart.getItems().get(1).getQuantity());
+        assertEquals(2, realCart.getTotalItemCount());
+        assertEquals(0, BigDecimal.valueOf(400000.0).compareTo(realCart.getTotalPrice()));
+        assertEquals(totalAmount, realCart.getTotalAmount());
+    }
+}
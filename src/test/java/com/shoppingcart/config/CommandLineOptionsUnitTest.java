@@ -0,0 +1,100 @@
+package com.shoppingcart.config;
+
+import com.shoppingcart.execution.ExecutionMode;
+import com.shoppingcart.io.FileFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandLineOptionsUnitTest {
+
+    @Test
+    public void testParse_Defaults() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"in.json", "out.json"});
+
+        assertEquals("in.json", options.inputFilePath());
+        assertEquals("out.json", options.outputFilePath());
+        assertFalse(options.prettyPrint());
+        assertFalse(options.memoryMapped());
+        assertEquals(1, options.parallelism());
+        assertEquals(ExecutionMode.SEQUENTIAL, options.executionMode());
+    }
+
+    @Test
+    public void testParse_ExecutionMode() {
+        assertEquals(ExecutionMode.PARTITIONED,
+                CommandLineOptions.parse(new String[]{"in.json", "out.json", "--parallel=4"}).executionMode());
+        assertEquals(ExecutionMode.VIRTUAL,
+                CommandLineOptions.parse(new String[]{"in.json", "out.json", "--executor=virtual"}).executionMode());
+        assertEquals(ExecutionMode.SEQUENTIAL,
+                CommandLineOptions.parse(new String[]{"in.json", "out.json", "--parallel=4", "--executor=sequential"}).executionMode());
+        assertThrows(IllegalArgumentException.class,
+                () -> CommandLineOptions.parse(new String[]{"in.json", "out.json", "--executor=threads"}));
+    }
+
+    @Test
+    public void testParse_Parallel() {
+        assertEquals(8, CommandLineOptions.parse(new String[]{"in.json", "out.json", "--parallel=8"}).parallelism());
+        assertEquals(Runtime.getRuntime().availableProcessors(),
+                CommandLineOptions.parse(new String[]{"--parallel", "in.json", "out.json"}).parallelism());
+    }
+
+    @Test
+    public void testParse_InvalidParallelism() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CommandLineOptions.parse(new String[]{"in.json", "out.json", "--parallel=0"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> CommandLineOptions.parse(new String[]{"in.json", "out.json", "--parallel=many"}));
+    }
+
+    @Test
+    public void testParse_PrettyPrint() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"--pretty", "in.json", "out.json"});
+
+        assertTrue(options.prettyPrint());
+        assertEquals("in.json", options.inputFilePath());
+    }
+
+    @Test
+    public void testParse_MemoryMapped() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"in.json", "out.json", "--mmap"});
+
+        assertTrue(options.memoryMapped());
+        assertFalse(options.prettyPrint());
+    }
+
+    @Test
+    public void testFormats_FromExtension() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"in.ndjson", "out.json"});
+
+        assertNull(options.format());
+        assertEquals(FileFormat.NDJSON, options.inputFormat());
+        assertEquals(FileFormat.JSON, options.outputFormat());
+    }
+
+    @Test
+    public void testFormats_FlagOverridesExtension() {
+        CommandLineOptions options = CommandLineOptions.parse(new String[]{"in.json", "out.json", "--format=ndjson"});
+
+        assertEquals(FileFormat.NDJSON, options.inputFormat());
+        assertEquals(FileFormat.NDJSON, options.outputFormat());
+    }
+
+    @Test
+    public void testParse_UnknownFormat() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CommandLineOptions.parse(new String[]{"in.json", "out.json", "--format=xml"}));
+    }
+
+    @Test
+    public void testParse_MissingPaths() {
+        assertThrows(IllegalArgumentException.class, () -> CommandLineOptions.parse(new String[]{"in.json"}));
+        assertThrows(IllegalArgumentException.class, () -> CommandLineOptions.parse(new String[]{}));
+    }
+
+    @Test
+    public void testParse_UnknownOption() {
+        assertThrows(IllegalArgumentException.class,
+                () -> CommandLineOptions.parse(new String[]{"in.json", "out.json", "--fast"}));
+    }
+}
@@ -88,6 +88,13 @@ public class ConfigUnitTest {
         assertEquals(0, discountCategories.get(3003).compareTo(new BigDecimal("0.05")));
     }
 
+    @Test
+    public void testTotalPricePromotionTiers() {
+        assertEquals(4, Config.TOTAL_PRICE_PROMOTION_TIERS.size());
+        assertEquals(0, new BigDecimal("500").compareTo(Config.TOTAL_PRICE_PROMOTION_TIERS.firstKey()));
+        assertEquals(0, new BigDecimal("2000").compareTo(Config.TOTAL_PRICE_PROMOTION_TIERS.get(Config.TOTAL_PRICE_PROMOTION_TIERS.lastKey())));
+    }
+
     @Test
     public void testValidCategoriesForVas() {
         Set<Integer> validCategoriesForVas = Config.VALID_CATEGORIES_FOR_VAS;
@@ -24,4 +24,13 @@ public class ItemNotFoundExceptionUnitTest {
         assertEquals(message, exception.getMessage());
         assertEquals(cause, exception.getCause());
     }
+
+    @Test
+    public void testStacklessExceptionFormatsMessageFromCode() {
+        ItemNotFoundException exception = new ItemNotFoundException(ErrorMessages.ITEM_NOT_FOUND, 7);
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(ErrorMessages.ITEM_NOT_FOUND, exception.getError());
+        assertEquals("Item with ID 7 not found in the cart.", exception.getMessage());
+    }
 }
@@ -1,6 +1,9 @@
 package com.shoppingcart.exceptions;
 
 import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ItemValidationExceptionUnitTest {
@@ -24,4 +27,33 @@ public class ItemValidationExceptionUnitTest {
         assertEquals(message, exception.getMessage());
         assertEquals(cause, exception.getCause());
     }
+
+    @Test
+    public void testStacklessExceptionFormatsMessageFromCode() {
+        ItemValidationException exception = new ItemValidationException(ErrorMessages.MAX_QUANTITY_EXCEEDED, 10);
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(ErrorMessages.MAX_QUANTITY_EXCEEDED, exception.getError());
+        assertArrayEquals(new Object[]{10L}, exception.getArgs());
+        assertEquals(ErrorMessages.MAX_QUANTITY_EXCEEDED.format(10), exception.getMessage());
+    }
+
+    @Test
+    public void testAmountArgumentsAreFormattedFromCents() {
+        ItemValidationException exception = new ItemValidationException(ErrorMessages.TOTAL_AMOUNT_EXCEEDED,
+                49000000L, 6000000L, 54800000L, 50000000L);
+
+        assertArrayEquals(new Object[]{new BigDecimal("490000.00"), new BigDecimal("60000.00"),
+                new BigDecimal("548000.00"), new BigDecimal("500000.00")}, exception.getArgs());
+        assertEquals("Adding items causes total amount to exceed the allowed limit. Current total: 490000.00, "
+                + "attempted to add: 60000.00, resulting total: 548000.00, allowed limit: 500000.00.", exception.getMessage());
+    }
+
+    @Test
+    public void testTextArgumentsKeepVarargs() {
+        ItemValidationException exception = new ItemValidationException(ErrorMessages.INVALID_CATEGORY_FOR_VAS, "DigitalItem", 3242);
+
+        assertArrayEquals(new Object[]{"DigitalItem", 3242}, exception.getArgs());
+        assertEquals("DigitalItem cannot have the categoryId reserved for VAS items: 3242.", exception.getMessage());
+    }
 }
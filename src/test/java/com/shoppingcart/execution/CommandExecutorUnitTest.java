@@ -0,0 +1,168 @@
+package com.shoppingcart.execution;
+
+import com.shoppingcart.cart.Cart;
+import com.shoppingcart.cart.CartRegistry;
+import com.shoppingcart.commands.*;
+import com.shoppingcart.handlers.*;
+import com.shoppingcart.io.ResponseWriter;
+import com.shoppingcart.promotions.CategoryPromotion;
+import com.shoppingcart.promotions.PromotionService;
+import com.shoppingcart.promotions.SameSellerPromotion;
+import com.shoppingcart.promotions.TotalPricePromotion;
+import com.shoppingcart.responses.Response;
+import com.shoppingcart.responses.ResponseEncoder;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandExecutorUnitTest {
+
+    @Test
+    void shouldProduceSameOutputAsSequentialRun() throws IOException {
+        List<Command> commands = randomCommands(5000, 40);
+
+        List<String> sequential = run(new SequentialCommandExecutor(createProcessor()), commands);
+        List<String> partitioned = run(new PartitionedCommandExecutor(createProcessor(), 4, 16), commands);
+
+        assertEquals(commands.size(), sequential.size());
+        assertEquals(sequential, partitioned);
+    }
+
+    @Test
+    void shouldProduceSameOutputWithVirtualThreadMailboxes() throws IOException {
+        List<Command> commands = randomCommands(5000, 40);
+
+        assertEquals(run(new SequentialCommandExecutor(createProcessor()), commands),
+                run(new VirtualThreadCommandExecutor(createProcessor(), 16), commands));
+    }
+
+    @Test
+    void shouldKeepOrderWhenManyCartsShareFewSlots() throws IOException {
+        List<Command> commands = randomCommands(20000, 5000);
+
+        assertEquals(run(new SequentialCommandExecutor(createProcessor()), commands),
+                run(new VirtualThreadCommandExecutor(createProcessor(), 64), commands));
+    }
+
+    @Test
+    void shouldProduceSameOutputThroughRingBuffer() throws IOException {
+        List<Command> commands = randomCommands(5000, 40);
+
+        assertEquals(run(new SequentialCommandExecutor(createProcessor()), commands),
+                run(new RingBufferCommandExecutor(createProcessor(), 3, 16), commands));
+    }
+
+    @Test
+    void shouldWrapRingManyTimesWithSingleSlot() throws IOException {
+        List<Command> commands = randomCommands(2000, 10);
+
+        assertEquals(run(new SequentialCommandExecutor(createProcessor()), commands),
+                run(new RingBufferCommandExecutor(createProcessor(), 2, 1), commands));
+    }
+
+    @Test
+    void shouldReportWriterFailureFromRingBuffer() {
+        ResponseWriter failingWriter = new ResponseWriter() {
+            @Override
+            public void write(Response response) throws IOException {
+                throw new IOException("disk full");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        RingBufferCommandExecutor executor = new RingBufferCommandExecutor(createProcessor(), 2, 4);
+
+        IOException e = assertThrows(IOException.class,
+                () -> executor.execute(randomCommands(100, 5).iterator(), failingWriter));
+        assertEquals("disk full", e.getMessage());
+    }
+
+    @Test
+    void shouldKeepSinglePartitionOrdered() throws IOException {
+        List<Command> commands = randomCommands(500, 3);
+
+        assertEquals(run(new SequentialCommandExecutor(createProcessor()), commands),
+                run(new PartitionedCommandExecutor(createProcessor(), 1, 1), commands));
+    }
+
+    @Test
+    void shouldMapEachCartToOnePartition() {
+        PartitionedCommandExecutor executor = new PartitionedCommandExecutor(createProcessor(), 3);
+
+        for (int cartId = -100; cartId < 100; cartId++) {
+            int partition = executor.partitionOf(cartId);
+            assertTrue(partition >= 0 && partition < 3);
+            assertEquals(partition, executor.partitionOf(cartId));
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        CommandProcessor processor = createProcessor();
+
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedCommandExecutor(processor, 0));
+        assertThrows(IllegalArgumentException.class, () -> new PartitionedCommandExecutor(processor, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new VirtualThreadCommandExecutor(processor, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferCommandExecutor(processor, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferCommandExecutor(processor, 2, 12));
+    }
+
+    private static List<String> run(CommandExecutor executor, List<Command> commands) throws IOException {
+        List<String> output = new ArrayList<>();
+        ResponseWriter writer = new ResponseWriter() {
+            @Override
+            public void write(Response response) {
+                ResponseEncoder encoder = new ResponseEncoder();
+                response.encodeTo(encoder);
+                output.add(new String(encoder.toByteArray(), StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        assertEquals(commands.size(), executor.execute(commands.iterator(), writer));
+        return output;
+    }
+
+    private static List<Command> randomCommands(int count, int carts) {
+        Random random = new Random(42);
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int cartId = random.nextInt(carts);
+            int itemId = 1 + random.nextInt(5);
+            switch (random.nextInt(6)) {
+                case 0, 1 -> commands.add(new AddItemCommand(cartId, itemId, 1001 + random.nextInt(2),
+                        10 + random.nextInt(3), BigDecimal.valueOf(random.nextInt(50000), 2), 1 + random.nextInt(2)));
+                case 2 -> commands.add(new AddVasItemToItemCommand(cartId, itemId, 100, 3242, 5003,
+                        BigDecimal.valueOf(random.nextInt(10000), 2), 1));
+                case 3 -> commands.add(new RemoveItemCommand(cartId, itemId));
+                case 4 -> commands.add(new JsonCommand(new JSONObject().put("command", "resetCart").put("cartId", cartId)));
+                default -> commands.add(DisplayCartCommand.forCart(cartId));
+            }
+        }
+        return commands;
+    }
+
+    private static CommandProcessor createProcessor() {
+        PromotionService promotionService = new PromotionService(List.of(
+                new SameSellerPromotion(), new CategoryPromotion(), new TotalPricePromotion()));
+        CommandProcessor processor = new CommandProcessor(new CartRegistry(() -> new Cart(promotionService)));
+        processor.registerHandler(AddItemCommand.TYPE, new AddItemCommandHandler());
+        processor.registerHandler(AddVasItemToItemCommand.TYPE, new AddVasItemToItemCommandHandler());
+        processor.registerHandler(RemoveItemCommand.TYPE, new RemoveItemCommandHandler());
+        processor.registerHandler(ResetCartCommand.TYPE, new ResetCartCommandHandler());
+        processor.registerHandler(DisplayCartCommand.TYPE, new DisplayCartCommandHandler());
+        return processor;
+    }
+}
@@ -0,0 +1,56 @@
+package com.shoppingcart.execution;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReorderBufferUnitTest {
+
+    @Test
+    void shouldRoundCapacityUpToPowerOfTwo() {
+        assertEquals(1, new ReorderBuffer<String>(1).capacity());
+        assertEquals(8, new ReorderBuffer<String>(5).capacity());
+        assertEquals(8, new ReorderBuffer<String>(8).capacity());
+    }
+
+    @Test
+    void shouldReturnResultsInSequenceOrder() {
+        ReorderBuffer<String> buffer = new ReorderBuffer<>(4);
+        buffer.complete(1, "b");
+
+        assertNull(buffer.poll(0));
+        buffer.complete(0, "a");
+        assertEquals("a", buffer.poll(0));
+        assertEquals("b", buffer.take(1));
+        assertNull(buffer.poll(2));
+    }
+
+    @Test
+    void shouldWaitForResultsCompletedOnOtherThreads() {
+        ReorderBuffer<Long> buffer = new ReorderBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (long sequence = 1023; sequence >= 0; sequence--) {
+                long value = sequence;
+                executor.execute(() -> buffer.complete(value, value));
+            }
+            for (long sequence = 0; sequence < 1024; sequence++) {
+                assertEquals(sequence, buffer.take(sequence));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRethrowFailure() {
+        ReorderBuffer<String> buffer = new ReorderBuffer<>(2);
+        buffer.fail(new OutOfMemoryError("boom"));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> buffer.take(0));
+        assertInstanceOf(OutOfMemoryError.class, e.getCause());
+    }
+}
@@ -2,6 +2,7 @@ package com.shoppingcart.handlers;
 
 import com.shoppingcart.cart.Cart;
 import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.AddItemCommand;
 import com.shoppingcart.promotions.CategoryPromotion;
 import com.shoppingcart.promotions.PromotionService;
 import com.shoppingcart.promotions.SameSellerPromotion;
@@ -28,7 +29,7 @@ public class AddItemCommandHandlerUnitTest {
                 new TotalPricePromotion()
         ));
         cart = new Cart(promotionService);
-        handler = new AddItemCommandHandler(cart);
+        handler = new AddItemCommandHandler();
     }
 
     @Test
@@ -42,9 +43,20 @@ public class AddItemCommandHandlerUnitTest {
         payload.put("quantity", 1);
         command.put("payload", payload);
 
-        JSONObject response = handler.handleCommand(command);
+        JSONObject response = handler.handleCommand(cart, command);
         assertTrue(response.getBoolean("result"));
         assertEquals("Item added successfully", response.getString("message"));
         assertEquals(1, cart.getItems().size());
     }
+
+    @Test
+    public void testHandleCommand_TypedCommand() {
+        AddItemCommand command = new AddItemCommand(1, 1001, 2001, new BigDecimal("100.00"), 2);
+
+        JSONObject response = handler.handleCommand(cart, command).toJSON();
+
+        assertTrue(response.getBoolean("result"));
+        assertEquals("Item added successfully", response.getString("message"));
+        assertEquals(2, cart.getItems().get(1).getQuantity());
+    }
 }
@@ -0,0 +1,95 @@
+package com.shoppingcart.handlers;
+
+import com.shoppingcart.cart.Cart;
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.models.DefaultItem;
+import com.shoppingcart.promotions.CategoryPromotion;
+import com.shoppingcart.promotions.PromotionService;
+import com.shoppingcart.promotions.SameSellerPromotion;
+import com.shoppingcart.promotions.TotalPricePromotion;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AddItemsCommandHandlerUnitTest {
+
+    private ICart cart;
+    private AddItemsCommandHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        PromotionService promotionService = new PromotionService(Arrays.asList(
+                new SameSellerPromotion(),
+                new CategoryPromotion(),
+                new TotalPricePromotion()
+        ));
+        cart = new Cart(promotionService);
+        handler = new AddItemsCommandHandler();
+    }
+
+    @Test
+    public void testHandleCommand_AddsEveryItem() {
+        JSONObject command = command(item(1, 1001, 100.0, 1), item(2, 3003, 50.0, 2));
+
+        JSONObject response = handler.handleCommand(cart, command);
+
+        assertTrue(response.getBoolean("result"));
+        JSONArray items = response.getJSONObject("message").getJSONArray("items");
+        assertEquals(2, items.length());
+        assertEquals(2, items.getJSONObject(1).getInt("itemId"));
+        assertTrue(items.getJSONObject(1).getBoolean("result"));
+        assertEquals("Item added successfully", items.getJSONObject(1).getString("message"));
+        assertEquals(2, cart.getItems().size());
+    }
+
+    @Test
+    public void testHandleCommand_RejectsWholeBatch() {
+        JSONObject command = command(item(1, 1001, 100.0, 1), item(2, 1001, 100.0, 0));
+
+        JSONObject response = handler.handleCommand(cart, command);
+
+        assertFalse(response.getBoolean("result"));
+        JSONArray items = response.getJSONObject("message").getJSONArray("items");
+        assertFalse(items.getJSONObject(0).getBoolean("result"));
+        assertEquals("Item not added because another item in the batch was rejected.", items.getJSONObject(0).getString("message"));
+        assertEquals("Item validation failed: Quantity must be greater than zero.", items.getJSONObject(1).getString("message"));
+        assertTrue(cart.getItems().isEmpty());
+    }
+
+    @Test
+    public void testHandleCommand_RejectsEveryItem_WhenBatchExceedsAmountLimit() {
+        cart.addItem(new DefaultItem(1, 1001, 2002, new BigDecimal("490000"), 1));
+
+        JSONObject response = handler.handleCommand(cart, command(item(2, 1001, 30000.0, 1), item(3, 1001, 30000.0, 1)));
+
+        assertFalse(response.getBoolean("result"));
+        JSONArray items = response.getJSONObject("message").getJSONArray("items");
+        for (int i = 0; i < items.length(); i++) {
+            assertFalse(items.getJSONObject(i).getBoolean("result"));
+            assertTrue(items.getJSONObject(i).getString("message")
+                    .contains("Adding items causes total amount to exceed the allowed limit."));
+        }
+        assertEquals(1, cart.getItems().size());
+    }
+
+    private static JSONObject command(JSONObject... items) {
+        return new JSONObject()
+                .put("command", "addItems")
+                .put("payload", new JSONObject().put("items", new JSONArray(items)));
+    }
+
+    private static JSONObject item(int itemId, int categoryId, double price, int quantity) {
+        return new JSONObject()
+                .put("itemId", itemId)
+                .put("categoryId", categoryId)
+                .put("sellerId", 2001)
+                .put("price", BigDecimal.valueOf(price))
+                .put("quantity", quantity);
+    }
+}
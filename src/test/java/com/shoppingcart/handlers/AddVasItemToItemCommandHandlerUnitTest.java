@@ -19,7 +19,7 @@ public class AddVasItemToItemCommandHandlerUnitTest {
     @BeforeEach
     public void setUp() {
         cart = mock(ICart.class); // Mock ICart interface
-        handler = new AddVasItemToItemCommandHandler(cart);
+        handler = new AddVasItemToItemCommandHandler();
     }
 
     @Test
@@ -37,7 +37,7 @@ public class AddVasItemToItemCommandHandlerUnitTest {
         payload.put("quantity", 1);
         command.put("payload", payload);
 
-        JSONObject response = handler.handleCommand(command);
+        JSONObject response = handler.handleCommand(cart, command);
         assertTrue(response.getBoolean("result"));
         assertEquals("VAS item added successfully", response.getString("message"));
     }
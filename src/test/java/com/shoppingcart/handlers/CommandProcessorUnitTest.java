@@ -1,21 +1,43 @@
 package com.shoppingcart.handlers;
 
+import com.shoppingcart.cart.Cart;
+import com.shoppingcart.cart.CartRegistry;
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.AddItemsCommand;
+import com.shoppingcart.commands.Command;
+import com.shoppingcart.commands.JsonCommand;
+import com.shoppingcart.commands.RemoveItemCommand;
+import com.shoppingcart.exceptions.ErrorMessages;
+import com.shoppingcart.exceptions.ItemNotFoundException;
+import com.shoppingcart.promotions.PromotionService;
+import com.shoppingcart.responses.MessageResponse;
+import com.shoppingcart.responses.RejectionResponse;
+import com.shoppingcart.responses.Response;
+import com.shoppingcart.responses.ResponseEncoder;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 public class CommandProcessorUnitTest {
 
     private CommandProcessor processor;
+    private CartRegistry carts;
+    private ICart defaultCart;
     private ICommandHandler addItemHandler;
     private ICommandHandler removeItemHandler;
 
     @BeforeEach
     public void setUp() {
-        processor = new CommandProcessor();
+        carts = new CartRegistry(() -> mock(ICart.class));
+        defaultCart = carts.getOrCreate(Command.DEFAULT_CART_ID);
+        processor = new CommandProcessor(carts);
         addItemHandler = mock(ICommandHandler.class);
         removeItemHandler = mock(ICommandHandler.class);
 
@@ -28,11 +50,11 @@ public class CommandProcessorUnitTest {
         JSONObject command = new JSONObject().put("command", "addItem");
         JSONObject expectedResponse = new JSONObject().put("result", true).put("message", "Item added successfully");
 
-        when(addItemHandler.handleCommand(command)).thenReturn(expectedResponse);
+        when(addItemHandler.handleCommand(defaultCart, command)).thenReturn(expectedResponse);
 
         JSONObject response = processor.processCommand(command);
         assertEquals(expectedResponse.toString(), response.toString());
-        verify(addItemHandler).handleCommand(command);
+        verify(addItemHandler).handleCommand(defaultCart, command);
     }
 
     @Test
@@ -40,11 +62,11 @@ public class CommandProcessorUnitTest {
         JSONObject command = new JSONObject().put("command", "removeItem");
         JSONObject expectedResponse = new JSONObject().put("result", true).put("message", "Item removed successfully");
 
-        when(removeItemHandler.handleCommand(command)).thenReturn(expectedResponse);
+        when(removeItemHandler.handleCommand(defaultCart, command)).thenReturn(expectedResponse);
 
         JSONObject response = processor.processCommand(command);
         assertEquals(expectedResponse.toString(), response.toString());
-        verify(removeItemHandler).handleCommand(command);
+        verify(removeItemHandler).handleCommand(defaultCart, command);
     }
 
     @Test
@@ -59,10 +81,109 @@ public class CommandProcessorUnitTest {
     @Test
     public void testProcessCommand_HandlerThrowsException() {
         JSONObject command = new JSONObject().put("command", "addItem");
-        when(addItemHandler.handleCommand(command)).thenThrow(new RuntimeException("Test exception"));
+        when(addItemHandler.handleCommand(defaultCart, command)).thenThrow(new RuntimeException("Test exception"));
 
         JSONObject response = processor.processCommand(command);
         assertFalse(response.getBoolean("result"));
         assertTrue(response.getString("message").contains("Error processing command"));
     }
+
+    @Test
+    public void testProcessCommand_TypedCommand() {
+        RemoveItemCommand command = new RemoveItemCommand(1);
+        Response expectedResponse = new MessageResponse(true, "Item removed successfully");
+
+        when(removeItemHandler.handleCommand(defaultCart, command)).thenReturn(expectedResponse);
+
+        Response response = processor.processCommand(command);
+        assertSame(expectedResponse, response);
+        verify(removeItemHandler).handleCommand(defaultCart, command);
+    }
+
+    @Test
+    public void testProcessCommand_TypedCommandThrowsItemNotFound() {
+        RemoveItemCommand command = new RemoveItemCommand(1);
+        when(removeItemHandler.handleCommand(defaultCart, command)).thenThrow(new ItemNotFoundException("Item with ID 1 not found in the cart."));
+
+        JSONObject response = processor.processCommand(command).toJSON();
+        assertFalse(response.getBoolean("result"));
+        assertEquals("Parent item not found: Item with ID 1 not found in the cart.", response.getString("message"));
+    }
+
+    @Test
+    public void testProcessCommand_TypedCommandRejectedWithErrorCode() {
+        RemoveItemCommand command = new RemoveItemCommand(1);
+        when(removeItemHandler.handleCommand(defaultCart, command)).thenThrow(new ItemNotFoundException(ErrorMessages.ITEM_NOT_FOUND, 1));
+
+        Response response = processor.processCommand(command);
+
+        RejectionResponse rejection = assertInstanceOf(RejectionResponse.class, response);
+        assertEquals(ErrorMessages.ITEM_NOT_FOUND, rejection.error());
+        ResponseEncoder encoder = new ResponseEncoder();
+        response.encodeTo(encoder);
+        assertEquals(new MessageResponse(false, "Parent item not found: Item with ID 1 not found in the cart.").toJSON().toString(),
+                new String(encoder.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testProcessCommand_JsonCommandUsesJsonPath() {
+        JSONObject json = new JSONObject().put("command", "addItem");
+        JSONObject expectedResponse = new JSONObject().put("result", true).put("message", "Item added successfully");
+        when(addItemHandler.handleCommand(defaultCart, json)).thenReturn(expectedResponse);
+
+        JSONObject response = processor.processCommand(new JsonCommand(json)).toJSON();
+        assertEquals(expectedResponse.toString(), response.toString());
+        verify(addItemHandler).handleCommand(defaultCart, json);
+    }
+
+    @Test
+    public void testProcessCommand_AddItemsEncodesBatch() {
+        CommandProcessor realProcessor = new CommandProcessor(new CartRegistry(() -> new Cart(new PromotionService(List.of()))));
+        realProcessor.registerHandler(AddItemsCommand.TYPE, new AddItemsCommandHandler());
+        JSONObject json = new JSONObject().put("command", AddItemsCommand.TYPE).put("payload", new JSONObject().put("items", new JSONArray()
+                .put(new JSONObject().put("itemId", 1).put("categoryId", 1001).put("sellerId", 2001).put("price", 100.5).put("quantity", 1))
+                .put(new JSONObject().put("itemId", 2).put("categoryId", 1001).put("sellerId", 2001).put("price", 10).put("quantity", 0))));
+
+        Response response = realProcessor.processCommand(AddItemsCommand.fromJSON(json));
+
+        ResponseEncoder encoder = new ResponseEncoder();
+        response.encodeTo(encoder);
+        assertEquals("{\"result\":false,\"message\":{\"items\":["
+                        + "{\"result\":false,\"itemId\":1,\"message\":\"Item not added because another item in the batch was rejected.\"},"
+                        + "{\"result\":false,\"itemId\":2,\"message\":\"Item validation failed: Quantity must be greater than zero.\"}]}}",
+                new String(encoder.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(response.toJSON().toString(), new String(encoder.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testProcessCommand_RoutesByCartId() {
+        RemoveItemCommand command = new RemoveItemCommand(42, 1);
+        Response expectedResponse = new MessageResponse(true, "Item removed successfully");
+        when(removeItemHandler.handleCommand(any(ICart.class), eq(command))).thenReturn(expectedResponse);
+
+        processor.processCommand(command);
+
+        ICart cart = carts.get(42);
+        assertNotNull(cart);
+        assertNotSame(defaultCart, cart);
+        verify(removeItemHandler).handleCommand(cart, command);
+    }
+
+    @Test
+    public void testProcessCommand_InvalidCartId() {
+        JSONObject command = new JSONObject().put("command", "addItem").put("cartId", "abc");
+
+        JSONObject response = processor.processCommand(command);
+
+        assertFalse(response.getBoolean("result"));
+        assertTrue(response.getString("message").startsWith("JSON parsing error: "));
+        verifyNoInteractions(addItemHandler);
+    }
+
+    @Test
+    public void testProcessCommand_UnknownCommandDoesNotCreateCart() {
+        processor.processCommand(new JSONObject().put("command", "unknownCommand").put("cartId", 7));
+
+        assertNull(carts.get(7));
+    }
 }
@@ -17,7 +17,7 @@ public class DisplayCartCommandHandlerUnitTest {
     @BeforeEach
     public void setUp() {
         cart = mock(ICart.class);
-        handler = new DisplayCartCommandHandler(cart);
+        handler = new DisplayCartCommandHandler();
     }
 
     @Test
@@ -37,7 +37,7 @@ public class DisplayCartCommandHandlerUnitTest {
 
         // ✅ WHEN
         JSONObject command = new JSONObject();
-        JSONObject actualResponse = handler.handleCommand(command);
+        JSONObject actualResponse = handler.handleCommand(cart, command);
 
         // ✅ THEN
         assertTrue(actualResponse.getBoolean("result"));
@@ -62,7 +62,7 @@ public class DisplayCartCommandHandlerUnitTest {
 
         // ✅ WHEN
         JSONObject command = new JSONObject();
-        JSONObject actualResponse = handler.handleCommand(command);
+        JSONObject actualResponse = handler.handleCommand(cart, command);
 
         // ✅ THEN
         assertTrue(actualResponse.getBoolean("result"));
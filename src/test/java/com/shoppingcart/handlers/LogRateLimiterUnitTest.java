@@ -0,0 +1,32 @@
+package com.shoppingcart.handlers;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class LogRateLimiterUnitTest {
+
+    @Test
+    public void testTryAcquire_AllowsConfiguredMessagesPerSecond() {
+        LogRateLimiter limiter = new LogRateLimiter(mock(Logger.class), 3);
+
+        int permitted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (limiter.tryAcquire()) {
+                permitted++;
+            }
+        }
+
+        // A second boundary may fall inside the loop and open one more window
+        assertTrue(permitted >= 3 && permitted <= 6, "permitted " + permitted);
+    }
+
+    @Test
+    public void testTryAcquire_DisabledWhenRateIsZero() {
+        LogRateLimiter limiter = new LogRateLimiter(mock(Logger.class), 0);
+
+        assertFalse(limiter.tryAcquire());
+    }
+}
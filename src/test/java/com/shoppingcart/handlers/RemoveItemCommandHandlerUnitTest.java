@@ -1,6 +1,7 @@
 package com.shoppingcart.handlers;
 
 import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.RemoveItemCommand;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,17 +17,25 @@ public class RemoveItemCommandHandlerUnitTest {
     @BeforeEach
     public void setUp() {
         cart = mock(ICart.class);
-        handler = new RemoveItemCommandHandler(cart);
+        handler = new RemoveItemCommandHandler();
     }
 
     @Test
     public void testHandleCommand_Success() {
         JSONObject command = new JSONObject()
                 .put("payload", new JSONObject().put("itemId", 1));
-        JSONObject response = handler.handleCommand(command);
+        JSONObject response = handler.handleCommand(cart, command);
 
         verify(cart).removeItem(1);
         assertTrue(response.getBoolean("result"));
         assertEquals("Item removed successfully", response.getString("message"));
     }
+
+    @Test
+    public void testHandleCommand_TypedCommand() {
+        JSONObject response = handler.handleCommand(cart, new RemoveItemCommand(7)).toJSON();
+
+        verify(cart).removeItem(7);
+        assertTrue(response.getBoolean("result"));
+    }
 }
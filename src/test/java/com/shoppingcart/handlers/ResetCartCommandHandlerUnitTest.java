@@ -16,13 +16,13 @@ public class ResetCartCommandHandlerUnitTest {
     @BeforeEach
     public void setUp() {
         cart = mock(ICart.class);
-        handler = new ResetCartCommandHandler(cart);
+        handler = new ResetCartCommandHandler();
     }
 
     @Test
     public void testHandleCommand_Success() {
         JSONObject command = new JSONObject().put("command", "resetCart");
-        JSONObject response = handler.handleCommand(command);
+        JSONObject response = handler.handleCommand(cart, command);
 
         verify(cart).reset();
         assertTrue(response.getBoolean("result"));
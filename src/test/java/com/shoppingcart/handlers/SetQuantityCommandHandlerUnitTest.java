@@ -0,0 +1,44 @@
+package com.shoppingcart.handlers;
+
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.commands.SetQuantityCommand;
+import com.shoppingcart.responses.Response;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class SetQuantityCommandHandlerUnitTest {
+
+    private ICart mockCart;
+    private SetQuantityCommandHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        mockCart = mock(ICart.class);
+        handler = new SetQuantityCommandHandler();
+    }
+
+    @Test
+    public void testHandleCommand_Success() {
+        JSONObject command = new JSONObject()
+                .put("command", SetQuantityCommand.TYPE)
+                .put("payload", new JSONObject().put("itemId", 1).put("quantity", 4));
+
+        JSONObject response = handler.handleCommand(mockCart, command);
+
+        assertTrue(response.getBoolean("result"));
+        assertEquals("Item quantity updated successfully", response.getString("message"));
+        verify(mockCart).setItemQuantity(1, 4);
+    }
+
+    @Test
+    public void testHandleCommand_TypedCommand() {
+        Response response = handler.handleCommand(mockCart, new SetQuantityCommand(2, 3));
+
+        assertTrue(response.toJSON().getBoolean("result"));
+        verify(mockCart).setItemQuantity(2, 3);
+    }
+}
@@ -0,0 +1,104 @@
+package com.shoppingcart.io;
+
+import com.shoppingcart.commands.*;
+import org.json.JSONException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandDecoderUnitTest {
+
+    private CommandDecoder decoder;
+
+    @BeforeEach
+    public void setUp() {
+        decoder = new CommandDecoder();
+    }
+
+    @Test
+    public void testDecode_AddItem() {
+        Command command = decode("{\"command\":\"addItem\",\"payload\":{\"itemId\":1,\"categoryId\":1001,"
+                + "\"sellerId\":2001,\"price\":150.5,\"quantity\":9}}");
+
+        assertEquals(new AddItemCommand(1, 1001, 2001, new BigDecimal("150.5"), 9), command);
+    }
+
+    @Test
+    public void testDecode_AddItem_PayloadFirstWithWhitespaceAndExtraFields() {
+        Command command = decode("{\n  \"payload\": { \"quantity\" : 1, \"note\": \"{\\\"x\\\"]\", \"tags\": [1, {\"a\": null}],"
+                + " \"price\": -0.25, \"sellerId\": 2, \"categoryId\": 3, \"itemId\": 4 },\n  \"command\": \"addItem\"\n}");
+
+        assertEquals(new AddItemCommand(4, 3, 2, new BigDecimal("-0.25"), 1), command);
+    }
+
+    @Test
+    public void testDecode_AddVasItemToItem() {
+        Command command = decode("{\"command\":\"addVasItemToItem\",\"payload\":{\"itemId\":2,\"vasItemId\":1,"
+                + "\"vasCategoryId\":3242,\"vasSellerId\":5003,\"price\":50.00,\"quantity\":1}}");
+
+        assertEquals(new AddVasItemToItemCommand(2, 1, 3242, 5003, new BigDecimal("50.00"), 1), command);
+    }
+
+    @Test
+    public void testDecode_RemoveResetDisplay() {
+        assertEquals(new RemoveItemCommand(3), decode("{\"command\":\"removeItem\",\"payload\":{\"itemId\":3}}"));
+        assertSame(ResetCartCommand.INSTANCE, decode("{\"command\":\"resetCart\"}"));
+        assertSame(DisplayCartCommand.INSTANCE, decode("{\"command\":\"displayCart\",\"payload\":{}}"));
+    }
+
+    @Test
+    public void testDecode_SetQuantity() {
+        assertEquals(new SetQuantityCommand(3, 3, 4), decode("{\"command\":\"setQuantity\",\"cartId\":3,\"payload\":{\"quantity\":4,\"itemId\":3}}"));
+        assertInstanceOf(JsonCommand.class, decode("{\"command\":\"setQuantity\",\"payload\":{\"itemId\":3}}"));
+    }
+
+    @Test
+    public void testDecode_CartId() {
+        assertEquals(new AddItemCommand(42, 1, 1001, 2001, new BigDecimal("10"), 1),
+                decode("{\"cartId\":42,\"command\":\"addItem\",\"payload\":{\"itemId\":1,\"categoryId\":1001,"
+                        + "\"sellerId\":2001,\"price\":10,\"quantity\":1}}"));
+        assertEquals(new RemoveItemCommand(7, 3), decode("{\"command\":\"removeItem\",\"payload\":{\"itemId\":3},\"cartId\":7}"));
+        assertEquals(new DisplayCartCommand(-5), decode("{\"command\":\"displayCart\",\"cartId\":-5}"));
+    }
+
+    @Test
+    public void testDecode_FallsBackToJsonForNonIntegerCartId() {
+        Command command = decode("{\"command\":\"resetCart\",\"cartId\":\"abc\"}");
+
+        assertInstanceOf(JsonCommand.class, command);
+    }
+
+    @Test
+    public void testDecode_FallsBackToJsonForUnknownCommand() {
+        Command command = decode("{\"command\":\"checkout\"}");
+
+        JsonCommand jsonCommand = assertInstanceOf(JsonCommand.class, command);
+        assertEquals("checkout", jsonCommand.type());
+    }
+
+    @Test
+    public void testDecode_FallsBackToJsonOutsideFastPath() {
+        assertInstanceOf(JsonCommand.class, decode("{\"command\":\"addItem\",\"payload\":{\"itemId\":1}}"));
+        assertInstanceOf(JsonCommand.class, decode("{\"command\":\"removeItem\"}"));
+        assertInstanceOf(JsonCommand.class, decode("{\"command\":\"removeItem\",\"payload\":{\"itemId\":\"1\"}}"));
+        assertInstanceOf(JsonCommand.class, decode("{\"command\":\"removeItem\",\"payload\":{\"itemId\":1.5}}"));
+        assertInstanceOf(JsonCommand.class, decode("{\"command\":\"removeItem\",\"payload\":{\"itemId\":3000000000}}"));
+        assertInstanceOf(JsonCommand.class, decode("{\"command\":\"addItem\",\"payload\":{\"itemId\":1,\"categoryId\":1,"
+                + "\"sellerId\":1,\"price\":1e3,\"quantity\":1}}"));
+        assertInstanceOf(JsonCommand.class, decode("{\"command\":\"remove\\u0049tem\",\"payload\":{\"itemId\":1}}"));
+    }
+
+    @Test
+    public void testDecode_MalformedJsonThrows() {
+        assertThrows(JSONException.class, () -> decode("{\"command\":\"addItem\",\"payload\":{\"itemId\":1}"));
+    }
+
+    private Command decode(String json) {
+        byte[] bytes = ("  " + json + "  ").getBytes(StandardCharsets.UTF_8);
+        return decoder.decode(bytes, 2, bytes.length - 4);
+    }
+}
@@ -1,6 +1,7 @@
 package com.shoppingcart.io;
 
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,7 +10,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,6 +41,85 @@ public class JSONFileOperationsUnitTest {
         Files.delete(path);
     }
 
+    @Test
+    public void testStreamCommandsFromFile() throws IOException {
+        String testFilePath = "test_stream_input.json";
+        String fileContent = "[\n  {\"command\":\"addItem\",\"payload\":{\"itemId\":1,\"price\":10.5}},\n"
+                + "  {\"command\":\"displayCart\",\"note\":\"braces } and ] inside \\\" strings\"},\n"
+                + "  {\"command\":\"resetCart\"}\n]\n";
+        Path path = Paths.get(testFilePath);
+        Files.write(path, fileContent.getBytes());
+
+        try (Stream<JSONObject> commands = fileOperations.streamCommandsFromFile(testFilePath)) {
+            Iterator<JSONObject> iterator = commands.iterator();
+
+            assertEquals(1, iterator.next().getJSONObject("payload").getInt("itemId"));
+            JSONObject display = iterator.next();
+            assertEquals("displayCart", display.getString("command"));
+            assertEquals("braces } and ] inside \" strings", display.getString("note"));
+            assertEquals("resetCart", iterator.next().getString("command"));
+            assertFalse(iterator.hasNext());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testStreamCommandsFromFile_EmptyArray() throws IOException {
+        String testFilePath = "test_stream_empty.json";
+        Path path = Paths.get(testFilePath);
+        Files.write(path, " [ ] ".getBytes());
+
+        try (Stream<JSONObject> commands = fileOperations.streamCommandsFromFile(testFilePath)) {
+            assertEquals(0, commands.count());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testStreamCommandsFromFile_UnterminatedArray() throws IOException {
+        String testFilePath = "test_stream_unterminated.json";
+        Path path = Paths.get(testFilePath);
+        Files.write(path, "[{\"command\":\"resetCart\"},".getBytes());
+
+        try (Stream<JSONObject> commands = fileOperations.streamCommandsFromFile(testFilePath)) {
+            Iterator<JSONObject> iterator = commands.iterator();
+            assertEquals("resetCart", iterator.next().getString("command"));
+            assertThrows(JSONException.class, iterator::hasNext);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testStreamCommandsFromFile_NotAnArray() throws IOException {
+        String testFilePath = "test_stream_not_array.json";
+        Path path = Paths.get(testFilePath);
+        Files.write(path, "{\"command\":\"resetCart\"}".getBytes());
+
+        try (Stream<JSONObject> commands = fileOperations.streamCommandsFromFile(testFilePath)) {
+            assertThrows(JSONException.class, () -> commands.iterator().hasNext());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testStreamCommandsFromFile_MisplacedSeparators() throws IOException {
+        String testFilePath = "test_stream_separators.json";
+        Path path = Paths.get(testFilePath);
+        for (String input : List.of("[{} {}]", "[{},,{}]", "[,{}]", "[{},]")) {
+            Files.write(path, input.getBytes());
+
+            try (Stream<JSONObject> commands = fileOperations.streamCommandsFromFile(testFilePath)) {
+                assertThrows(JSONException.class, () -> commands.forEach(command -> { }), input);
+            } finally {
+                Files.delete(path);
+            }
+        }
+    }
+
     @Test
     public void testWriteResponsesToFile() throws IOException {
         String testFilePath = "test_output.json";
@@ -56,4 +138,48 @@ public class JSONFileOperationsUnitTest {
 
         Files.delete(path);
     }
+
+    @Test
+    public void testOpenResponseWriter_CompactMatchesJSONArray() throws IOException {
+        List<JSONObject> responses = sampleResponses();
+
+        assertEquals(new JSONArray(responses).toString(), writeWithResponseWriter(responses, false));
+        assertEquals("[]", writeWithResponseWriter(List.of(), false));
+    }
+
+    @Test
+    public void testOpenResponseWriter_PrettyMatchesJSONArray() throws IOException {
+        List<JSONObject> responses = sampleResponses();
+
+        assertEquals(new JSONArray(responses).toString(4), writeWithResponseWriter(responses, true));
+        assertEquals(new JSONArray(responses.subList(0, 1)).toString(4), writeWithResponseWriter(responses.subList(0, 1), true));
+        assertEquals(new JSONArray().toString(4), writeWithResponseWriter(List.of(), true));
+    }
+
+    private String writeWithResponseWriter(List<JSONObject> responses, boolean prettyPrint) throws IOException {
+        String testFilePath = "test_writer_output.json";
+        Path path = Paths.get(testFilePath);
+        try {
+            try (ResponseWriter writer = fileOperations.openResponseWriter(testFilePath, prettyPrint)) {
+                for (JSONObject response : responses) {
+                    writer.write(response);
+                }
+            }
+            return Files.readString(path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private List<JSONObject> sampleResponses() {
+        JSONObject cart = new JSONObject()
+                .put("items", new JSONArray().put(new JSONObject().put("itemId", 1).put("vasItems", new JSONArray())))
+                .put("totalAmount", 100)
+                .put("appliedPromotionId", JSONObject.NULL);
+        return List.of(
+                new JSONObject().put("result", true).put("message", "Item added successfully"),
+                new JSONObject().put("result", false).put("message", "Unknown command: \"x\""),
+                new JSONObject().put("result", true).put("message", cart)
+        );
+    }
 }
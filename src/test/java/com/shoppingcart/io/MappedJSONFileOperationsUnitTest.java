@@ -0,0 +1,99 @@
+package com.shoppingcart.io;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedJSONFileOperationsUnitTest {
+
+    private static final String TEST_FILE_PATH = "test_mapped_input.json";
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(Paths.get(TEST_FILE_PATH));
+    }
+
+    @Test
+    public void testStreamCommandsFromFile_MatchesStreamReader() throws IOException {
+        StringBuilder content = new StringBuilder("[");
+        for (int i = 0; i < 50; i++) {
+            if (i > 0) {
+                content.append(",\n");
+            }
+            content.append("{\"command\":\"addItem\",\"payload\":{\"itemId\":").append(i)
+                    .append(",\"categoryId\":1001,\"sellerId\":2001,\"price\":10.5,\"quantity\":1}}");
+        }
+        content.append("]");
+        Files.writeString(Paths.get(TEST_FILE_PATH), content);
+
+        List<String> expected = readAll(new JSONFileOperations());
+
+        assertEquals(50, expected.size());
+        assertEquals(expected, readAll(new MappedJSONFileOperations()));
+        // Windows smaller than a single command force the window to slide and grow
+        assertEquals(expected, readAll(new MappedJSONFileOperations(7)));
+        assertEquals(expected, readAll(new MappedJSONFileOperations(64)));
+    }
+
+    @Test
+    public void testStreamCommandsFromFile_EmptyArray() throws IOException {
+        Files.writeString(Paths.get(TEST_FILE_PATH), "[]");
+
+        assertTrue(readAll(new MappedJSONFileOperations(1)).isEmpty());
+    }
+
+    @Test
+    public void testStreamCommandsFromFile_UnterminatedArray() throws IOException {
+        Path path = Paths.get(TEST_FILE_PATH);
+        Files.writeString(path, "[{\"command\":\"resetCart\"}");
+
+        assertThrows(JSONException.class, () -> readAll(new MappedJSONFileOperations(4)));
+    }
+
+    @Test
+    public void testStreamCommandsFromFile_MisplacedSeparators() throws IOException {
+        for (String input : List.of("[{} {}]", "[{},,{}]", "[,{}]", "[{},]")) {
+            Files.writeString(Paths.get(TEST_FILE_PATH), input);
+
+            assertThrows(JSONException.class, () -> readAll(new MappedJSONFileOperations(4)), input);
+        }
+    }
+
+    @Test
+    public void testStreamCommandsFromFile_CommandLargerThanMaxWindow() throws IOException {
+        Files.writeString(Paths.get(TEST_FILE_PATH), "[{\"command\":\"resetCart\"},{\"command\":\"displayCart\"}]");
+
+        try (FileChannel channel = FileChannel.open(Paths.get(TEST_FILE_PATH), StandardOpenOption.READ)) {
+            MappedJSONArrayCommandReader<JSONObject> reader = new MappedJSONArrayCommandReader<>(channel, 4, 24,
+                    JSONFileOperations.JSON_OBJECT_DECODER);
+
+            assertEquals("resetCart", reader.next().getString("command"));
+            assertThrows(JSONException.class, reader::hasNext);
+        }
+    }
+
+    @Test
+    public void testInvalidWindowSize() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedJSONFileOperations(0));
+        assertThrows(IllegalArgumentException.class, () -> new MappedJSONFileOperations(Integer.MAX_VALUE + 1L));
+    }
+
+    private List<String> readAll(FileOperations fileOperations) throws IOException {
+        try (Stream<JSONObject> commands = fileOperations.streamCommandsFromFile(TEST_FILE_PATH)) {
+            return commands.map(JSONObject::toString).collect(Collectors.toList());
+        }
+    }
+}
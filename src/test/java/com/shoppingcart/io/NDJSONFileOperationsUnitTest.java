@@ -0,0 +1,84 @@
+package com.shoppingcart.io;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NDJSONFileOperationsUnitTest {
+
+    private static final String TEST_FILE_PATH = "test_commands.ndjson";
+
+    private NDJSONFileOperations fileOperations;
+
+    @BeforeEach
+    public void setUp() {
+        fileOperations = new NDJSONFileOperations();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(Paths.get(TEST_FILE_PATH));
+    }
+
+    @Test
+    public void testReadCommandsFromFile() throws IOException {
+        Files.writeString(Paths.get(TEST_FILE_PATH),
+                "{\"command\":\"addItem\",\"payload\":{\"itemId\":1}}\r\n\n  \n{\"command\":\"displayCart\"}");
+
+        List<JSONObject> commands = fileOperations.readCommandsFromFile(TEST_FILE_PATH);
+
+        assertEquals(2, commands.size());
+        assertEquals(1, commands.get(0).getJSONObject("payload").getInt("itemId"));
+        assertEquals("displayCart", commands.get(1).getString("command"));
+    }
+
+    @Test
+    public void testReadCommandsFromFile_MalformedLine() throws IOException {
+        Files.writeString(Paths.get(TEST_FILE_PATH), "{\"command\":\"resetCart\"}\n{\"command\":\n");
+
+        assertThrows(JSONException.class, () -> fileOperations.readCommandsFromFile(TEST_FILE_PATH));
+    }
+
+    @Test
+    public void testWriteResponsesToFile() throws IOException {
+        List<JSONObject> responses = List.of(
+                new JSONObject().put("result", true).put("message", "Item added successfully"),
+                new JSONObject().put("result", false).put("message", "multi\nline")
+        );
+
+        fileOperations.writeResponsesToFile(responses, TEST_FILE_PATH);
+
+        List<String> lines = Files.readAllLines(Paths.get(TEST_FILE_PATH));
+        assertEquals(2, lines.size());
+        assertEquals(responses.get(0).toString(), lines.get(0));
+        assertEquals("multi\nline", new JSONObject(lines.get(1)).getString("message"));
+    }
+
+    @Test
+    public void testOpenResponseWriter_RoundTrip() throws IOException {
+        try (ResponseWriter writer = fileOperations.openResponseWriter(TEST_FILE_PATH, true)) {
+            writer.write(new JSONObject().put("command", "resetCart"));
+            writer.write(new JSONObject().put("command", "displayCart"));
+        }
+
+        List<JSONObject> commands = fileOperations.readCommandsFromFile(TEST_FILE_PATH);
+        assertEquals(2, commands.size());
+        assertEquals("displayCart", commands.get(1).getString("command"));
+    }
+
+    @Test
+    public void testFileFormat_FromPath() {
+        assertEquals(FileFormat.NDJSON, FileFormat.fromPath("replay.ndjson"));
+        assertEquals(FileFormat.NDJSON, FileFormat.fromPath("REPLAY.JSONL"));
+        assertEquals(FileFormat.JSON, FileFormat.fromPath("input.json"));
+    }
+}
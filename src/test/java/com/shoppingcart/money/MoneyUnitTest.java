@@ -0,0 +1,49 @@
+package com.shoppingcart.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoneyUnitTest {
+
+    @Test
+    public void testToCents_ConvertsAnyScaleOfWholeCents() {
+        assertEquals(12345, Money.toCents(new BigDecimal("123.45")));
+        assertEquals(10000, Money.toCents(BigDecimal.valueOf(100)));
+        assertEquals(1050, Money.toCents(new BigDecimal("10.5000")));
+        assertEquals(-5, Money.toCents(new BigDecimal("-0.05")));
+    }
+
+    @Test
+    public void testToCents_RejectsFractionsOfACent() {
+        assertThrows(ArithmeticException.class, () -> Money.toCents(new BigDecimal("0.001")));
+    }
+
+    @Test
+    public void testToAmount_HasTwoDecimals() {
+        assertEquals(new BigDecimal("123.45"), Money.toAmount(12345));
+        assertEquals(new BigDecimal("0.00"), Money.toAmount(0));
+    }
+
+    @Test
+    public void testArithmetic_ThrowsOnOverflow() {
+        assertEquals(300, Money.add(100, 200));
+        assertEquals(-100, Money.subtract(100, 200));
+        assertEquals(1000, Money.times(100, 10));
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.subtract(Long.MIN_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.times(Long.MAX_VALUE / 2, 3));
+    }
+
+    @Test
+    public void testDivide_RoundsAwayFromZero() {
+        assertEquals(3, Money.divideHalfUp(25, 10));
+        assertEquals(2, Money.divideHalfUp(24, 10));
+        assertEquals(-3, Money.divideHalfUp(-25, 10));
+        assertEquals(3, Money.divideUp(21, 10));
+        assertEquals(2, Money.divideUp(20, 10));
+        assertEquals(-3, Money.divideUp(-21, 10));
+    }
+}
@@ -0,0 +1,56 @@
+package com.shoppingcart.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RateUnitTest {
+
+    @Test
+    public void testApply_MatchesBigDecimal() {
+        Random random = new Random(42);
+        String[] rates = {"0.10", "0.05", "0.075", "0.0725", "1", "0"};
+        for (String value : rates) {
+            BigDecimal rateValue = new BigDecimal(value);
+            Rate rate = Rate.of(rateValue);
+            for (int i = 0; i < 1000; i++) {
+                long cents = random.nextLong(-5_000_000_000L, 5_000_000_000L);
+                BigDecimal product = Money.toAmount(cents).multiply(rateValue);
+                assertEquals(Money.toCents(product.setScale(2, RoundingMode.HALF_UP)), rate.applyHalfUp(cents), value + " x " + cents);
+                assertEquals(Money.toCents(product.setScale(2, RoundingMode.UP)), rate.applyUp(cents), value + " x " + cents);
+            }
+        }
+    }
+
+    @Test
+    public void testApplyHalfUp_RoundsHalfCentsUp() {
+        assertEquals(2, Rate.of(new BigDecimal("0.05")).applyHalfUp(30));
+        assertEquals(1, Rate.of(new BigDecimal("0.05")).applyHalfUp(29));
+        assertEquals(2, Rate.of(new BigDecimal("0.05")).applyUp(21));
+    }
+
+    @Test
+    public void testOf_SharesScaleForSummedProducts() {
+        Rate fivePercent = Rate.of(new BigDecimal("0.05"), 3);
+        Rate sevenAndAHalfPercent = Rate.of(new BigDecimal("0.075"), 3);
+        long product = fivePercent.multiply(1010) + sevenAndAHalfPercent.multiply(1010);
+
+        assertEquals(3, fivePercent.scale());
+        assertEquals(126, fivePercent.roundHalfUp(product));
+    }
+
+    @Test
+    public void testOf_RejectsRatesThatDoNotFit() {
+        assertThrows(IllegalArgumentException.class, () -> Rate.of(new BigDecimal("0.075"), 2));
+        assertThrows(IllegalArgumentException.class, () -> Rate.of(new BigDecimal("1E-19")));
+    }
+
+    @Test
+    public void testMultiply_ThrowsOnOverflow() {
+        assertThrows(ArithmeticException.class, () -> Rate.of(new BigDecimal("0.15")).multiply(Long.MAX_VALUE));
+    }
+}
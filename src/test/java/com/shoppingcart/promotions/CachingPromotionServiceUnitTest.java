@@ -0,0 +1,123 @@
+package com.shoppingcart.promotions;
+
+import com.shoppingcart.cart.Cart;
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.models.IItem;
+import com.shoppingcart.testutil.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CachingPromotionServiceUnitTest {
+
+    private IPromotionService mockDelegate;
+    private IPromotionService cartPromotionService;
+    private CachingPromotionService cachingService;
+
+    @BeforeEach
+    public void setUp() {
+        mockDelegate = mock(IPromotionService.class);
+        when(mockDelegate.calculateBestPromotion(any())).thenReturn(new PromotionResult(BigDecimal.TEN, 1));
+        cartPromotionService = mock(IPromotionService.class);
+        when(cartPromotionService.calculateBestPromotion(any())).thenReturn(new PromotionResult(BigDecimal.ZERO, -1));
+        cachingService = new CachingPromotionService(mockDelegate, 64);
+    }
+
+    @Test
+    public void testCalculateBestPromotion_ReusesResultForCartsWithSameContents() {
+        // Given
+        ICart first = cartOf(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 2), TestUtils.createDefaultItem(2, 3003, 2002, 50.0, 1));
+        ICart second = cartOf(TestUtils.createDefaultItem(2, 3003, 2002, 50.0, 1), TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 2));
+
+        // When
+        PromotionResult firstResult = cachingService.calculateBestPromotion(first);
+        PromotionResult secondResult = cachingService.calculateBestPromotion(second);
+
+        // Then
+        assertSame(firstResult, secondResult);
+        verify(mockDelegate, times(1)).calculateBestPromotion(any());
+        assertEquals(1, cachingService.getHitCount());
+        assertEquals(1, cachingService.getMissCount());
+    }
+
+    @Test
+    public void testCalculateBestPromotion_MissesWhenQuantityDiffers() {
+        // Given
+        ICart first = cartOf(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 1));
+        ICart second = cartOf(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 2));
+
+        // When
+        cachingService.calculateBestPromotion(first);
+        cachingService.calculateBestPromotion(second);
+
+        // Then
+        verify(mockDelegate, times(2)).calculateBestPromotion(any());
+        assertEquals(0, cachingService.getHitCount());
+        assertEquals(2, cachingService.getMissCount());
+    }
+
+    @Test
+    public void testCalculateBestPromotion_MissesWhenVasItemsDiffer() {
+        // Given
+        ICart first = cartOf(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 1));
+        ICart second = cartOf(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 1));
+        second.addVasItem(TestUtils.createVasItem(1, 10, 20.0, 1));
+
+        // When
+        cachingService.calculateBestPromotion(first);
+        cachingService.calculateBestPromotion(second);
+
+        // Then
+        verify(mockDelegate, times(2)).calculateBestPromotion(any());
+    }
+
+    @Test
+    public void testCalculateBestPromotion_StaysWithinCapacity() {
+        // Given
+        CachingPromotionService boundedService = new CachingPromotionService(mockDelegate, 16);
+
+        // When
+        for (int i = 1; i <= 100; i++) {
+            boundedService.calculateBestPromotion(cartOf(TestUtils.createDefaultItem(i, 1001, 2001, 100.0, 1)));
+        }
+
+        // Then
+        assertTrue(boundedService.size() <= 16);
+        assertEquals(100, boundedService.getMissCount());
+    }
+
+    @Test
+    public void testCalculateBestPromotionWithNewItem_DelegatesWithoutCaching() {
+        // Given
+        ICart cart = cartOf(TestUtils.createDefaultItem(1, 1001, 2001, 100.0, 1));
+        IItem newItem = TestUtils.createDefaultItem(2, 1001, 2001, 100.0, 1);
+
+        // When
+        cachingService.calculateBestPromotionWithNewItem(cart, newItem);
+        cachingService.calculateBestPromotionsWithNewItems(cart, List.of(newItem));
+
+        // Then
+        verify(mockDelegate).calculateBestPromotionWithNewItem(cart, newItem);
+        verify(mockDelegate).calculateBestPromotionsWithNewItems(cart, List.of(newItem));
+        assertEquals(0, cachingService.getMissCount());
+    }
+
+    @Test
+    public void testConstructor_RejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingPromotionService(mockDelegate, 0));
+    }
+
+    private ICart cartOf(IItem... items) {
+        Cart cart = new Cart(cartPromotionService, false);
+        for (IItem item : items) {
+            cart.addItem(item);
+        }
+        return cart;
+    }
+}
@@ -5,6 +5,7 @@ import com.shoppingcart.config.Config;
 import com.shoppingcart.constants.PromotionType;
 import com.shoppingcart.models.DefaultItem;
 import com.shoppingcart.models.IItem;
+import com.shoppingcart.testutil.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -40,7 +41,7 @@ public class CategoryPromotionUnitTest {
     @Test
     public void shouldReturnFalse_WhenCartHasNoItems() {
         // GIVEN: An empty cart
-        when(mockCart.getItems()).thenReturn(Map.of());
+        TestUtils.stubCartItems(mockCart, Map.of());
 
         // WHEN: Checking if promotion is applicable
         boolean result = categoryPromotion.isApplicable(mockCart);
@@ -53,7 +54,7 @@ public class CategoryPromotionUnitTest {
     public void shouldReturnFalse_WhenItemIsNotInDiscountCategories() {
         // GIVEN: A cart with an item not in the discount categories
         IItem nonDiscountItem = new DefaultItem(1, 0, 1, BigDecimal.valueOf(100), 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, nonDiscountItem));
+        TestUtils.stubCartItems(mockCart, Map.of(1, nonDiscountItem));
 
         // WHEN: Checking if promotion is applicable
         boolean result = categoryPromotion.isApplicable(mockCart);
@@ -67,7 +68,7 @@ public class CategoryPromotionUnitTest {
         // GIVEN: A cart with an item in the discount category
         int discountCategoryId = Config.DISCOUNT_CATEGORIES.keySet().iterator().next();
         IItem discountItem = new DefaultItem(2, discountCategoryId, 1, BigDecimal.valueOf(100), 1);
-        when(mockCart.getItems()).thenReturn(Map.of(2, discountItem));
+        TestUtils.stubCartItems(mockCart, Map.of(2, discountItem));
 
         // WHEN: Checking if promotion is applicable
         boolean result = categoryPromotion.isApplicable(mockCart);
@@ -82,7 +83,7 @@ public class CategoryPromotionUnitTest {
         int discountCategoryId = Config.DISCOUNT_CATEGORIES.keySet().iterator().next();
         BigDecimal price = BigDecimal.valueOf(100);
         IItem discountItem = new DefaultItem(2, discountCategoryId, 1, price, 1);
-        when(mockCart.getItems()).thenReturn(Map.of(2, discountItem));
+        TestUtils.stubCartItems(mockCart, Map.of(2, discountItem));
         when(mockCart.getNonVasTotalPrice()).thenReturn(price);
 
         // WHEN: Calculating the promotion discount
@@ -98,7 +99,7 @@ public class CategoryPromotionUnitTest {
     public void shouldReturnZeroDiscount_WhenNoApplicableItems() {
         // GIVEN: A cart with only non-discountable items
         IItem nonDiscountItem = new DefaultItem(1, 0, 1, BigDecimal.valueOf(100), 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, nonDiscountItem));
+        TestUtils.stubCartItems(mockCart, Map.of(1, nonDiscountItem));
 
         // WHEN: Calculating the promotion discount
         BigDecimal discount = categoryPromotion.calculatePromotion(mockCart);
@@ -111,7 +112,7 @@ public class CategoryPromotionUnitTest {
     public void shouldCalculateDiscountCorrectly_WithNewItem() {
         // GIVEN: A cart with an existing item and a new item eligible for discount
         IItem existingItem = new DefaultItem(1, 1001, 1, BigDecimal.valueOf(100), 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, existingItem));
+        TestUtils.stubCartItems(mockCart, Map.of(1, existingItem));
 
         int discountCategoryId = Config.DISCOUNT_CATEGORIES.keySet().iterator().next();
         BigDecimal priceOfNewItem = BigDecimal.valueOf(200);
@@ -132,7 +133,7 @@ public class CategoryPromotionUnitTest {
         BigDecimal price = BigDecimal.valueOf(100);
         int discountCategoryId = Config.DISCOUNT_CATEGORIES.keySet().iterator().next();
         IItem existingItem = new DefaultItem(1, discountCategoryId, 1, price, 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, existingItem));
+        TestUtils.stubCartItems(mockCart, Map.of(1, existingItem));
 
         // AND: A new item that is not in the discount category
         IItem newItem = new DefaultItem(2, 0, 1, BigDecimal.valueOf(200), 1);
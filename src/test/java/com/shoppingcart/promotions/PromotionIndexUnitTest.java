@@ -0,0 +1,81 @@
+package com.shoppingcart.promotions;
+
+import com.shoppingcart.cart.ICart;
+import com.shoppingcart.models.IItem;
+import com.shoppingcart.testutil.TestUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PromotionIndexUnitTest {
+
+    private ICart mockCart;
+    private PromotionIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        mockCart = mock(ICart.class);
+        index = new PromotionIndex(List.of(
+                scoped(PromotionScope.sellers(Set.of(2001))),
+                scoped(PromotionScope.GLOBAL),
+                scoped(PromotionScope.categories(Set.of(3003))),
+                scoped(PromotionScope.of(Set.of(2002), Set.of(3003))),
+                scoped(PromotionScope.sellers(Set.of(2002)))));
+    }
+
+    @Test
+    public void testCandidates_OnlyGlobalForUnrelatedCart() {
+        when(mockCart.getSellerIds()).thenReturn(Set.of(9999));
+        when(mockCart.getCategoryIds()).thenReturn(Set.of(1001));
+
+        assertArrayEquals(new int[]{1}, candidates(mockCart, null));
+    }
+
+    @Test
+    public void testCandidates_MatchingSellersAndCategoriesInRegistrationOrder() {
+        when(mockCart.getSellerIds()).thenReturn(Set.of(2002));
+        when(mockCart.getCategoryIds()).thenReturn(Set.of(3003));
+
+        assertArrayEquals(new int[]{1, 2, 3, 4}, candidates(mockCart, null));
+    }
+
+    @Test
+    public void testCandidates_IncludeNewItem() {
+        when(mockCart.getSellerIds()).thenReturn(Set.of());
+        when(mockCart.getCategoryIds()).thenReturn(Set.of());
+        IItem newItem = TestUtils.createDefaultItem(1, 1001, 2001, 10.0, 1);
+
+        assertArrayEquals(new int[]{0, 1}, candidates(mockCart, newItem));
+    }
+
+    @Test
+    public void testCandidates_OverwritesStaleMarks() {
+        when(mockCart.getSellerIds()).thenReturn(Set.of(2001));
+        when(mockCart.getCategoryIds()).thenReturn(Set.of());
+        int[] positions = new int[5];
+        long[] marks = {-1L};
+
+        int count = index.candidates(mockCart, null, positions, marks);
+
+        assertArrayEquals(new int[]{0, 1}, Arrays.copyOf(positions, count));
+    }
+
+    private int[] candidates(ICart cart, IItem newItem) {
+        int[] positions = new int[5];
+        int count = index.candidates(cart, newItem, positions, new long[index.markWords()]);
+        return Arrays.copyOf(positions, count);
+    }
+
+    private static IPromotion scoped(PromotionScope scope) {
+        IPromotion promotion = mock(IPromotion.class);
+        when(promotion.getScope()).thenReturn(scope);
+        return promotion;
+    }
+}
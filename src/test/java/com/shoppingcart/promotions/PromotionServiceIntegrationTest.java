@@ -13,6 +13,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -162,4 +163,29 @@ public class PromotionServiceIntegrationTest {
         assertEquals(0, resultWithNewItem.discount().compareTo(BigDecimal.valueOf(22.0)), "Total discount should be 22.0 from CategoryPromotion with new item.");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testBestPromotionsWithNewItems_MatchSingleEvaluation() {
+        cart.addItem(TestUtils.createDefaultItem(1, 3003, 2001, 200.0, 1));
+        cart.addItem(TestUtils.createDefaultItem(2, 1001, 2001, 400.0, 2));
+
+        List<IItem> candidates = List.of(
+                TestUtils.createDefaultItem(3, 3003, 2001, 40.0, 1),
+                TestUtils.createDefaultItem(4, 1001, 2002, 5000.0, 1),
+                TestUtils.createDefaultItem(1, 3003, 2001, 200.0, 1),
+                TestUtils.createDigitalItem(5, 2001, 10.0, 1));
+
+        List<PromotionResult> results = promotionService.calculateBestPromotionsWithNewItems(cart, candidates);
+
+        assertEquals(candidates.size(), results.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            assertEquals(promotionService.calculateBestPromotionWithNewItem(cart, candidates.get(i)), results.get(i));
+        }
+    }
+
+    @Test
+    public void testBestPromotionsWithNewItems_NullCandidate() {
+        List<IItem> candidates = new ArrayList<>();
+        candidates.add(null);
+        assertThrows(ItemValidationException.class, () -> promotionService.calculateBestPromotionsWithNewItems(cart, candidates));
+    }
+}
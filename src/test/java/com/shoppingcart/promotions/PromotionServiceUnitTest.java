@@ -7,8 +7,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,12 +23,22 @@ public class PromotionServiceUnitTest {
     private IPromotion mockTotalPricePromotion;
     private IPromotion mockSameSellerPromotion;
 
+    private static final BigDecimal UNBOUNDED = BigDecimal.valueOf(Long.MAX_VALUE);
+
     @BeforeEach
     public void setUp() {
         mockCategoryPromotion = mock(IPromotion.class);
         mockTotalPricePromotion = mock(IPromotion.class);
         mockSameSellerPromotion = mock(IPromotion.class);
 
+        for (IPromotion promotion : List.of(mockCategoryPromotion, mockTotalPricePromotion, mockSameSellerPromotion)) {
+            when(promotion.getUpperBound(any())).thenReturn(UNBOUNDED);
+            when(promotion.getUpperBoundWithNewItem(any(), any())).thenReturn(UNBOUNDED);
+            when(promotion.isApplicable(any())).thenReturn(true);
+            when(promotion.getCombinabilityGroups()).thenReturn(IPromotion.EXCLUSIVE);
+            when(promotion.getScope()).thenReturn(PromotionScope.GLOBAL);
+        }
+
         promotionService = new PromotionService(List.of(mockCategoryPromotion, mockTotalPricePromotion, mockSameSellerPromotion));
         mockCart = mock(ICart.class);
     }
@@ -195,4 +208,204 @@ public class PromotionServiceUnitTest {
         assertEquals(1, resultWithNewItem.promotionId(), "TotalPricePromotion should be the best promotion, as the new item triggers it.");
         assertEquals(0, resultWithNewItem.discount().compareTo(BigDecimal.valueOf(500.0)), "Total discount should be 500.00 with new Item from TotalPricePromotion as the best promotion.");
     }
+
+    @Test
+    public void testCalculateBestPromotion_SkipsPromotionsThatCannotWin() {
+        // Given
+        when(mockCart.getItems()).thenReturn(Map.of());
+        when(mockTotalPricePromotion.getUpperBound(mockCart)).thenReturn(BigDecimal.valueOf(250.0));
+        when(mockTotalPricePromotion.calculatePromotion(mockCart)).thenReturn(BigDecimal.valueOf(250.0));
+        when(mockTotalPricePromotion.getId()).thenReturn(1);
+        when(mockCategoryPromotion.getUpperBound(mockCart)).thenReturn(BigDecimal.valueOf(100.0));
+        when(mockSameSellerPromotion.isApplicable(mockCart)).thenReturn(false);
+
+        // When
+        PromotionResult result = promotionService.calculateBestPromotion(mockCart);
+
+        // Then
+        assertEquals(1, result.promotionId());
+        assertEquals(0, result.discount().compareTo(BigDecimal.valueOf(250.0)));
+        verify(mockCategoryPromotion, never()).calculatePromotion(mockCart);
+        verify(mockSameSellerPromotion, never()).calculatePromotion(mockCart);
+    }
+
+    @Test
+    public void testCalculateBestPromotion_ReusesExactUpperBound() {
+        // Given: The winning promotion's bound is its discount
+        when(mockCart.getItems()).thenReturn(Map.of());
+        when(mockTotalPricePromotion.getUpperBound(mockCart)).thenReturn(new BigDecimal("250.00"));
+        when(mockTotalPricePromotion.isUpperBoundExact()).thenReturn(true);
+        when(mockTotalPricePromotion.getId()).thenReturn(1);
+        when(mockCategoryPromotion.getUpperBound(mockCart)).thenReturn(BigDecimal.valueOf(100.0));
+        when(mockSameSellerPromotion.getUpperBound(mockCart)).thenReturn(BigDecimal.valueOf(100.0));
+
+        // When
+        PromotionResult result = promotionService.calculateBestPromotion(mockCart);
+
+        // Then
+        assertEquals(new PromotionResult(new BigDecimal("250.00"), 1), result);
+        verify(mockTotalPricePromotion, never()).calculatePromotion(mockCart);
+    }
+
+    @Test
+    public void testCalculateBestPromotion_TieGoesToFirstRegistered() {
+        // Given
+        when(mockCart.getItems()).thenReturn(Map.of());
+        when(mockCategoryPromotion.getUpperBound(mockCart)).thenReturn(BigDecimal.valueOf(300.0));
+        when(mockCategoryPromotion.calculatePromotion(mockCart)).thenReturn(BigDecimal.valueOf(200.0));
+        when(mockCategoryPromotion.getId()).thenReturn(2);
+        when(mockTotalPricePromotion.getUpperBound(mockCart)).thenReturn(BigDecimal.valueOf(50.0));
+        when(mockSameSellerPromotion.getUpperBound(mockCart)).thenReturn(BigDecimal.valueOf(400.0));
+        when(mockSameSellerPromotion.calculatePromotion(mockCart)).thenReturn(BigDecimal.valueOf(200.0));
+        when(mockSameSellerPromotion.getId()).thenReturn(3);
+
+        // When
+        PromotionResult result = promotionService.calculateBestPromotion(mockCart);
+
+        // Then
+        assertEquals(2, result.promotionId(), "An equal discount should go to the promotion registered first.");
+        verify(mockTotalPricePromotion, never()).calculatePromotion(mockCart);
+    }
+
+    @Test
+    public void testCalculateBestPromotionsWithNewItems() {
+        // Given
+        IItem cheapItem = mock(IItem.class);
+        IItem expensiveItem = mock(IItem.class);
+        when(mockCart.getItems()).thenReturn(Map.of());
+        when(mockCategoryPromotion.calculatePromotionWithNewItem(eq(mockCart), any())).thenReturn(BigDecimal.ZERO);
+        when(mockSameSellerPromotion.calculatePromotionWithNewItem(eq(mockCart), any())).thenReturn(BigDecimal.ZERO);
+        when(mockTotalPricePromotion.calculatePromotionWithNewItem(mockCart, cheapItem)).thenReturn(BigDecimal.ZERO);
+        when(mockTotalPricePromotion.calculatePromotionWithNewItem(mockCart, expensiveItem)).thenReturn(BigDecimal.valueOf(500));
+        when(mockTotalPricePromotion.getId()).thenReturn(1);
+
+        // When
+        List<PromotionResult> results = promotionService.calculateBestPromotionsWithNewItems(mockCart, List.of(cheapItem, expensiveItem));
+
+        // Then
+        assertEquals(List.of(new PromotionResult(new BigDecimal("0.00"), -1), new PromotionResult(new BigDecimal("500.00"), 1)), results);
+        verify(mockCart, times(1)).getItems();
+    }
+
+    @Test
+    public void testCalculateBestPromotion_ParallelMatchesSequential() {
+        // Given: A large catalog with repeated discounts, so ties are frequent
+        when(mockCart.getItems()).thenReturn(Map.of());
+        Random random = new Random(7);
+        List<IPromotion> catalog = new ArrayList<>();
+        for (int id = 0; id < 500; id++) {
+            catalog.add(new FixedPromotion(id, BigDecimal.valueOf(random.nextInt(40))));
+        }
+        PromotionService sequential = new PromotionService(catalog, 0);
+        PromotionService parallel = new PromotionService(catalog, 1);
+
+        // When
+        PromotionResult sequentialResult = sequential.calculateBestPromotion(mockCart);
+        PromotionResult parallelResult = parallel.calculateBestPromotion(mockCart);
+
+        // Then: The first promotion registered with the largest discount wins in both modes
+        assertEquals(sequentialResult, parallelResult);
+        int expectedId = catalog.stream().filter(p -> p.calculatePromotion(mockCart).intValue() == 39).findFirst().orElseThrow().getId();
+        assertEquals(expectedId, parallelResult.promotionId());
+        assertEquals(sequential.calculateBestPromotionWithNewItem(mockCart, mock(IItem.class)),
+                parallel.calculateBestPromotionWithNewItem(mockCart, mock(IItem.class)));
+    }
+
+    @Test
+    public void testCalculateBestPromotion_StacksCombinablePromotions() {
+        // Given: Groups 1 and 2 can stack, 3 conflicts with both, and an exclusive promotion beats each alone
+        when(mockCart.getItems()).thenReturn(Map.of());
+        PromotionService stackingService = new PromotionService(List.of(
+                new FixedPromotion(1, BigDecimal.valueOf(30), 0b001),
+                new FixedPromotion(2, BigDecimal.valueOf(40), 0b010),
+                new FixedPromotion(3, BigDecimal.valueOf(60), 0b011),
+                new FixedPromotion(4, BigDecimal.valueOf(65)),
+                new FixedPromotion(5, BigDecimal.valueOf(5), 0b100)), 0);
+
+        // When
+        PromotionResult result = stackingService.calculateBestPromotion(mockCart);
+
+        // Then: 30 + 40 + 5 beats the exclusive 65 and the conflicting 60 + 5
+        assertEquals(new BigDecimal("75.00"), result.discount());
+        assertEquals(List.of(1, 2, 5), result.promotionIds());
+        assertEquals(2, result.promotionId());
+    }
+
+    @Test
+    public void testCalculateBestPromotion_StackingTieGoesToFirstRegistered() {
+        // Given
+        when(mockCart.getItems()).thenReturn(Map.of());
+        PromotionService stackingService = new PromotionService(List.of(
+                new FixedPromotion(1, BigDecimal.valueOf(50)),
+                new FixedPromotion(2, BigDecimal.valueOf(20), 0b01),
+                new FixedPromotion(3, BigDecimal.valueOf(30), 0b10)), 0);
+
+        // When
+        PromotionResult result = stackingService.calculateBestPromotion(mockCart);
+
+        // Then
+        assertEquals(List.of(1), result.promotionIds());
+        assertEquals(new BigDecimal("50.00"), result.discount());
+    }
+
+    @Test
+    public void testCalculateBestPromotion_SkipsPromotionsScopedToOtherSellers() {
+        // Given
+        when(mockCart.getItems()).thenReturn(Map.of());
+        when(mockCart.getSellerIds()).thenReturn(Set.of(2001));
+        when(mockSameSellerPromotion.getScope()).thenReturn(PromotionScope.sellers(Set.of(2002)));
+        when(mockSameSellerPromotion.calculatePromotion(mockCart)).thenReturn(BigDecimal.valueOf(100));
+        when(mockCategoryPromotion.calculatePromotion(mockCart)).thenReturn(BigDecimal.ZERO);
+        when(mockTotalPricePromotion.calculatePromotion(mockCart)).thenReturn(BigDecimal.ZERO);
+        PromotionService scopedService = new PromotionService(List.of(mockCategoryPromotion, mockTotalPricePromotion, mockSameSellerPromotion));
+
+        // When
+        PromotionResult result = scopedService.calculateBestPromotion(mockCart);
+
+        // Then
+        assertEquals(-1, result.promotionId());
+        verify(mockSameSellerPromotion, never()).getUpperBound(mockCart);
+        verify(mockSameSellerPromotion, never()).calculatePromotion(mockCart);
+    }
+
+    private record FixedPromotion(int id, BigDecimal discount, long groups) implements IPromotion {
+
+        FixedPromotion(int id, BigDecimal discount) {
+            this(id, discount, EXCLUSIVE);
+        }
+
+        @Override
+        public long getCombinabilityGroups() {
+            return groups;
+        }
+        @Override
+        public boolean isApplicable(ICart cart) {
+            return discount.signum() > 0;
+        }
+
+        @Override
+        public BigDecimal calculatePromotion(ICart cart) {
+            return discount;
+        }
+
+        @Override
+        public BigDecimal calculatePromotionWithNewItem(ICart cart, IItem newItem) {
+            return discount;
+        }
+
+        @Override
+        public BigDecimal getUpperBound(ICart cart) {
+            return discount;
+        }
+
+        @Override
+        public BigDecimal getUpperBoundWithNewItem(ICart cart, IItem newItem) {
+            return discount;
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package com.shoppingcart.promotions;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PromotionStackSearchUnitTest {
+
+    @Test
+    public void testSolve_MatchesExhaustiveSearch() {
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            int count = 1 + random.nextInt(12);
+            BigDecimal[] discounts = new BigDecimal[count];
+            long[] groups = new long[count];
+            for (int i = 0; i < count; i++) {
+                discounts[i] = BigDecimal.valueOf(1 + random.nextInt(50), 1);
+                groups[i] = random.nextInt(8) == 0 ? 0L : random.nextInt(5) == 0 ? IPromotion.EXCLUSIVE : random.nextInt(1, 64);
+            }
+
+            List<Integer> chosen = new PromotionStackSearch(discounts, groups).solve();
+
+            long taken = 0L;
+            BigDecimal total = BigDecimal.ZERO;
+            for (int i : chosen) {
+                assertEquals(0L, taken & groups[i], "Chosen promotions must not share a group");
+                taken |= groups[i];
+                total = total.add(discounts[i]);
+            }
+            assertEquals(0, exhaustiveBest(discounts, groups).compareTo(total));
+        }
+    }
+
+    @Test
+    public void testSolve_AlwaysTakesUngroupedPromotions() {
+        BigDecimal[] discounts = {BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ONE};
+        long[] groups = {0L, IPromotion.EXCLUSIVE, 0L};
+
+        assertEquals(List.of(0, 1, 2), new PromotionStackSearch(discounts, groups).solve());
+    }
+
+    private static BigDecimal exhaustiveBest(BigDecimal[] discounts, long[] groups) {
+        BigDecimal best = BigDecimal.ZERO;
+        for (int subset = 0; subset < 1 << discounts.length; subset++) {
+            long taken = 0L;
+            BigDecimal total = BigDecimal.ZERO;
+            boolean compatible = true;
+            for (int i = 0; i < discounts.length && compatible; i++) {
+                if ((subset & 1 << i) != 0) {
+                    compatible = (taken & groups[i]) == 0;
+                    taken |= groups[i];
+                    total = total.add(discounts[i]);
+                }
+            }
+            if (compatible && total.compareTo(best) > 0) {
+                best = total;
+            }
+        }
+        return best;
+    }
+}
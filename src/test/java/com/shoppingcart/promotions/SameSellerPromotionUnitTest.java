@@ -39,7 +39,7 @@ public class SameSellerPromotionUnitTest {
         // Given
         IItem item1 = new DefaultItem(1, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100), 1);
         IItem item2 = new DefaultItem(2, Category.ELECTRONICS.getId(), 2001, BigDecimal.valueOf(200), 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, item1, 2, item2));
+        TestUtils.stubCartItems(mockCart, Map.of(1, item1, 2, item2));
 
         // When
         boolean result = sameSellerPromotion.isApplicable(mockCart);
@@ -54,7 +54,7 @@ public class SameSellerPromotionUnitTest {
         // Given
         IItem item1 = new DefaultItem(1, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100), 1);
         IItem item2 = new DefaultItem(2, Category.ELECTRONICS.getId(), 2002, BigDecimal.valueOf(200), 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, item1, 2, item2));
+        TestUtils.stubCartItems(mockCart, Map.of(1, item1, 2, item2));
 
         // When
         boolean result = sameSellerPromotion.isApplicable(mockCart);
@@ -67,7 +67,7 @@ public class SameSellerPromotionUnitTest {
     public void testIsApplicable_SingleItem() {
         // Given
         IItem item = new DefaultItem(1, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100), 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, item));
+        TestUtils.stubCartItems(mockCart, Map.of(1, item));
 
         // When
         boolean result = sameSellerPromotion.isApplicable(mockCart);
@@ -81,9 +81,9 @@ public class SameSellerPromotionUnitTest {
         // Given
         IItem item1 = new DefaultItem(1, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100), 1);
         IItem item2 = new DefaultItem(2, Category.ELECTRONICS.getId(), 2001, BigDecimal.valueOf(200), 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, item1, 2, item2));
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(300));
-        when(mockCart.getNonVasTotalPrice()).thenReturn(BigDecimal.valueOf(300));
+        TestUtils.stubCartItems(mockCart, Map.of(1, item1, 2, item2));
+        when(mockCart.getTotalPriceCents()).thenReturn(30000L);
+        when(mockCart.getNonVasTotalPriceCents()).thenReturn(30000L);
 
         // When
         BigDecimal discount = sameSellerPromotion.calculatePromotion(mockCart);
@@ -98,9 +98,9 @@ public class SameSellerPromotionUnitTest {
         // Given
         IItem item1 = new DefaultItem(1, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100), 1);
         IItem item2 = new DefaultItem(2, Category.ELECTRONICS.getId(), 2002, BigDecimal.valueOf(200), 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, item1, 2, item2));
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(300));
-        when(mockCart.getNonVasTotalPrice()).thenReturn(BigDecimal.valueOf(300));
+        TestUtils.stubCartItems(mockCart, Map.of(1, item1, 2, item2));
+        when(mockCart.getTotalPriceCents()).thenReturn(30000L);
+        when(mockCart.getNonVasTotalPriceCents()).thenReturn(30000L);
 
         // When
         BigDecimal discount = sameSellerPromotion.calculatePromotion(mockCart);
@@ -113,9 +113,9 @@ public class SameSellerPromotionUnitTest {
     public void testCalculatePromotion_SingleItem() {
         // Given
         IItem item = new DefaultItem(1, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100), 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, item));
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(100));
-        when(mockCart.getNonVasTotalPrice()).thenReturn(BigDecimal.valueOf(100));
+        TestUtils.stubCartItems(mockCart, Map.of(1, item));
+        when(mockCart.getTotalPriceCents()).thenReturn(10000L);
+        when(mockCart.getNonVasTotalPriceCents()).thenReturn(10000L);
 
         // When
         BigDecimal discount = sameSellerPromotion.calculatePromotion(mockCart);
@@ -129,9 +129,9 @@ public class SameSellerPromotionUnitTest {
         // Given
         IItem item1 = TestUtils.createDefaultItem(1, Category.ELECTRONICS.getId(), 2001, 100.0, 1);
         IItem item2 = TestUtils.createDefaultItem(2, 1002, 2001, 200.0, 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, item1, 2, item2));
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(320));
-        when(mockCart.getNonVasTotalPrice()).thenReturn(BigDecimal.valueOf(300));
+        TestUtils.stubCartItems(mockCart, Map.of(1, item1, 2, item2));
+        when(mockCart.getTotalPriceCents()).thenReturn(32000L);
+        when(mockCart.getNonVasTotalPriceCents()).thenReturn(30000L);
 
         // When
         BigDecimal discount = sameSellerPromotion.calculatePromotion(mockCart);
@@ -147,9 +147,9 @@ public class SameSellerPromotionUnitTest {
         // Given
         IItem item1 = TestUtils.createDefaultItem(1, Category.FURNITURE.getId(), 2001, 100.0, 1);
         IItem item2 = TestUtils.createDefaultItem(2, 2002, 2001, 200.0, 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, item1, 2, item2));
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(300));
-        when(mockCart.getNonVasTotalPrice()).thenReturn(BigDecimal.valueOf(300));
+        TestUtils.stubCartItems(mockCart, Map.of(1, item1, 2, item2));
+        when(mockCart.getTotalPriceCents()).thenReturn(30000L);
+        when(mockCart.getNonVasTotalPriceCents()).thenReturn(30000L);
 
         // When
         BigDecimal discount = sameSellerPromotion.calculatePromotionWithNewItem(mockCart, TestUtils.createDefaultItem(3, 2001, 2001, 100.0, 1));
@@ -163,9 +163,9 @@ public class SameSellerPromotionUnitTest {
         // Given
         IItem item1 = TestUtils.createDefaultItem(1, Category.FURNITURE.getId(), 2001, 100.0, 1);
         IItem item2 = TestUtils.createDefaultItem(2, 2002, 2001, 200.0, 1);
-        when(mockCart.getItems()).thenReturn(Map.of(1, item1, 2, item2));
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(300));
-        when(mockCart.getNonVasTotalPrice()).thenReturn(BigDecimal.valueOf(300));
+        TestUtils.stubCartItems(mockCart, Map.of(1, item1, 2, item2));
+        when(mockCart.getTotalPriceCents()).thenReturn(30000L);
+        when(mockCart.getNonVasTotalPriceCents()).thenReturn(30000L);
 
         // When
         BigDecimal discount = sameSellerPromotion.calculatePromotionWithNewItem(mockCart, TestUtils.createDefaultItem(3, 2002, 2002, 100.0, 1));
@@ -173,4 +173,21 @@ public class SameSellerPromotionUnitTest {
         // Then
         assertEquals(BigDecimal.ZERO, discount);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testUpperBound_CoversRoundedDiscount() {
+        // Given
+        IItem item1 = TestUtils.createDefaultItem(1, Category.FURNITURE.getId(), 2001, 0.15, 1);
+        IItem item2 = TestUtils.createDefaultItem(2, Category.FURNITURE.getId(), 2001, 0.0, 1);
+        TestUtils.stubCartItems(mockCart, Map.of(1, item1, 2, item2));
+        when(mockCart.getNonVasTotalPriceCents()).thenReturn(15L);
+
+        // When
+        BigDecimal discount = sameSellerPromotion.calculatePromotion(mockCart);
+        BigDecimal bound = sameSellerPromotion.getUpperBound(mockCart);
+
+        // Then
+        assertEquals(new BigDecimal("0.02"), discount);
+        assertTrue(bound.compareTo(discount) >= 0);
+    }
+}
@@ -1,9 +1,9 @@
 package com.shoppingcart.promotions;
 
 import com.shoppingcart.cart.ICart;
+import com.shoppingcart.config.Config;
 import com.shoppingcart.constants.Category;
 import com.shoppingcart.constants.PromotionType;
-import com.shoppingcart.constants.TotalPricePromotionRange;
 import com.shoppingcart.models.DefaultItem;
 import com.shoppingcart.testutil.TestUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,7 +34,7 @@ public class TotalPricePromotionUnitTest {
     @Test
     public void testIsApplicable_InRange() {
         // Given
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(5000));
+        when(mockCart.getTotalPriceCents()).thenReturn(500000L);
 
         // When
         boolean result = totalPricePromotion.isApplicable(mockCart);
@@ -46,7 +46,7 @@ public class TotalPricePromotionUnitTest {
     @Test
     public void testIsApplicable_OutOfRange() {
         // Given
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(100));
+        when(mockCart.getTotalPriceCents()).thenReturn(10000L);
 
         // When
         boolean result = totalPricePromotion.isApplicable(mockCart);
@@ -58,7 +58,7 @@ public class TotalPricePromotionUnitTest {
     @Test
     public void testCalculatePromotion_OutOfRange() {
         // Given
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(100));
+        when(mockCart.getTotalPriceCents()).thenReturn(10000L);
 
         // When
         BigDecimal discount = totalPricePromotion.calculatePromotion(mockCart);
@@ -70,7 +70,7 @@ public class TotalPricePromotionUnitTest {
     @Test
     public void testCalculatePromotion_LowRange() {
         // Given
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(1000));
+        when(mockCart.getTotalPriceCents()).thenReturn(100000L);
 
         // When
         BigDecimal discount = totalPricePromotion.calculatePromotion(mockCart);
@@ -82,7 +82,7 @@ public class TotalPricePromotionUnitTest {
     @Test
     public void testCalculatePromotion_MidRange() {
         // Given
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(9000));
+        when(mockCart.getTotalPriceCents()).thenReturn(900000L);
 
         // When
         BigDecimal discount = totalPricePromotion.calculatePromotion(mockCart);
@@ -94,7 +94,7 @@ public class TotalPricePromotionUnitTest {
     @Test
     public void testCalculatePromotion_HighRange() {
         // Given
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(30000));
+        when(mockCart.getTotalPriceCents()).thenReturn(3000000L);
 
         // When
         BigDecimal discount = totalPricePromotion.calculatePromotion(mockCart);
@@ -106,7 +106,7 @@ public class TotalPricePromotionUnitTest {
     @Test
     public void testCalculatePromotion_TopRange() {
         // Given
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(60000));
+        when(mockCart.getTotalPriceCents()).thenReturn(6000000L);
 
         // When
         BigDecimal discount = totalPricePromotion.calculatePromotion(mockCart);
@@ -118,7 +118,7 @@ public class TotalPricePromotionUnitTest {
     @Test
     public void testCalculatePromotionWithNewItemOutOfRange() {
         // Given
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(100));
+        when(mockCart.getTotalPriceCents()).thenReturn(10000L);
         DefaultItem newItem = (DefaultItem) TestUtils.createDefaultItem(2, Category.FURNITURE.getId(), 2001, 200, 1);
 
         // When
@@ -132,15 +132,15 @@ public class TotalPricePromotionUnitTest {
     @Test
     public void testCalculatePromotionWithNewItem() {
         // Given
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.valueOf(4000));
+        when(mockCart.getTotalPriceCents()).thenReturn(400000L);
 
         DefaultItem newItem = (DefaultItem) TestUtils.createDefaultItem(2, Category.FURNITURE.getId(), 2001, 1000, 1);
-        BigDecimal newTotalPrice = mockCart.getTotalPrice().add(newItem.getPrice());
+        long newTotalPriceCents = mockCart.getTotalPriceCents() + newItem.getPriceCents();
 
         // When
         BigDecimal discountWithNewItem = totalPricePromotion.calculatePromotionWithNewItem(mockCart, newItem);
 
         // Then
-        assertEquals(TotalPricePromotionRange.getRange(newTotalPrice).getDiscount(), discountWithNewItem);
+        assertEquals(TotalPriceTiers.of(Config.TOTAL_PRICE_PROMOTION_TIERS).discountFor(newTotalPriceCents), discountWithNewItem);
     }
 }
@@ -0,0 +1,41 @@
+package com.shoppingcart.promotions;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TotalPriceTiersUnitTest {
+
+    private final TotalPriceTiers tiers = TotalPriceTiers.of(Map.of(
+            new BigDecimal("5000"), new BigDecimal("500"),
+            new BigDecimal("500"), new BigDecimal("250"),
+            new BigDecimal("50000"), new BigDecimal("2000")));
+
+    @Test
+    public void testIndexOf_BelowFirstTier() {
+        assertEquals(-1, tiers.indexOf(new BigDecimal("499.99")));
+        assertEquals(BigDecimal.ZERO, tiers.discountFor(new BigDecimal("499.999")));
+    }
+
+    @Test
+    public void testIndexOf_TierBoundaries() {
+        assertEquals(0, tiers.indexOf(new BigDecimal("500")));
+        assertEquals(0, tiers.indexOf(new BigDecimal("4999.999")));
+        assertEquals(1, tiers.indexOf(new BigDecimal("5000.00")));
+        assertEquals(2, tiers.indexOf(new BigDecimal("1E+12")));
+    }
+
+    @Test
+    public void testDiscountFor_PreScaled() {
+        assertEquals(new BigDecimal("500.00"), tiers.discountFor(new BigDecimal("7500")));
+        assertEquals(new BigDecimal("2000.00"), tiers.discountFor(new BigDecimal("50000")));
+    }
+
+    @Test
+    public void testOf_RejectsFractionalCentThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> TotalPriceTiers.of(Map.of(new BigDecimal("0.001"), BigDecimal.ONE)));
+    }
+}
@@ -0,0 +1,102 @@
+package com.shoppingcart.responses;
+
+import com.shoppingcart.exceptions.ErrorMessages;
+import com.shoppingcart.exceptions.ItemValidationException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseEncoderUnitTest {
+
+    @Test
+    void shouldQuoteStringsLikeOrgJson() {
+        String[] values = {"", "plain", "quote \" and \\ backslash", "</script>", "tab\tnew\nline\r\f\b",
+                "\u0001\u001f", "\u0085 \u2028 \u20ac", "caf\u00e9", "emoji \ud83d\ude00"};
+        for (String value : values) {
+            ResponseEncoder encoder = new ResponseEncoder();
+            encoder.writeString(value);
+            assertEquals(JSONObject.quote(value), decode(encoder), value);
+        }
+    }
+
+    @Test
+    void shouldWriteNumbersLikeOrgJson() {
+        ResponseEncoder encoder = new ResponseEncoder();
+        encoder.writeNumber(new BigDecimal("9500.00"));
+        encoder.writeByte(',');
+        encoder.writeNumber(new BigDecimal("0.00"));
+        encoder.writeByte(',');
+        encoder.writeNumber(new BigDecimal("150.50"));
+        encoder.writeByte(',');
+        encoder.writeInt(-42);
+        encoder.writeByte(',');
+        encoder.writeInt(Integer.MIN_VALUE);
+        encoder.writeByte(',');
+        encoder.writeInt(0);
+
+        assertEquals("9500,0,150.5,-42," + Integer.MIN_VALUE + ",0", decode(encoder));
+    }
+
+    @Test
+    void shouldWriteCentsLikeTwoDecimalNumbers() {
+        long[] values = {0, 5, 50, 99, 100, 15050, 950000, -5, -15050, 123456789, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long cents : values) {
+            ResponseEncoder encoder = new ResponseEncoder();
+            encoder.writeCents(cents);
+            assertEquals(JSONObject.numberToString(BigDecimal.valueOf(cents, 2)), decode(encoder), Long.toString(cents));
+        }
+    }
+
+    @Test
+    void shouldWriteMessageResponseLikeJsonObject() {
+        MessageResponse response = new MessageResponse(false, "Unknown command: \"x\"");
+
+        ResponseEncoder encoder = new ResponseEncoder();
+        PreEncodedResponse.of(response).encodeTo(encoder);
+
+        assertEquals(response.toJSON().toString(), decode(encoder));
+    }
+
+    @Test
+    void shouldWriteBatchResponseLikeJsonObject() {
+        BatchResponse response = new BatchResponse(false, List.of(
+                new BatchResponse.ItemResponse(1, new MessageResponse(true, "Item added successfully")),
+                new BatchResponse.ItemResponse(2, new RejectionResponse("Item validation failed: ",
+                        new ItemValidationException(ErrorMessages.INVALID_QUANTITY)))));
+
+        ResponseEncoder encoder = new ResponseEncoder();
+        response.encodeTo(encoder);
+
+        assertEquals(response.toJSON().toString(), decode(encoder));
+    }
+
+    @Test
+    void shouldRejectPreEncodedBatchEntries() {
+        PreEncodedResponse response = PreEncodedResponse.of(new MessageResponse(true, "Item added successfully"));
+
+        assertThrows(IllegalArgumentException.class, () -> new BatchResponse.ItemResponse(1, response));
+    }
+
+    @Test
+    void shouldDrainIntoChannelWhenBufferFills() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ResponseEncoder encoder = new ResponseEncoder(Channels.newChannel(output), 8);
+        String message = "a message much longer than the buffer";
+
+        encoder.writeMessageResponse(true, message);
+        encoder.flush();
+
+        assertEquals(new MessageResponse(true, message).toJSON().toString(), output.toString(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(ResponseEncoder encoder) {
+        return new String(encoder.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
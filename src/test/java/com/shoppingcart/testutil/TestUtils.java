@@ -1,5 +1,6 @@
 package com.shoppingcart.testutil;
 
+import com.shoppingcart.cart.ICart;
 import com.shoppingcart.config.Config;
 import com.shoppingcart.constants.Category;
 import com.shoppingcart.models.DefaultItem;
@@ -8,6 +9,9 @@ import com.shoppingcart.models.IItem;
 import com.shoppingcart.models.VasItem;
 
 import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
 
 
 public class TestUtils {
@@ -28,4 +32,27 @@ public class TestUtils {
         int discountCategoryId = Config.VALID_CATEGORIES_FOR_VAS.iterator().next();
         return (DefaultItem) TestUtils.createDefaultItem(itemId, discountCategoryId, 2001, price, 1);
     }
-}
\ No newline at end of file
+
+    /**
+     * Stubs a mocked cart's items together with the seller and category aggregates derived from them.
+     */
+    public static void stubCartItems(ICart cart, Map<Integer, IItem> items) {
+        when(cart.getItems()).thenReturn(items);
+        when(cart.getUniqueItemCount()).thenReturn(items.size());
+        when(cart.getDistinctSellerCount()).thenReturn((int) items.values().stream().mapToInt(IItem::getSellerId).distinct().count());
+        for (IItem item : items.values()) {
+            when(cart.getSellerItemCount(item.getSellerId()))
+                    .thenReturn((int) items.values().stream().filter(i -> i.getSellerId() == item.getSellerId()).count());
+            when(cart.getCategoryItemCount(item.getCategoryId()))
+                    .thenReturn((int) items.values().stream().filter(i -> i.getCategoryId() == item.getCategoryId()).count());
+            when(cart.getCategorySubtotal(item.getCategoryId())).thenReturn(items.values().stream()
+                    .filter(i -> i.getCategoryId() == item.getCategoryId())
+                    .map(i -> i.getPrice().multiply(BigDecimal.valueOf(i.getQuantity())))
+                    .reduce(BigDecimal.ZERO, BigDecimal::add));
+            when(cart.getCategorySubtotalCents(item.getCategoryId())).thenReturn(items.values().stream()
+                    .filter(i -> i.getCategoryId() == item.getCategoryId())
+                    .mapToLong(i -> i.getPriceCents() * i.getQuantity())
+                    .sum());
+        }
+    }
+}
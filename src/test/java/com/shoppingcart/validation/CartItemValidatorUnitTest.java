@@ -2,6 +2,7 @@ package com.shoppingcart.validation;
 
 import com.shoppingcart.cart.ICart;
 import com.shoppingcart.config.Config;
+import com.shoppingcart.exceptions.ErrorMessages;
 import com.shoppingcart.constants.Category;
 import com.shoppingcart.exceptions.ItemNotFoundException;
 import com.shoppingcart.exceptions.ItemValidationException;
@@ -12,7 +13,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,7 +31,7 @@ public class CartItemValidatorUnitTest {
         mockCart = mock(ICart.class);
 
         // Default behavior for mockCart
-        when(mockCart.getTotalPrice()).thenReturn(BigDecimal.ZERO);
+        when(mockCart.getTotalPriceCents()).thenReturn(0L);
         when(mockCart.getTotalDiscount()).thenReturn(BigDecimal.ZERO);
         when(mockCart.getItems()).thenReturn(Map.of());
     }
@@ -157,7 +160,7 @@ public class CartItemValidatorUnitTest {
         // Given
         BigDecimal itemPrice = BigDecimal.valueOf(10000.0);
         IItem item2 = new DefaultItem(2, Category.FURNITURE.getId(), 2001, itemPrice, 1);
-        when(mockCart.getTotalPrice()).thenReturn(Config.MAX_TOTAL_AMOUNT);
+        when(mockCart.getTotalPriceCents()).thenReturn(Config.MAX_TOTAL_AMOUNT_CENTS);
         when(mockCart.calculateBestPromotionWithTempItem(item2)).thenReturn(new PromotionResult(BigDecimal.valueOf(5000.00), 1));
 
         // When & Then
@@ -169,7 +172,7 @@ public class CartItemValidatorUnitTest {
         // Given
         BigDecimal itemPrice = BigDecimal.valueOf(10000.0);
         IItem item2 = new DefaultItem(2, Category.FURNITURE.getId(), 2001, itemPrice, 1);
-        when(mockCart.getTotalPrice()).thenReturn(Config.MAX_TOTAL_AMOUNT);
+        when(mockCart.getTotalPriceCents()).thenReturn(Config.MAX_TOTAL_AMOUNT_CENTS);
         when(mockCart.calculateBestPromotionWithTempItem(item2)).thenReturn(new PromotionResult(BigDecimal.valueOf(15000.00), 1));
 
         // When & Then
@@ -200,4 +203,91 @@ public class CartItemValidatorUnitTest {
         // When & Then
         assertThrows(ItemValidationException.class, () -> validator.validateItem(item, mockCart), "Adding this item causes unique item count to exceed the allowed limit.");
     }
+
+    @Test
+    public void testValidateItem_ReturnsWhatIfResultForNewSingleUnit() {
+        // Given
+        IItem item = new DefaultItem(2, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(10000.0), 1);
+        PromotionResult whatIf = new PromotionResult(BigDecimal.valueOf(15000.00), 1);
+        when(mockCart.getTotalPriceCents()).thenReturn(Config.MAX_TOTAL_AMOUNT_CENTS);
+        when(mockCart.calculateBestPromotionWithTempItem(item)).thenReturn(whatIf);
+
+        // When
+        ItemValidationOutcome outcome = validator.validateItem(item, mockCart);
+
+        // Then
+        assertSame(whatIf, outcome.promotionResult());
+    }
+
+    @Test
+    public void testValidateItem_DoesNotReturnWhatIfResultForSeveralUnits() {
+        // Given
+        IItem item = new DefaultItem(2, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(5000.0), 2);
+        when(mockCart.getTotalPriceCents()).thenReturn(Config.MAX_TOTAL_AMOUNT_CENTS);
+        when(mockCart.calculateBestPromotionWithTempItem(item)).thenReturn(new PromotionResult(BigDecimal.valueOf(15000.00), 1));
+
+        // When
+        ItemValidationOutcome outcome = validator.validateItem(item, mockCart);
+
+        // Then
+        assertNull(outcome.promotionResult());
+    }
+
+    @Test
+    public void testValidateItem_SkipsWhatIfBelowLimit() {
+        // Given
+        IItem item = new DefaultItem(1, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100.0), 1);
+
+        // When
+        ItemValidationOutcome outcome = validator.validateItem(item, mockCart);
+
+        // Then
+        assertSame(ItemValidationOutcome.NONE, outcome);
+        verify(mockCart, never()).calculateBestPromotionWithTempItem(any());
+    }
+
+    @Test
+    public void testValidateItems_CountsEarlierBatchItems() {
+        // Given
+        when(mockCart.getUniqueItemCount()).thenReturn(Config.MAX_UNIQUE_ITEMS - 1);
+        List<IItem> items = List.of(
+                new DefaultItem(1, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100.0), 1),
+                new DefaultItem(1, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100.0), 1),
+                new DefaultItem(2, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100.0), 1));
+
+        // When
+        Map<Integer, ItemValidationException> failures = validator.validateItems(items, mockCart);
+
+        // Then
+        assertEquals(Set.of(2), failures.keySet());
+        assertEquals(ErrorMessages.UNIQUE_ITEM_LIMIT_EXCEEDED, failures.get(2).getError());
+    }
+
+    @Test
+    public void testValidateItems_SkipsRejectedItemsInRunningTotals() {
+        // Given
+        when(mockCart.getTotalItemCount()).thenReturn(Config.MAX_TOTAL_ITEMS - 2);
+        List<IItem> items = List.of(
+                new DefaultItem(1, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100.0), 3),
+                new DefaultItem(2, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100.0), 2),
+                new DefaultItem(3, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100.0), 1));
+
+        // When
+        Map<Integer, ItemValidationException> failures = validator.validateItems(items, mockCart);
+
+        // Then
+        assertEquals(Set.of(0, 2), failures.keySet());
+        assertEquals(ErrorMessages.TOTAL_ITEM_LIMIT_EXCEEDED, failures.get(0).getError());
+    }
+
+    @Test
+    public void testValidateQuantityChange_TotalQuantityInvalid() {
+        // Given
+        IItem item = new DefaultItem(1, Category.FURNITURE.getId(), 2001, BigDecimal.valueOf(100.0), 2);
+        when(mockCart.getTotalItemCount()).thenReturn(Config.MAX_TOTAL_ITEMS);
+
+        // When & Then
+        assertThrows(ItemValidationException.class, () -> validator.validateQuantityChange(item, 3, mockCart));
+        assertDoesNotThrow(() -> validator.validateQuantityChange(item, 1, mockCart));
+    }
 }